@@ -97,6 +97,7 @@ abstract class AbstractGenerator implements Generator {
   boolean generatePojosAsKotlinDataClasses = true;
   boolean generatePojosEqualsAndHashCode = false;
   boolean generatePojosToString = true;
+  boolean generateRecordMappers = false;
   boolean generateImmutablePojos = false;
   boolean generateSerializablePojos = true;
   boolean generateInterfaces = false;
@@ -154,6 +155,9 @@ abstract class AbstractGenerator implements Generator {
   String generateNewline = "\n";
   String generateIndentation;
   int generatePrintMarginForBlockComment = 80;
+  int generateParallelism = 1;
+  boolean generateIncremental = false;
+  String configurationFingerprint = "";
 
   protected GeneratorStrategyWrapper strategy;
   protected String targetEncoding = "UTF-8";
@@ -1104,6 +1108,16 @@ abstract class AbstractGenerator implements Generator {
     this.generatePojosToString = generatePojosToString;
   }
 
+  @Override
+  public boolean generateRecordMappers() {
+    return generateRecordMappers;
+  }
+
+  @Override
+  public void setGenerateRecordMappers(boolean generateRecordMappers) {
+    this.generateRecordMappers = generateRecordMappers;
+  }
+
   @Override
   @Deprecated
   public String fullyQualifiedTypes() {
@@ -1189,6 +1203,36 @@ abstract class AbstractGenerator implements Generator {
     this.generatePrintMarginForBlockComment = printMarginForBlockComment;
   }
 
+  @Override
+  public int generateParallelism() {
+    return generateParallelism;
+  }
+
+  @Override
+  public void setGenerateParallelism(int parallelism) {
+    this.generateParallelism = parallelism;
+  }
+
+  @Override
+  public boolean generateIncremental() {
+    return generateIncremental;
+  }
+
+  @Override
+  public void setGenerateIncremental(boolean incremental) {
+    this.generateIncremental = incremental;
+  }
+
+  @Override
+  public String getConfigurationFingerprint() {
+    return configurationFingerprint;
+  }
+
+  @Override
+  public void setConfigurationFingerprint(String fingerprint) {
+    this.configurationFingerprint = fingerprint;
+  }
+
   // ----
 
   @Override
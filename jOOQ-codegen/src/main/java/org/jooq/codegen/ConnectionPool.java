@@ -0,0 +1,110 @@
+/* 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.codegen;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import org.jooq.ConnectionProvider;
+import org.jooq.exception.DataAccessException;
+import org.jooq.tools.JooqLogger;
+
+/**
+ * A small pool of the additional connections that a {@link org.jooq.meta.Database} uses to load
+ * meta data concurrently.
+ *
+ * <p>Connections are opened on demand, reused once released, and closed by {@link #close()}.
+ *
+ * @author Lukas Eder
+ */
+final class ConnectionPool implements ConnectionProvider, AutoCloseable {
+
+  private static final JooqLogger log = JooqLogger.getLogger(ConnectionPool.class);
+
+  private final ConnectionFactory factory;
+
+  private final Deque<Connection> idle;
+
+  private final List<Connection> all;
+
+  ConnectionPool(ConnectionFactory factory) {
+    this.factory = factory;
+    this.idle = new ArrayDeque<>();
+    this.all = new ArrayList<>();
+  }
+
+  @Override
+  public final synchronized Connection acquire() {
+    if (!idle.isEmpty()) return idle.pop();
+
+    try {
+      Connection connection = factory.connect();
+      all.add(connection);
+      return connection;
+    } catch (SQLException e) {
+      throw new DataAccessException("Error while opening additional connection", e);
+    }
+  }
+
+  @Override
+  public final synchronized void release(Connection connection) {
+    idle.push(connection);
+  }
+
+  @Override
+  public final synchronized void close() {
+    for (Connection connection : all) {
+      try {
+        connection.close();
+      } catch (SQLException e) {
+        log.warn("Error while closing additional connection", e);
+      }
+    }
+
+    idle.clear();
+    all.clear();
+  }
+
+  @FunctionalInterface
+  interface ConnectionFactory {
+    Connection connect() throws SQLException;
+  }
+}
@@ -63,10 +63,12 @@ import java.util.Locale;
 import java.util.Objects;
 import java.util.Properties;
 import javax.sql.DataSource;
+import org.jooq.ConnectionProvider;
 import org.jooq.Constants;
 import org.jooq.DSLContext;
 import org.jooq.Log.Level;
 import org.jooq.impl.DSL;
+import org.jooq.impl.DataSourceConnectionProvider;
 import org.jooq.meta.CatalogVersionProvider;
 import org.jooq.meta.Database;
 import org.jooq.meta.Databases;
@@ -117,6 +119,8 @@ public class GenerationTool {
   private DSLContext ctx;
   private Boolean autoCommit;
   private boolean close;
+  private ConnectionProvider connectionProvider;
+  private ConnectionPool connectionPool;
 
   /**
    * The class loader to use with this generation tool.
@@ -309,6 +313,7 @@ public class GenerationTool {
 
         if (dataSource != null) {
           setConnection(dataSource.getConnection());
+          connectionProvider = new DataSourceConnectionProvider(dataSource);
         } else {
           String url = System.getProperty("jooq.codegen.jdbc.url");
 
@@ -340,7 +345,20 @@ public class GenerationTool {
               if (!properties.containsKey("password"))
                 properties.put("password", defaultString(j.getPassword()));
 
-              setConnection(driver.newInstance().connect(defaultString(j.getUrl()), properties));
+              Driver instance = driver.newInstance();
+              String jdbcUrl = defaultString(j.getUrl());
+              Boolean jdbcAutoCommit = j.isAutoCommit();
+              setConnection(instance.connect(jdbcUrl, properties));
+
+              // The additional connections for concurrent meta data loading are opened lazily
+              connectionProvider =
+                  connectionPool =
+                      new ConnectionPool(
+                          () -> {
+                            Connection c = instance.connect(jdbcUrl, properties);
+                            if (jdbcAutoCommit != null) c.setAutoCommit(jdbcAutoCommit);
+                            return c;
+                          });
             } catch (Exception e) {
               if (databaseName != null)
                 if (databaseName.contains("DDLDatabase")
@@ -558,6 +576,15 @@ public class GenerationTool {
       database.setEmbeddableDomains(d.getEmbeddableDomains());
       database.setLogSlowQueriesAfterSeconds(defaultIfNull(d.getLogSlowQueriesAfterSeconds(), 5));
       database.setLogSlowResultsAfterSeconds(defaultIfNull(d.getLogSlowResultsAfterSeconds(), 5));
+      database.setParallelism(defaultIfNull(d.getParallelism(), 1));
+
+      if (database.getParallelism() > 1) {
+        if (connectionProvider != null) database.setConnectionProvider(connectionProvider);
+        else
+          log.info(
+              "Meta data parallelism",
+              "Meta data is loaded serially, as no additional connections can be opened. Provide a DataSource or <jdbc/> configuration instead of a Connection.");
+      }
 
       if (d.getRegexFlags() != null) {
         database.setRegexFlags(d.getRegexFlags());
@@ -824,6 +851,8 @@ public class GenerationTool {
         generator.setGeneratePojosEqualsAndHashCode(g.getGenerate().isPojosEqualsAndHashCode());
       if (g.getGenerate().isPojosToString() != null)
         generator.setGeneratePojosToString(g.getGenerate().isPojosToString());
+      if (g.getGenerate().isRecordMappers() != null)
+        generator.setGenerateRecordMappers(g.getGenerate().isRecordMappers());
       if (g.getGenerate().getFullyQualifiedTypes() != null)
         generator.setGenerateFullyQualifiedTypes(g.getGenerate().getFullyQualifiedTypes());
       if (g.getGenerate().isJavaTimeTypes() != null)
@@ -839,6 +868,10 @@ public class GenerationTool {
       if (g.getGenerate().getPrintMarginForBlockComment() != null)
         generator.setGeneratePrintMarginForBlockComment(
             g.getGenerate().getPrintMarginForBlockComment());
+      if (g.getGenerate().getParallelism() != null)
+        generator.setGenerateParallelism(g.getGenerate().getParallelism());
+      if (g.getGenerate().isIncremental() != null)
+        generator.setGenerateIncremental(g.getGenerate().isIncremental());
 
       if (!isBlank(d.getSchemaVersionProvider())) generator.setUseSchemaVersionProvider(true);
       if (!isBlank(d.getCatalogVersionProvider())) generator.setUseCatalogVersionProvider(true);
@@ -853,6 +886,10 @@ public class GenerationTool {
       strategy.setJavaBeansGettersAndSetters(generator.generateJavaBeansGettersAndSetters());
 
       verifyVersions();
+
+      // Any change to the configuration or to jOOQ invalidates incrementally generated code
+      generator.setConfigurationFingerprint(
+          Manifest.fingerprint(Constants.VERSION, generator.getClass().getName(), g.toString()));
       generator.generate(database);
 
       logUnused("forced type", "forced types", database.getUnusedForcedTypes());
@@ -879,6 +916,8 @@ public class GenerationTool {
           log.error("Error while closing database", e);
         }
 
+      if (connectionPool != null) connectionPool.close();
+
       // Close connection only if it was created by the GenerationTool
       if (connection != null) {
         if (close) {
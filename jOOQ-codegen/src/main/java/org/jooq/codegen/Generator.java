@@ -653,6 +653,18 @@ public interface Generator {
   /** Whether a <code>toString()</code> method should be generated on POJOs */
   void setGeneratePojosToString(boolean generatePojosToString);
 
+  /**
+   * Whether a <code>RecordMapperProvider</code> and <code>RecordUnmapperProvider</code> should be
+   * generated, mapping between table records and POJOs without reflection
+   */
+  boolean generateRecordMappers();
+
+  /**
+   * Whether a <code>RecordMapperProvider</code> and <code>RecordUnmapperProvider</code> should be
+   * generated, mapping between table records and POJOs without reflection
+   */
+  void setGenerateRecordMappers(boolean generateRecordMappers);
+
   /**
    * A regular expression matching all the types in generated code that should be fully qualified.
    *
@@ -725,6 +737,24 @@ public interface Generator {
   /** The print margin for Javadoc and other block comments to be used in generated code. */
   void setGeneratePrintMarginForBlockComment(int printMarginForBlockComment);
 
+  /** The number of threads used to generate per-table artifacts concurrently. */
+  int generateParallelism();
+
+  /** The number of threads used to generate per-table artifacts concurrently. */
+  void setGenerateParallelism(int parallelism);
+
+  /** Whether unchanged per-table artifacts should be skipped. */
+  boolean generateIncremental();
+
+  /** Whether unchanged per-table artifacts should be skipped. */
+  void setGenerateIncremental(boolean incremental);
+
+  /** A fingerprint of the code generation configuration, used for incremental generation. */
+  String getConfigurationFingerprint();
+
+  /** A fingerprint of the code generation configuration, used for incremental generation. */
+  void setConfigurationFingerprint(String fingerprint);
+
   /** The target directory */
   String getTargetDirectory();
 
@@ -73,7 +73,12 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.TimeZone;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
 import java.util.function.BiConsumer;
+import java.util.function.Consumer;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
@@ -95,6 +100,11 @@ import org.jooq.Name;
 import org.jooq.OrderField;
 import org.jooq.Parameter;
 import org.jooq.Record;
+import org.jooq.RecordMapper;
+import org.jooq.RecordMapperProvider;
+import org.jooq.RecordType;
+import org.jooq.RecordUnmapper;
+import org.jooq.RecordUnmapperProvider;
 import org.jooq.Result;
 import org.jooq.Row;
 import org.jooq.SQLDialect;
@@ -114,6 +124,8 @@ import org.jooq.impl.AbstractRoutine;
 import org.jooq.impl.CatalogImpl;
 import org.jooq.impl.DAOImpl;
 import org.jooq.impl.DSL;
+import org.jooq.impl.DefaultRecordMapperProvider;
+import org.jooq.impl.DefaultRecordUnmapperProvider;
 import org.jooq.impl.DefaultDataType;
 import org.jooq.impl.EmbeddableRecordImpl;
 import org.jooq.impl.Internal;
@@ -233,6 +245,12 @@ public class JavaGenerator extends AbstractGenerator {
   /** The cached catalog version numbers. */
   private Map<CatalogDefinition, String> catalogVersions;
 
+  /** The pool generating per-table artifacts concurrently, if so configured. */
+  private ForkJoinPool pool;
+
+  /** The table fingerprints of the previous run, if incremental generation is configured. */
+  private Manifest manifest;
+
   /** All files affected by this generator run. */
   private Set<File> affectedFiles = new LinkedHashSet<>();
 
@@ -399,6 +417,7 @@ public class JavaGenerator extends AbstractGenerator {
                 : ""));
     log.info("  interfaces (immutable)", generateInterfaces());
     log.info("  javadoc", generateJavadoc());
+    log.info("  parallelism", generateParallelism());
     log.info("  keys", generateKeys());
     log.info("  links", generateLinks());
     log.info(
@@ -411,6 +430,7 @@ public class JavaGenerator extends AbstractGenerator {
                     : "")));
     log.info("  pojos (immutable)", generateImmutablePojos());
     log.info("  queues", generateQueues());
+    log.info("  record mappers", generateRecordMappers());
     log.info(
         "  records",
         generateRecords()
@@ -458,12 +478,38 @@ public class JavaGenerator extends AbstractGenerator {
     log.info("Generating catalogs", "Total: " + database.getCatalogs().size());
 
     StopWatch w = new StopWatch();
-    for (CatalogDefinition catalog : database.getCatalogs()) {
-      try {
-        if (generateCatalogIfEmpty(catalog)) generate(catalog);
-        else log.info("Excluding empty catalog", catalog);
-      } catch (Exception e) {
-        throw new GeneratorException("Error generating code for catalog " + catalog, e);
+    if (generateParallelism() > 1) {
+      prepareTables();
+      pool = new ForkJoinPool(generateParallelism());
+    }
+
+    if (generateIncremental()) {
+      manifest =
+          new Manifest(
+              new File(getStrategy().getFileRoot(), Manifest.FILE_NAME),
+              getConfigurationFingerprint());
+
+      for (SchemaDefinition schema : database.getSchemata())
+        for (TableDefinition table : database.getTables(schema)) manifest.add(table);
+    }
+
+    try {
+      for (CatalogDefinition catalog : database.getCatalogs()) {
+        try {
+          if (generateCatalogIfEmpty(catalog)) generate(catalog);
+          else log.info("Excluding empty catalog", catalog);
+        } catch (Exception e) {
+          throw new GeneratorException("Error generating code for catalog " + catalog, e);
+        }
+      }
+
+      if (manifest != null) manifest.write();
+    } finally {
+      manifest = null;
+
+      if (pool != null) {
+        pool.shutdown();
+        pool = null;
       }
     }
 
@@ -638,6 +684,9 @@ public class JavaGenerator extends AbstractGenerator {
 
     if (generateDaos() && database.getTables(schema).size() > 0) generateDaos(schema);
 
+    if (generateRecordMappers() && generatePojos() && database.getTables(schema).size() > 0)
+      generateRecordMappers(schema);
+
     if (generateGlobalTableReferences() && database.getTables(schema).size() > 0)
       generateTableReferences(schema);
 
@@ -683,6 +732,120 @@ public class JavaGenerator extends AbstractGenerator {
     log.info("");
   }
 
+  /**
+   * Load everything that the per-table generation methods read lazily from the database, before
+   * they are called concurrently. The meta model is read only once it has been loaded.
+   */
+  private void prepareTables() {
+    database.getConfiguredForcedTypes();
+    database.getRecordVersionFields();
+    database.getRecordTimestampFields();
+    database.getSources();
+    database.getEmbeddables();
+
+    for (SchemaDefinition schema : database.getSchemata()) {
+      database.getSequences(schema);
+      database.getIdentities(schema);
+      database.getUniqueKeys(schema);
+      database.getPrimaryKeys(schema);
+      database.getKeys(schema);
+      database.getForeignKeys(schema);
+      database.getCheckConstraints(schema);
+      database.getIndexes(schema);
+      database.getEmbeddables(schema);
+      database.getEnums(schema);
+      database.getDomains(schema);
+      database.getArrays(schema);
+      database.getUDTs(schema);
+      database.getRoutines(schema);
+      database.getPackages(schema);
+
+      for (TableDefinition table : database.getTables(schema)) {
+        table.getSource();
+        table.getPrimaryKey();
+        table.getUniqueKeys();
+        table.getKeys();
+        table.getForeignKeys();
+        table.getCheckConstraints();
+        table.getIndexes();
+        table.getIdentity();
+        table.getEmbeddables();
+        table.getReferencedEmbeddables();
+        table.getParentTable();
+        table.getChildTables();
+        if (table.isTableValuedFunction()) table.getParameters();
+
+        for (ColumnDefinition column : table.getColumns()) {
+          column.getType();
+          column.getDomain();
+          column.getPrimaryKey();
+          column.getUniqueKeys();
+          column.getKeys();
+          column.getForeignKeys();
+          column.isIdentity();
+        }
+      }
+    }
+  }
+
+  /**
+   * Run an action for each table of a schema, concurrently if {@link #generateParallelism()}
+   * allows for it. Each action writes its own files only, so the order of execution doesn't affect
+   * the generated code.
+   *
+   * <p>If {@link #generateIncremental()} is active, tables whose fingerprint hasn't changed since
+   * the previous run are skipped, and their previously generated file is kept.
+   */
+  private void forEachTable(
+      SchemaDefinition schema, Mode mode, String object, Consumer<TableDefinition> action) {
+    List<TableDefinition> tables = new ArrayList<>();
+    int skipped = 0;
+
+    for (TableDefinition table : database.getTables(schema)) {
+      File file;
+
+      if (manifest != null && manifest.unchanged(table) && (file = getFile(table, mode)).exists()) {
+        affectedFiles.add(file);
+        skipped++;
+      } else tables.add(table);
+    }
+
+    if (skipped > 0) log.info("Skipping unchanged " + object + "s", skipped);
+
+    Consumer<TableDefinition> generate =
+        table -> {
+          try {
+            action.accept(table);
+          } catch (Exception e) {
+            log.error("Error while generating " + object + " " + table, e);
+
+            if (manifest != null) manifest.invalidate(table);
+          }
+        };
+
+    if (pool == null || tables.size() < 2) {
+      for (TableDefinition table : tables) generate.accept(table);
+    } else {
+      List<Callable<Void>> tasks = new ArrayList<>(tables.size());
+
+      for (TableDefinition table : tables)
+        tasks.add(
+            () -> {
+              generate.accept(table);
+              return null;
+            });
+
+      try {
+        for (Future<Void> future : pool.invokeAll(tasks)) future.get();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new GeneratorException("Interrupted while generating tables of " + schema, e);
+      } catch (ExecutionException e) {
+        throw new GeneratorException("Error generating tables of " + schema, e.getCause());
+      }
+    }
+  }
+
   private class AvoidAmbiguousClassesFilter implements Database.Filter {
 
     private Map<String, String> included = new HashMap<>();
@@ -1225,13 +1388,7 @@ public class JavaGenerator extends AbstractGenerator {
   protected void generateRecords(SchemaDefinition schema) {
     log.info("Generating table records");
 
-    for (TableDefinition table : database.getTables(schema)) {
-      try {
-        generateRecord(table);
-      } catch (Exception e) {
-        log.error("Error while generating table record " + table, e);
-      }
-    }
+    forEachTable(schema, Mode.RECORD, "table record", table -> generateRecord(table));
 
     watch.splitInfo("Table records generated");
   }
@@ -2537,13 +2694,7 @@ public class JavaGenerator extends AbstractGenerator {
   protected void generateInterfaces(SchemaDefinition schema) {
     log.info("Generating table interfaces");
 
-    for (TableDefinition table : database.getTables(schema)) {
-      try {
-        generateInterface(table);
-      } catch (Exception e) {
-        log.error("Error while generating table interface " + table, e);
-      }
-    }
+    forEachTable(schema, Mode.INTERFACE, "table interface", this::generateInterface);
 
     watch.splitInfo("Table interfaces generated");
   }
@@ -3767,13 +3918,7 @@ public class JavaGenerator extends AbstractGenerator {
   protected void generateDaos(SchemaDefinition schema) {
     log.info("Generating DAOs");
 
-    for (TableDefinition table : database.getTables(schema)) {
-      try {
-        generateDao(table);
-      } catch (Exception e) {
-        log.error("Error while generating table DAO " + table, e);
-      }
-    }
+    forEachTable(schema, Mode.DAO, "table DAO", table -> generateDao(table));
 
     watch.splitInfo("Table DAOs generated");
   }
@@ -4114,17 +4259,237 @@ public class JavaGenerator extends AbstractGenerator {
     else printClassJavadoc(out, "The table <code>" + table.getQualifiedInputName() + "</code>.");
   }
 
-  protected void generatePojos(SchemaDefinition schema) {
-    log.info("Generating table POJOs");
+  protected void generateRecordMappers(SchemaDefinition schema) {
+    if (scala || kotlin) {
+      log.info("Skipping record mappers, which are supported only in Java");
+      return;
+    }
 
-    for (TableDefinition table : database.getTables(schema)) {
+    List<TableDefinition> tables = new ArrayList<>();
+    for (TableDefinition table : database.getTables(schema))
+      if (isRecordMappable(table)) tables.add(table);
+
+    if (tables.isEmpty()) {
+      log.info("Skipping empty record mappers");
+      return;
+    }
+
+    log.info("Generating record mappers");
+    JavaWriter out =
+        newJavaWriter(
+            new File(
+                getStrategy().getGlobalReferencesFile(schema, TableDefinition.class).getParentFile(),
+                "RecordMappers.java"));
+    printGlobalReferencesPackage(out, schema, TableDefinition.class);
+    printClassJavadoc(
+        out,
+        "Reflection free record mappers and unmappers between the tables in "
+            + schemaNameOrDefault(schema)
+            + " and their POJOs. Register an instance both as the RecordMapperProvider and as the"
+            + " RecordUnmapperProvider of a Configuration. Other types, and record types that do not"
+            + " match a table, are delegated to the reflection based providers.");
+    printClassAnnotations(out, schema, Mode.DEFAULT);
+
+    out.println(
+        "%sclass RecordMappers implements %s, %s {",
+        visibility(),
+        RecordMapperProvider.class,
+        RecordUnmapperProvider.class);
+    out.println();
+    out.println("private final %s mapperDelegate;", RecordMapperProvider.class);
+    out.println("private final %s unmapperDelegate;", RecordUnmapperProvider.class);
+
+    out.javadoc("Create a provider that falls back to the default, reflection based providers.");
+    out.println("%sRecordMappers() {", visibility());
+    out.println(
+        "this(new %s(), new %s());",
+        DefaultRecordMapperProvider.class,
+        DefaultRecordUnmapperProvider.class);
+    out.println("}");
+
+    out.javadoc("Create a provider that falls back to the argument providers.");
+    out.println(
+        "%sRecordMappers(%s mapperDelegate, %s unmapperDelegate) {",
+        visibility(),
+        RecordMapperProvider.class,
+        RecordUnmapperProvider.class);
+    out.println("this.mapperDelegate = mapperDelegate;");
+    out.println("this.unmapperDelegate = unmapperDelegate;");
+    out.println("}");
+
+    out.println();
+    out.override();
+    out.println(
+        "%s<R extends %s, E> %s<R, E> provide(%s<R> recordType, Class<? extends E> type) {",
+        visibility(),
+        Record.class,
+        RecordMapper.class,
+        RecordType.class);
+    out.println("%s<R, ?> result = null;", RecordMapper.class);
+    out.println();
+
+    boolean first = true;
+    for (TableDefinition table : tables) {
+      out.println(
+          first ? "if (type == %s.class)" : "else if (type == %s.class)",
+          out.ref(getStrategy().getFullJavaClassName(table, Mode.POJO)));
+      out.println("result = map%s(recordType);", getStrategy().getJavaClassName(table, Mode.POJO));
+      first = false;
+    }
+
+    out.println();
+    out.println(
+        "return result != null ? (%s<R, E>) result : mapperDelegate.provide(recordType, type);",
+        RecordMapper.class);
+    out.println("}");
+
+    out.println();
+    out.override();
+    out.println(
+        "%s<E, R extends %s> %s<E, R> provide(Class<? extends E> type, %s<R> recordType) {",
+        visibility(),
+        Record.class,
+        RecordUnmapper.class,
+        RecordType.class);
+    out.println("%s<?, R> result = null;", RecordUnmapper.class);
+
+    if (generateRecords()) {
+      out.println();
+
+      first = true;
+      for (TableDefinition table : tables) {
+        out.println(
+            first ? "if (type == %s.class)" : "else if (type == %s.class)",
+            out.ref(getStrategy().getFullJavaClassName(table, Mode.POJO)));
+        out.println(
+            "result = unmap%s(recordType);", getStrategy().getJavaClassName(table, Mode.POJO));
+        first = false;
+      }
+    }
+
+    out.println();
+    out.println(
+        "return result != null ? (%s<E, R>) result : unmapperDelegate.provide(type, recordType);",
+        RecordUnmapper.class);
+    out.println("}");
+
+    for (TableDefinition table : tables) {
       try {
-        generatePojo(table);
+        generateRecordMapper(table, out);
+
+        if (generateRecords()) generateRecordUnmapper(table, out);
       } catch (Exception e) {
-        log.error("Error while generating table POJO " + table, e);
+        log.error("Error while generating record mapper " + table, e);
       }
     }
 
+    generateRecordMappersClassFooter(schema, out);
+    out.println("}");
+    closeJavaWriter(out);
+
+    watch.splitInfo("Record mappers generated");
+  }
+
+  /**
+   * Whether a table's POJO can be mapped from and to its record without reflection. This excludes
+   * tables whose POJOs lack a constructor accepting all columns, tables with embeddables, and
+   * tables with UDT or array columns, whose POJO types differ from their record types.
+   */
+  private boolean isRecordMappable(TableDefinition table) {
+    List<ColumnDefinition> columns = table.getColumns();
+
+    if (columns.isEmpty() || columns.size() > 255 || !table.getReferencedEmbeddables().isEmpty())
+      return false;
+
+    for (ColumnDefinition column : columns) {
+      DataTypeDefinition type = column.getType();
+
+      if (type.isUDT() || type.isArray()) return false;
+    }
+
+    return true;
+  }
+
+  /** Subclasses may override this method to provide their own record mappers. */
+  protected void generateRecordMapper(TableDefinition table, JavaWriter out) {
+    final String pojoClass = out.ref(getStrategy().getFullJavaClassName(table, Mode.POJO));
+    final String tableId = out.ref(getStrategy().getFullJavaIdentifier(table), 2);
+
+    out.println();
+    out.println(
+        "private static <R extends %s> %s<R, %s> map%s(%s<R> recordType) {",
+        Record.class,
+        RecordMapper.class,
+        pojoClass,
+        getStrategy().getJavaClassName(table, Mode.POJO),
+        RecordType.class);
+    out.println("int[] i = %s.fieldIndexes(recordType, %s.fields());", Internal.class, tableId);
+    out.println();
+    out.println("if (i == null)");
+    out.println("return null;");
+    out.println();
+    out.println("return r -> new %s(", pojoClass);
+
+    List<ColumnDefinition> columns = table.getColumns();
+    for (int i = 0; i < columns.size(); i++) {
+      ColumnDefinition column = columns.get(i);
+
+      out.println(
+          "i[%s] < 0 ? null : (%s) r.get(i[%s])%s",
+          i,
+          out.ref(getJavaType(column.getType(resolver(out, Mode.POJO)), out, Mode.POJO)),
+          i,
+          i < columns.size() - 1 ? "," : "");
+    }
+
+    out.println(");");
+    out.println("}");
+  }
+
+  /** Subclasses may override this method to provide their own record unmappers. */
+  protected void generateRecordUnmapper(TableDefinition table, JavaWriter out) {
+    final String pojoClass = out.ref(getStrategy().getFullJavaClassName(table, Mode.POJO));
+    final String recordClass = out.ref(getStrategy().getFullJavaClassName(table, Mode.RECORD));
+    final String tableId = out.ref(getStrategy().getFullJavaIdentifier(table), 2);
+
+    out.println();
+    out.println(
+        "private static <R extends %s> %s<%s, R> unmap%s(%s<R> recordType) {",
+        Record.class,
+        RecordUnmapper.class,
+        pojoClass,
+        getStrategy().getJavaClassName(table, Mode.POJO),
+        RecordType.class);
+    out.println("if (!%s.recordType().equals(recordType))", tableId);
+    out.println("return null;");
+    out.println();
+    out.println("return p -> {");
+    out.println("%s r = new %s();", recordClass, recordClass);
+    out.println();
+
+    for (ColumnDefinition column : table.getColumns())
+      out.println(
+          "r.%s(p.%s());",
+          getStrategy().getJavaSetterName(column, Mode.RECORD),
+          generatePojosAsJavaRecordClasses()
+              ? getStrategy().getJavaMemberName(column, Mode.POJO)
+              : getStrategy().getJavaGetterName(column, Mode.POJO));
+
+    out.println();
+    out.println("return (R) r;");
+    out.println("};");
+    out.println("}");
+  }
+
+  /** Subclasses may override this method to provide record mappers class footer code. */
+  @SuppressWarnings("unused")
+  protected void generateRecordMappersClassFooter(SchemaDefinition schema, JavaWriter out) {}
+
+  protected void generatePojos(SchemaDefinition schema) {
+    log.info("Generating table POJOs");
+
+    forEachTable(schema, Mode.POJO, "table POJO", table -> generatePojo(table));
+
     watch.splitInfo("Table POJOs generated");
   }
 
@@ -5061,13 +5426,7 @@ public class JavaGenerator extends AbstractGenerator {
   protected void generateTables(SchemaDefinition schema) {
     log.info("Generating tables");
 
-    for (TableDefinition table : database.getTables(schema)) {
-      try {
-        generateTable(schema, table);
-      } catch (Exception e) {
-        log.error("Error while generating table " + table, e);
-      }
-    }
+    forEachTable(schema, Mode.DEFAULT, "table", table -> generateTable(schema, table));
 
     watch.splitInfo("Tables generated");
   }
@@ -9224,8 +9583,10 @@ public class JavaGenerator extends AbstractGenerator {
   protected void closeJavaWriter(JavaWriter out) {
     CloseResult result = out.close();
 
-    if (result.affected) affectedFiles.add(out.file());
+    synchronized (this) {
+      if (result.affected) affectedFiles.add(out.file());
 
-    if (result.modified) modifiedFiles.add(out.file());
+      if (result.modified) modifiedFiles.add(out.file());
+    }
   }
 }
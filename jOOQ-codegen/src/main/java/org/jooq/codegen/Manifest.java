@@ -0,0 +1,294 @@
+/* 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.codegen;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import org.jooq.meta.CheckConstraintDefinition;
+import org.jooq.meta.ColumnDefinition;
+import org.jooq.meta.DataTypeDefinition;
+import org.jooq.meta.Definition;
+import org.jooq.meta.EmbeddableColumnDefinition;
+import org.jooq.meta.EmbeddableDefinition;
+import org.jooq.meta.ForeignKeyDefinition;
+import org.jooq.meta.IndexColumnDefinition;
+import org.jooq.meta.IndexDefinition;
+import org.jooq.meta.ParameterDefinition;
+import org.jooq.meta.TableDefinition;
+import org.jooq.meta.UniqueKeyDefinition;
+import org.jooq.tools.JooqLogger;
+
+/**
+ * A manifest of the table fingerprints of a previous code generation run, used to skip generating
+ * tables whose definition did not change.
+ *
+ * <p>A table's fingerprint covers everything that is rendered into its own artifacts: its columns
+ * and their (forced) types, keys, foreign keys, indexes, checks, embeddables and comments. The
+ * fingerprint of the code generation configuration is stored alongside, and a change to it
+ * invalidates all table fingerprints.
+ *
+ * @author Lukas Eder
+ */
+final class Manifest {
+
+  private static final JooqLogger log = JooqLogger.getLogger(Manifest.class);
+
+  static final String FILE_NAME = ".jooq-codegen-manifest";
+
+  private static final String CONFIGURATION = "configuration";
+
+  private final File file;
+
+  private final String configuration;
+
+  private final Map<String, String> previous;
+
+  private final Map<String, String> current;
+
+  private final Set<String> invalid;
+
+  Manifest(File file, String configuration) {
+    this.file = file;
+    this.configuration = configuration;
+    this.previous = read(file);
+    this.current = new HashMap<>();
+    this.invalid = new HashSet<>();
+
+    if (!configuration.equals(previous.get(CONFIGURATION))) {
+      if (!previous.isEmpty())
+        log.info("Configuration changed", "Regenerating all tables");
+
+      previous.clear();
+    }
+  }
+
+  /** Compute and remember the current fingerprint of a table. */
+  final void add(TableDefinition table) {
+    current.put(table.getQualifiedName(), fingerprint(table));
+  }
+
+  /** Whether a table has the same fingerprint as in the previous run. */
+  final boolean unchanged(TableDefinition table) {
+    String fingerprint = current.get(table.getQualifiedName());
+    return fingerprint != null && fingerprint.equals(previous.get(table.getQualifiedName()));
+  }
+
+  /** Exclude a table from the manifest, e.g. because its generation failed. */
+  final synchronized void invalidate(TableDefinition table) {
+    invalid.add(table.getQualifiedName());
+  }
+
+  /** Write the current fingerprints, replacing those of the previous run. */
+  final void write() {
+    Map<String, String> entries = new TreeMap<>(current);
+    entries.keySet().removeAll(invalid);
+    file.getParentFile().mkdirs();
+
+    try (Writer w = new OutputStreamWriter(new FileOutputStream(file), UTF_8)) {
+      w.write(CONFIGURATION + "=" + configuration + "\n");
+
+      for (Map.Entry<String, String> entry : entries.entrySet())
+        w.write(entry.getValue() + "=" + entry.getKey() + "\n");
+    } catch (IOException e) {
+      log.warn("Could not write code generation manifest " + file, e);
+    }
+  }
+
+  private static final Map<String, String> read(File file) {
+    Map<String, String> result = new HashMap<>();
+
+    if (file.exists()) {
+      try (BufferedReader r =
+          new BufferedReader(new InputStreamReader(new FileInputStream(file), UTF_8))) {
+        String line;
+
+        while ((line = r.readLine()) != null) {
+          int i = line.indexOf('=');
+
+          if (i <= 0) continue;
+          else if (line.startsWith(CONFIGURATION + "="))
+            result.put(CONFIGURATION, line.substring(i + 1));
+          else result.put(line.substring(i + 1), line.substring(0, i));
+        }
+      } catch (IOException e) {
+        log.warn("Could not read code generation manifest " + file, e);
+        result.clear();
+      }
+    }
+
+    return result;
+  }
+
+  // -------------------------------------------------------------------------
+  // XXX: Fingerprints
+  // -------------------------------------------------------------------------
+
+  /** A hex encoded SHA-256 hash of the argument strings. */
+  static final String fingerprint(String... strings) {
+    try {
+      MessageDigest digest = MessageDigest.getInstance("SHA-256");
+
+      for (String string : strings) {
+        digest.update(String.valueOf(string).getBytes(UTF_8));
+        digest.update((byte) 0);
+      }
+
+      StringBuilder sb = new StringBuilder();
+      for (byte b : digest.digest()) sb.append(String.format("%02x", b));
+      return sb.toString();
+    } catch (NoSuchAlgorithmException e) {
+      throw new GeneratorException("SHA-256 is not available", e);
+    }
+  }
+
+  private static final String fingerprint(TableDefinition table) {
+    StringBuilder sb = new StringBuilder();
+
+    definition(sb, "table", table);
+    append(sb, "source", table.getSource());
+    append(sb, "view", table.isView());
+    append(sb, "materialized", table.isMaterializedView());
+    append(sb, "temporary", table.isTemporary());
+    append(sb, "synthetic", table.isSynthetic());
+    append(sb, "function", table.isTableValuedFunction());
+    if (table.getParentTable() != null)
+      append(sb, "parent", table.getParentTable().getQualifiedName());
+    if (table.getIdentity() != null)
+      append(sb, "identity", table.getIdentity().getColumn().getName());
+
+    for (ColumnDefinition column : table.getColumns()) {
+      definition(sb, "column", column);
+      append(sb, "position", column.getPosition());
+      append(sb, "identity", column.isIdentity());
+      type(sb, "defined", column.getDefinedType());
+      type(sb, "type", column.getType());
+      if (column.getDomain() != null) append(sb, "domain", column.getDomain().getQualifiedName());
+    }
+
+    if (table.isTableValuedFunction()) {
+      for (ParameterDefinition parameter : table.getParameters()) {
+        definition(sb, "parameter", parameter);
+        type(sb, "type", parameter.getType());
+      }
+    }
+
+    for (UniqueKeyDefinition key : table.getKeys()) {
+      definition(sb, "key", key);
+      append(sb, "primary", key.isPrimaryKey());
+      columns(sb, key.getKeyColumns());
+    }
+
+    for (ForeignKeyDefinition key : table.getForeignKeys()) {
+      definition(sb, "foreign key", key);
+      columns(sb, key.getKeyColumns());
+      append(sb, "references", key.getReferencedTable().getQualifiedName());
+      append(sb, "referenced key", key.getReferencedKey().getQualifiedName());
+      columns(sb, key.getReferencedColumns());
+    }
+
+    for (CheckConstraintDefinition check : table.getCheckConstraints()) {
+      definition(sb, "check", check);
+      append(sb, "clause", check.getCheckClause());
+    }
+
+    for (IndexDefinition index : table.getIndexes()) {
+      definition(sb, "index", index);
+      append(sb, "unique", index.isUnique());
+
+      for (IndexColumnDefinition column : index.getIndexColumns()) {
+        append(sb, "column", column.getName());
+        append(sb, "order", column.getSortOrder());
+      }
+    }
+
+    for (EmbeddableDefinition embeddable : table.getReferencedEmbeddables()) {
+      definition(sb, "embeddable", embeddable);
+      append(sb, "referencing name", embeddable.getReferencingName());
+      append(sb, "referencing comment", embeddable.getReferencingComment());
+      append(sb, "replaces", embeddable.replacesFields());
+
+      for (EmbeddableColumnDefinition column : embeddable.getColumns())
+        append(sb, "column", column.getReferencingColumn().getName());
+    }
+
+    return fingerprint(sb.toString());
+  }
+
+  private static final void definition(StringBuilder sb, String kind, Definition definition) {
+    append(sb, kind, definition.getQualifiedName());
+    append(sb, "comment", definition.getComment());
+  }
+
+  private static final void columns(StringBuilder sb, List<ColumnDefinition> columns) {
+    for (ColumnDefinition column : columns) append(sb, "column", column.getName());
+  }
+
+  private static final void type(StringBuilder sb, String kind, DataTypeDefinition type) {
+    append(sb, kind, type.getType());
+    append(sb, "length", type.getLength());
+    append(sb, "precision", type.getPrecision());
+    append(sb, "scale", type.getScale());
+    append(sb, "nullable", type.isNullable());
+    append(sb, "identity", type.isIdentity());
+    append(sb, "default", type.isDefaulted() ? type.getDefaultValue() : null);
+    append(sb, "user type", type.getUserType());
+    append(sb, "java type", type.getJavaType());
+    append(sb, "converter", type.getConverter());
+    append(sb, "binding", type.getBinding());
+  }
+
+  private static final void append(StringBuilder sb, String key, Object value) {
+    sb.append(key).append('=').append(value).append('\n');
+  }
+}
@@ -0,0 +1,176 @@
+/* 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.jmh;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import org.jooq.tools.json.JSONParser;
+import org.jooq.tools.json.ParseException;
+
+/**
+ * Compares two JMH result files, e.g. the results of a baseline commit and of the current commit.
+ *
+ * <p>Result files are produced in JMH's JSON format, e.g. one per commit, in the <code>baselines
+ * </code> directory:
+ *
+ * <pre>
+ * java -jar target/benchmarks.jar -rf json -rff baselines/$(git rev-parse --short HEAD).json
+ * </pre>
+ *
+ * <p>Two such files are compared with:
+ *
+ * <pre>
+ * java -cp target/benchmarks.jar org.jooq.jmh.BaselineComparison old.json new.json [threshold]
+ * </pre>
+ *
+ * <p>A benchmark is reported as a regression if its score is worse by more than the threshold
+ * percentage (10% by default), and if the difference exceeds the error margins of both scores. The
+ * process exits with status <code>1</code> if there are any regressions.
+ *
+ * @author Lukas Eder
+ */
+public class BaselineComparison {
+
+  public static void main(String[] args) throws IOException, ParseException {
+    if (args.length < 2) {
+      System.err.println("Usage: BaselineComparison <baseline.json> <current.json> [threshold]");
+      System.exit(2);
+    }
+
+    Map<String, Score> baseline = read(args[0]);
+    Map<String, Score> current = read(args[1]);
+    double threshold = args.length > 2 ? Double.parseDouble(args[2]) : 10.0;
+    int regressions = 0;
+
+    System.out.println(
+        String.format("%-90s %20s %20s %9s", "Benchmark", "Baseline", "Current", "Change"));
+
+    for (Map.Entry<String, Score> e : current.entrySet()) {
+      Score b = baseline.get(e.getKey());
+      Score c = e.getValue();
+
+      if (b == null) {
+        System.out.println(String.format("%-90s %20s %20s %9s", e.getKey(), "-", c, "new"));
+        continue;
+      }
+
+      double change = (c.score - b.score) / b.score * 100.0;
+
+      // Positive values are improvements, negative values are regressions
+      double improvement = c.higherIsBetter ? change : -change;
+      boolean significant = Math.abs(c.score - b.score) > b.error + c.error;
+      String flag = "";
+
+      if (significant && improvement < -threshold) {
+        flag = " REGRESSION";
+        regressions++;
+      } else if (significant && improvement > threshold) flag = " improvement";
+
+      System.out.println(
+          String.format("%-90s %20s %20s %+8.1f%%%s", e.getKey(), b, c, change, flag));
+    }
+
+    for (Map.Entry<String, Score> e : baseline.entrySet())
+      if (!current.containsKey(e.getKey()))
+        System.out.println(
+            String.format("%-90s %20s %20s %9s", e.getKey(), e.getValue(), "-", "removed"));
+
+    System.out.println();
+    System.out.println(regressions + " regression(s)");
+    System.exit(regressions > 0 ? 1 : 0);
+  }
+
+  /** Read a JMH JSON result file, keyed by benchmark name and parameters. */
+  static Map<String, Score> read(String file) throws IOException, ParseException {
+    Map<String, Score> result = new TreeMap<>();
+    String json = new String(Files.readAllBytes(Paths.get(file)), UTF_8);
+
+    for (Object o : (List<?>) new JSONParser().parse(json)) {
+      Map<?, ?> benchmark = (Map<?, ?>) o;
+      Map<?, ?> params = (Map<?, ?>) benchmark.get("params");
+      Map<?, ?> metric = (Map<?, ?>) benchmark.get("primaryMetric");
+
+      result.put(
+          benchmark.get("benchmark") + (params == null ? "" : new TreeMap<>(params).toString()),
+          new Score(
+              number(metric.get("score")),
+              number(metric.get("scoreError")),
+              String.valueOf(metric.get("scoreUnit")),
+              "thrpt".equals(benchmark.get("mode"))));
+    }
+
+    return result;
+  }
+
+  /** JMH writes <code>"NaN"</code> for errors that could not be computed. */
+  private static double number(Object value) {
+    if (value instanceof Number) return ((Number) value).doubleValue();
+
+    try {
+      double d = Double.parseDouble(String.valueOf(value));
+      return Double.isNaN(d) ? 0.0 : d;
+    } catch (NumberFormatException e) {
+      return 0.0;
+    }
+  }
+
+  static final class Score {
+    final double score;
+    final double error;
+    final String unit;
+    final boolean higherIsBetter;
+
+    Score(double score, double error, String unit, boolean higherIsBetter) {
+      this.score = score;
+      this.error = error;
+      this.unit = unit;
+      this.higherIsBetter = higherIsBetter;
+    }
+
+    @Override
+    public String toString() {
+      return String.format("%.3f %s", score, unit);
+    }
+  }
+}
@@ -0,0 +1,116 @@
+/* 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.jmh;
+
+import static org.jooq.jmh.Fixtures.AMOUNT;
+import static org.jooq.jmh.Fixtures.CREATED;
+import static org.jooq.jmh.Fixtures.ID;
+import static org.jooq.jmh.Fixtures.NAME;
+import static org.jooq.jmh.Fixtures.T;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.concurrent.TimeUnit;
+import org.jooq.DSLContext;
+import org.jooq.Query;
+import org.jooq.Record4;
+import org.jooq.ResultQuery;
+import org.jooq.conf.Settings;
+import org.jooq.impl.DefaultBinding;
+import org.jooq.tools.jdbc.MockConnection;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks binding values to a JDBC statement and reading them from a JDBC result set through
+ * {@link DefaultBinding}, on a {@link MockConnection}.
+ *
+ * @author Lukas Eder
+ */
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class BindingBenchmark {
+
+  @Param({"1", "10"})
+  int rows;
+
+  Query insert;
+  ResultQuery<Record4<Integer, String, BigDecimal, Timestamp>> select;
+
+  @Setup
+  public void setup() {
+    DSLContext ctx = Fixtures.mockContext(Fixtures.result(rows), new Settings());
+
+    Timestamp ts = new Timestamp(1_600_000_000_000L);
+    insert =
+        ctx.insertInto(T, ID, NAME, AMOUNT, CREATED)
+            .values(1, "a", BigDecimal.ONE, ts)
+            .values(2, "b", BigDecimal.TEN, ts)
+            .values(3, "c", BigDecimal.ZERO, ts);
+    select =
+        ctx.select(ID, NAME, AMOUNT, CREATED)
+            .from(T)
+            .where(ID.eq(1))
+            .and(NAME.eq("a"))
+            .and(AMOUNT.eq(BigDecimal.ONE))
+            .and(CREATED.eq(ts));
+  }
+
+  @Benchmark
+  public int set() {
+    return insert.execute();
+  }
+
+  @Benchmark
+  public Object setAndGet() {
+    return select.fetch();
+  }
+}
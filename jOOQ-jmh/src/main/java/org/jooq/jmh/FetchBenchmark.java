@@ -0,0 +1,138 @@
+/* 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.jmh;
+
+import static org.jooq.jmh.Fixtures.AMOUNT;
+import static org.jooq.jmh.Fixtures.CREATED;
+import static org.jooq.jmh.Fixtures.ID;
+import static org.jooq.jmh.Fixtures.NAME;
+import static org.jooq.jmh.Fixtures.T;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.concurrent.TimeUnit;
+import org.jooq.Cursor;
+import org.jooq.DSLContext;
+import org.jooq.Record4;
+import org.jooq.Result;
+import org.jooq.ResultQuery;
+import org.jooq.SQLDialect;
+import org.jooq.impl.DSL;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks fetching records through a {@link Cursor}, from an in-memory H2 database, and from a
+ * {@link org.jooq.tools.jdbc.MockConnection}.
+ *
+ * @author Lukas Eder
+ */
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class FetchBenchmark {
+
+  @Param({"H2", "MOCK"})
+  String source;
+
+  @Param({"10", "1000"})
+  int rows;
+
+  Connection connection;
+  ResultQuery<Record4<Integer, String, BigDecimal, Timestamp>> query;
+
+  @Setup
+  public void setup() throws SQLException {
+    DSLContext ctx;
+
+    if ("H2".equals(source)) {
+      connection = Fixtures.h2("fetch", rows);
+      ctx = DSL.using(connection, SQLDialect.H2);
+    } else {
+      connection = Fixtures.mock(Fixtures.result(rows));
+      ctx = DSL.using(connection, SQLDialect.H2);
+    }
+
+    query = ctx.select(ID, NAME, AMOUNT, CREATED).from(T);
+  }
+
+  @TearDown
+  public void teardown() throws SQLException {
+    connection.close();
+  }
+
+  @Benchmark
+  public Result<?> fetch() {
+    return query.fetch();
+  }
+
+  @Benchmark
+  public Result<?> fetchColumnar() {
+    return query.fetchColumnar();
+  }
+
+  @Benchmark
+  public void fetchLazy(Blackhole bh) {
+    try (Cursor<?> cursor = query.fetchLazy()) {
+      for (Object record : cursor) bh.consume(record);
+    }
+  }
+
+  @Benchmark
+  public void fetchLazyReusing(Blackhole bh) {
+    try (Cursor<?> cursor = query.fetchLazy()) {
+      cursor.forEachReused(bh::consume);
+    }
+  }
+}
@@ -0,0 +1,125 @@
+/* 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.jmh;
+
+import static org.jooq.impl.DSL.field;
+import static org.jooq.impl.DSL.name;
+import static org.jooq.impl.DSL.table;
+
+import java.util.concurrent.TimeUnit;
+import org.jooq.Field;
+import org.jooq.Name;
+import org.jooq.Record;
+import org.jooq.SQLDialect;
+import org.jooq.Table;
+import org.jooq.impl.DSL;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks looking up all fields of a record by {@link String}, {@link Name}, and {@link Field},
+ * for records of various widths.
+ *
+ * @author Lukas Eder
+ */
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class FieldsLookupBenchmark {
+
+  @Param({"4", "20", "80", "200"})
+  int width;
+
+  Record record;
+  String[] strings;
+  Name[] names;
+  Field<?>[] fields;
+  Field<?>[] unqualifiedFields;
+
+  @Setup
+  public void setup() {
+    Table<?> t = table(name("t"));
+
+    strings = new String[width];
+    names = new Name[width];
+    fields = new Field[width];
+    unqualifiedFields = new Field[width];
+
+    for (int i = 0; i < width; i++) {
+      strings[i] = "c" + i;
+      names[i] = name(strings[i]);
+      fields[i] = field(t.getQualifiedName().append(strings[i]), Integer.class);
+      unqualifiedFields[i] = field(names[i], Integer.class);
+    }
+
+    record = DSL.using(SQLDialect.DEFAULT).newRecord(fields);
+  }
+
+  @Benchmark
+  public void lookupByString(Blackhole bh) {
+    for (String s : strings) bh.consume(record.indexOf(s));
+  }
+
+  @Benchmark
+  public void lookupByName(Blackhole bh) {
+    for (Name n : names) bh.consume(record.indexOf(n));
+  }
+
+  @Benchmark
+  public void lookupByFieldIdentity(Blackhole bh) {
+    for (Field<?> f : fields) bh.consume(record.indexOf(f));
+  }
+
+  @Benchmark
+  public void lookupByFieldName(Blackhole bh) {
+    for (Field<?> f : unqualifiedFields) bh.consume(record.indexOf(f));
+  }
+}
@@ -0,0 +1,129 @@
+/* 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.jmh;
+
+import static org.jooq.impl.DSL.field;
+import static org.jooq.impl.DSL.name;
+import static org.jooq.impl.DSL.table;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import org.jooq.BatchBindStep;
+import org.jooq.DSLContext;
+import org.jooq.Field;
+import org.jooq.Record4;
+import org.jooq.Result;
+import org.jooq.SQLDialect;
+import org.jooq.Table;
+import org.jooq.conf.Settings;
+import org.jooq.impl.DSL;
+import org.jooq.impl.SQLDataType;
+import org.jooq.tools.jdbc.MockConnection;
+import org.jooq.tools.jdbc.MockResult;
+
+/**
+ * Shared data for the benchmarks.
+ *
+ * @author Lukas Eder
+ */
+final class Fixtures {
+
+  static final Table<?> T = table(name("jmh_t"));
+  static final Field<Integer> ID = field(name("jmh_t", "id"), SQLDataType.INTEGER.notNull());
+  static final Field<String> NAME = field(name("jmh_t", "name"), SQLDataType.VARCHAR(100));
+  static final Field<BigDecimal> AMOUNT =
+      field(name("jmh_t", "amount"), SQLDataType.NUMERIC(12, 2));
+  static final Field<Timestamp> CREATED = field(name("jmh_t", "created"), SQLDataType.TIMESTAMP);
+
+  static final Table<?> U = table(name("jmh_u"));
+  static final Field<Integer> U_ID = field(name("jmh_u", "id"), SQLDataType.INTEGER.notNull());
+  static final Field<Integer> U_T_ID = field(name("jmh_u", "t_id"), SQLDataType.INTEGER);
+  static final Field<String> U_LABEL = field(name("jmh_u", "label"), SQLDataType.VARCHAR(100));
+
+  /** A result with <code>rows</code> records of {@link #T}. */
+  static Result<Record4<Integer, String, BigDecimal, Timestamp>> result(int rows) {
+    DSLContext ctx = DSL.using(SQLDialect.DEFAULT);
+    Result<Record4<Integer, String, BigDecimal, Timestamp>> result =
+        ctx.newResult(ID, NAME, AMOUNT, CREATED);
+
+    for (int i = 0; i < rows; i++)
+      result.add(
+          ctx.newRecord(ID, NAME, AMOUNT, CREATED)
+              .values(
+                  i,
+                  "name " + i,
+                  BigDecimal.valueOf(i * 100 + 42, 2),
+                  new Timestamp(1_600_000_000_000L + i * 1000L)));
+
+    return result;
+  }
+
+  /** A {@link MockConnection} returning the same result for every statement. */
+  static MockConnection mock(Result<?> result) {
+    MockResult[] r = {new MockResult(result.size(), result)};
+    return new MockConnection(c -> r);
+  }
+
+  /** A {@link DSLContext} on a {@link MockConnection} returning the same result for every query. */
+  static DSLContext mockContext(Result<?> result, Settings settings) {
+    return DSL.using(mock(result), SQLDialect.H2, settings);
+  }
+
+  /** A new in-memory H2 database containing <code>rows</code> records of {@link #T}. */
+  static Connection h2(String database, int rows) throws SQLException {
+    Connection connection = DriverManager.getConnection("jdbc:h2:mem:" + database);
+    DSLContext ctx = DSL.using(connection, SQLDialect.H2);
+
+    ctx.dropTableIfExists(T).execute();
+    ctx.createTable(T).columns(ID, NAME, AMOUNT, CREATED).execute();
+
+    BatchBindStep batch =
+        ctx.batch(
+            ctx.insertInto(T, ID, NAME, AMOUNT, CREATED)
+                .values((Integer) null, (String) null, (BigDecimal) null, (Timestamp) null));
+    for (Record4<?, ?, ?, ?> record : result(rows)) batch.bind(record.intoArray());
+    batch.execute();
+
+    return connection;
+  }
+
+  private Fixtures() {}
+}
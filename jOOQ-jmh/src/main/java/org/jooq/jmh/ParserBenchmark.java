@@ -0,0 +1,103 @@
+/* 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.jmh;
+
+import java.util.concurrent.TimeUnit;
+import org.jooq.Parser;
+import org.jooq.Queries;
+import org.jooq.Query;
+import org.jooq.SQLDialect;
+import org.jooq.impl.DSL;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks parsing SQL strings with the {@link Parser}.
+ *
+ * @author Lukas Eder
+ */
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class ParserBenchmark {
+
+  static final String SIMPLE = "select id, name from t where id = 1";
+
+  static final String COMPLEX =
+      "select t.id, t.name, count(*), sum(t.amount) "
+          + "from t join u on u.t_id = t.id "
+          + "where t.name like 'a%' and u.label in ('x', 'y', 'z') and t.created is not null "
+          + "group by t.id, t.name "
+          + "having count(*) > 1 "
+          + "order by t.id desc, t.name "
+          + "limit 10 offset 20";
+
+  static final String SCRIPT =
+      "create table t (id int not null primary key, name varchar(100), amount decimal(12, 2));\n"
+          + "insert into t (id, name, amount) values (1, 'a', 1.00), (2, 'b', 2.00);\n"
+          + "update t set amount = amount * 2 where id in (select t_id from u);\n"
+          + "delete from t where name is null;\n"
+          + "drop table t;";
+
+  final Parser parser = DSL.using(SQLDialect.DEFAULT).parser();
+
+  @Benchmark
+  public Query parseSimple() {
+    return parser.parseQuery(SIMPLE);
+  }
+
+  @Benchmark
+  public Query parseComplex() {
+    return parser.parseQuery(COMPLEX);
+  }
+
+  @Benchmark
+  public Queries parseScript() {
+    return parser.parse(SCRIPT);
+  }
+}
@@ -0,0 +1,118 @@
+/* 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.jmh;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.jooq.Record4;
+import org.jooq.Result;
+import org.jooq.impl.DefaultRecordMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks mapping records to POJOs through the {@link DefaultRecordMapper}, compared to a
+ * hand-written lambda.
+ *
+ * @author Lukas Eder
+ */
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class RecordMapperBenchmark {
+
+  @Param({"1", "1000"})
+  int rows;
+
+  Result<Record4<Integer, String, BigDecimal, Timestamp>> result;
+
+  @Setup
+  public void setup() {
+    result = Fixtures.result(rows);
+  }
+
+  @Benchmark
+  public List<MutablePojo> intoMutablePojo() {
+    return result.into(MutablePojo.class);
+  }
+
+  @Benchmark
+  public List<ImmutablePojo> intoImmutablePojo() {
+    return result.into(ImmutablePojo.class);
+  }
+
+  @Benchmark
+  public List<ImmutablePojo> mapWithLambda() {
+    return result.map(r -> new ImmutablePojo(r.value1(), r.value2(), r.value3(), r.value4()));
+  }
+
+  public static class MutablePojo {
+    public Integer id;
+    public String name;
+    public BigDecimal amount;
+    public Timestamp created;
+  }
+
+  public static class ImmutablePojo {
+    public final Integer id;
+    public final String name;
+    public final BigDecimal amount;
+    public final Timestamp created;
+
+    public ImmutablePojo(Integer id, String name, BigDecimal amount, Timestamp created) {
+      this.id = id;
+      this.name = name;
+      this.amount = amount;
+      this.created = created;
+    }
+  }
+}
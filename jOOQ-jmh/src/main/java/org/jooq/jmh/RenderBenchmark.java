@@ -0,0 +1,121 @@
+/* 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.jmh;
+
+import static org.jooq.impl.DSL.count;
+import static org.jooq.impl.DSL.inline;
+import static org.jooq.jmh.Fixtures.AMOUNT;
+import static org.jooq.jmh.Fixtures.CREATED;
+import static org.jooq.jmh.Fixtures.ID;
+import static org.jooq.jmh.Fixtures.NAME;
+import static org.jooq.jmh.Fixtures.T;
+import static org.jooq.jmh.Fixtures.U;
+import static org.jooq.jmh.Fixtures.U_LABEL;
+import static org.jooq.jmh.Fixtures.U_T_ID;
+
+import java.util.concurrent.TimeUnit;
+import org.jooq.DSLContext;
+import org.jooq.Query;
+import org.jooq.SQLDialect;
+import org.jooq.impl.DSL;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks rendering a pre-built query to SQL, with bind variables and with inlined values.
+ *
+ * @author Lukas Eder
+ */
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class RenderBenchmark {
+
+  @Param({"H2", "POSTGRES", "SQLITE"})
+  SQLDialect dialect;
+
+  DSLContext ctx;
+  Query simple;
+  Query complex;
+
+  @Setup
+  public void setup() {
+    ctx = DSL.using(dialect);
+    simple = ctx.select(ID, NAME).from(T).where(ID.eq(1));
+    complex =
+        ctx.select(ID, NAME, count(), DSL.sum(AMOUNT))
+            .from(T)
+            .join(U)
+            .on(U_T_ID.eq(ID))
+            .where(NAME.like("a%"))
+            .and(U_LABEL.in("x", "y", "z"))
+            .and(CREATED.isNotNull())
+            .groupBy(ID, NAME)
+            .having(count().gt(inline(1)))
+            .orderBy(ID.desc(), NAME)
+            .limit(10)
+            .offset(20);
+  }
+
+  @Benchmark
+  public String renderSimple() {
+    return ctx.render(simple);
+  }
+
+  @Benchmark
+  public String renderComplex() {
+    return ctx.render(complex);
+  }
+
+  @Benchmark
+  public String renderComplexInlined() {
+    return ctx.renderInlined(complex);
+  }
+}
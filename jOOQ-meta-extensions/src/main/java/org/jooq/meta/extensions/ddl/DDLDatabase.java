@@ -44,7 +44,7 @@ import static org.jooq.tools.StringUtils.isBlank;
 import java.io.File;
 import java.io.Reader;
 import java.sql.SQLException;
-import java.util.Scanner;
+import java.util.Iterator;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import org.h2.api.ErrorCode;
@@ -53,7 +53,6 @@ import org.jooq.FilePattern;
 import org.jooq.FilePattern.Sort;
 import org.jooq.Name;
 import org.jooq.Name.Quoted;
-import org.jooq.Queries;
 import org.jooq.Query;
 import org.jooq.ResultQuery;
 import org.jooq.Source;
@@ -178,10 +177,11 @@ public class DDLDatabase extends AbstractInterpretingDatabase {
     Reader r = null;
 
     try {
-      Scanner s = new Scanner(r = source.reader()).useDelimiter("\\A");
-      Queries queries = ctx.parser().parse(s.hasNext() ? s.next() : "");
+      // Parse the script lazily, to avoid keeping huge dumps in memory
+      Iterator<Query> queries = ctx.parser().parseStream(r = source.reader()).iterator();
 
-      for (Query query : queries) {
+      while (queries.hasNext()) {
+        Query query = queries.next();
 
         repeat:
         for (; ; ) {
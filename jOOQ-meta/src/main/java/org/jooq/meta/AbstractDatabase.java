@@ -62,6 +62,7 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
@@ -70,6 +71,12 @@ import java.util.List;
 import java.util.Map;
 import java.util.Properties;
 import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
@@ -78,6 +85,7 @@ import java.util.regex.Pattern;
 import java.util.stream.Stream;
 import org.jooq.Condition;
 import org.jooq.Configuration;
+import org.jooq.ConnectionProvider;
 import org.jooq.DSLContext;
 import org.jooq.ExecuteContext;
 import org.jooq.ExecuteListener;
@@ -284,6 +292,10 @@ public abstract class AbstractDatabase implements Database {
 
   private int logSlowResultsAfterSeconds;
 
+  private int parallelism = 1;
+
+  private ConnectionProvider connectionProvider;
+
   // -------------------------------------------------------------------------
   // Loaded definitions
   // -------------------------------------------------------------------------
@@ -390,11 +402,25 @@ public abstract class AbstractDatabase implements Database {
 
   private final Statements statements;
 
+  /** The connection of a thread that prefetches meta data. */
+  private final ThreadLocal<Connection> prefetchConnection;
+
+  /** The meta data that has been prefetched, but not yet requested. */
+  private final Map<MetaData, Future<?>> prefetched;
+
+  private volatile boolean prefetching;
+
+  private boolean prefetchedIndependent;
+
+  private boolean prefetchedDependent;
+
   protected AbstractDatabase() {
     existTables = new HashMap<>();
     existFields = new HashMap<>();
     patterns = new Patterns();
     statements = new Statements();
+    prefetchConnection = new ThreadLocal<>();
+    prefetched = new EnumMap<>(MetaData.class);
     filters = new ArrayList<>();
     all = new ArrayList<>();
     included = new ArrayList<>();
@@ -421,7 +447,8 @@ public abstract class AbstractDatabase implements Database {
 
   @Override
   public final Connection getConnection() {
-    return connection;
+    Connection c = prefetchConnection.get();
+    return c != null ? c : connection;
   }
 
   @Override
@@ -576,7 +603,9 @@ public abstract class AbstractDatabase implements Database {
 
   @Override
   public final boolean exists(TableField<?, ?> field) {
-    return existFields.computeIfAbsent(field, this::exists0);
+    synchronized (existFields) {
+      return existFields.computeIfAbsent(field, this::exists0);
+    }
   }
 
   /** [#8972] Subclasses may override this method for a more efficient implementation. */
@@ -622,7 +651,9 @@ public abstract class AbstractDatabase implements Database {
 
   @Override
   public final boolean exists(Table<?> table) {
-    return existTables.computeIfAbsent(table, this::exists0);
+    synchronized (existTables) {
+      return existTables.computeIfAbsent(table, this::exists0);
+    }
   }
 
   /** [#8972] Subclasses may override this method for a more efficient implementation. */
@@ -1453,7 +1484,7 @@ public abstract class AbstractDatabase implements Database {
   }
 
   @Override
-  public void markUsed(ForcedType forcedType) {
+  public synchronized void markUsed(ForcedType forcedType) {
     unusedForcedTypes.remove(forcedType);
   }
 
@@ -1492,6 +1523,26 @@ public abstract class AbstractDatabase implements Database {
     this.logSlowQueriesAfterSeconds = logSlowQueriesAfterSeconds;
   }
 
+  @Override
+  public final int getParallelism() {
+    return parallelism;
+  }
+
+  @Override
+  public final void setParallelism(int parallelism) {
+    this.parallelism = parallelism;
+  }
+
+  @Override
+  public final ConnectionProvider getConnectionProvider() {
+    return connectionProvider;
+  }
+
+  @Override
+  public final void setConnectionProvider(ConnectionProvider connectionProvider) {
+    this.connectionProvider = connectionProvider;
+  }
+
   @Override
   public final int getLogSlowResultsAfterSeconds() {
     return logSlowResultsAfterSeconds;
@@ -1622,7 +1673,7 @@ public abstract class AbstractDatabase implements Database {
             ERROR,
             "Error while fetching sequences",
             () -> {
-              List<SequenceDefinition> s = getSequences0();
+              List<SequenceDefinition> s = prefetched(MetaData.SEQUENCES, this::getSequences0);
               sequences = sort(filterExcludeInclude(s));
               log.info("Sequences fetched", fetchedSize(s, sequences));
             });
@@ -1749,7 +1800,7 @@ public abstract class AbstractDatabase implements Database {
             ERROR,
             "Error while fetching tables",
             () -> {
-              List<TableDefinition> t = getTables0();
+              List<TableDefinition> t = prefetched(MetaData.TABLES, this::getTables0);
               syntheticViews(t);
               tables = sort(filterExcludeInclude(t));
               log.info("Tables fetched", fetchedSize(t, tables));
@@ -1793,7 +1844,7 @@ public abstract class AbstractDatabase implements Database {
           ERROR,
           "Error while fetching enums",
           () -> {
-            List<EnumDefinition> e = getEnums0();
+            List<EnumDefinition> e = prefetched(MetaData.ENUMS, this::getEnums0);
             enums = sort(filterExcludeInclude(e));
             enums.addAll(getConfiguredEnums());
             log.info("Enums fetched", fetchedSize(e, enums));
@@ -2082,7 +2133,7 @@ public abstract class AbstractDatabase implements Database {
             ERROR,
             "Error while fetching domains",
             () -> {
-              List<DomainDefinition> e = getDomains0();
+              List<DomainDefinition> e = prefetched(MetaData.DOMAINS, this::getDomains0);
               domains = sort(filterExcludeInclude(e));
               log.info("Domains fetched", fetchedSize(e, domains));
             });
@@ -2127,7 +2178,7 @@ public abstract class AbstractDatabase implements Database {
             ERROR,
             "Error while fetching ARRAYs",
             () -> {
-              List<ArrayDefinition> a = getArrays0();
+              List<ArrayDefinition> a = prefetched(MetaData.ARRAYS, this::getArrays0);
               arrays = sort(filterExcludeInclude(a));
               log.info("ARRAYs fetched", fetchedSize(a, arrays));
             });
@@ -2166,7 +2217,7 @@ public abstract class AbstractDatabase implements Database {
             ERROR,
             "Error while fetching UDTs",
             () -> {
-              List<UDTDefinition> u = getUDTs0();
+              List<UDTDefinition> u = prefetched(MetaData.UDTS, this::getUDTs0);
               udts = sort(filterExcludeInclude(u));
               log.info("UDTs fetched", fetchedSize(u, udts));
             });
@@ -2209,6 +2260,7 @@ public abstract class AbstractDatabase implements Database {
 
   @Override
   public final Relations getRelations() {
+    if (relations == null) prefetchDependent();
     if (relations == null) {
       relations = new DefaultRelations();
       // [#3559] If the code generator doesn't need relation information, we shouldn't
@@ -2228,7 +2280,7 @@ public abstract class AbstractDatabase implements Database {
             ERROR,
             "Error while fetching indexes",
             () -> {
-              List<IndexDefinition> r = getIndexes0();
+              List<IndexDefinition> r = prefetched(MetaData.INDEXES, this::getIndexes0);
               indexes = sort(r);
               // indexes = sort(filterExcludeInclude(r)); TODO Support include / exclude for indexes
               // (and constraints!)
@@ -2264,7 +2316,7 @@ public abstract class AbstractDatabase implements Database {
             ERROR,
             "Error while fetching routines",
             () -> {
-              List<RoutineDefinition> r = getRoutines0();
+              List<RoutineDefinition> r = prefetched(MetaData.ROUTINES, this::getRoutines0);
               routines = sort(filterExcludeInclude(r));
               log.info("Routines fetched", fetchedSize(r, routines));
             });
@@ -2283,7 +2335,7 @@ public abstract class AbstractDatabase implements Database {
             ERROR,
             "Error while fetching packages",
             () -> {
-              List<PackageDefinition> p = getPackages0();
+              List<PackageDefinition> p = prefetched(MetaData.PACKAGES, this::getPackages0);
               packages = sort(filterExcludeInclude(p));
               log.info("Packages fetched", fetchedSize(p, packages));
             });
@@ -2320,7 +2372,9 @@ public abstract class AbstractDatabase implements Database {
 
   protected final <T extends Definition> List<T> filterSchema(
       List<T> definitions, SchemaDefinition schema, Map<SchemaDefinition, List<T>> cache) {
-    return cache.computeIfAbsent(schema, s -> filterSchema(definitions, s));
+    synchronized (cache) {
+      return cache.computeIfAbsent(schema, s -> filterSchema(definitions, s));
+    }
   }
 
   protected final <T extends Definition> List<T> filterSchema(
@@ -2921,6 +2975,155 @@ public abstract class AbstractDatabase implements Database {
     return type;
   }
 
+  // -------------------------------------------------------------------------
+  // XXX: Concurrent meta data loading
+  // -------------------------------------------------------------------------
+
+  /** The meta data categories that can be fetched concurrently. */
+  private enum MetaData {
+    TABLES,
+    SEQUENCES,
+    ROUTINES,
+    PACKAGES,
+    UDTS,
+    ARRAYS,
+    DOMAINS,
+    // These categories look up tables and their columns
+    ENUMS,
+    INDEXES;
+    boolean dependent() {
+      return this == ENUMS || this == INDEXES;
+    }
+  }
+
+  private final boolean prefetch() {
+    return parallelism > 1 && connectionProvider != null && !prefetching;
+  }
+
+  /**
+   * Get meta data, which has been prefetched concurrently, if {@link #getParallelism()} allows for
+   * it, or fetch it now.
+   *
+   * <p>Only the fetching itself happens concurrently. The results are filtered, sorted, and
+   * logged when they are requested, just like in serial mode, such that the resulting definitions
+   * are the same.
+   */
+  @SuppressWarnings("unchecked")
+  private final <T> T prefetched(MetaData metaData, Callable<T> fetch) throws Exception {
+    if (metaData.dependent()) prefetchDependent();
+    else prefetchIndependent();
+    Future<?> future;
+    synchronized (prefetched) {
+      future = prefetched.remove(metaData);
+    }
+    if (future == null) return fetch.call();
+    // Another prefetching thread may need this before a thread of the pool has picked it up
+    if (future instanceof FutureTask) ((FutureTask<?>) future).run();
+    try {
+      return (T) future.get();
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof Exception) throw (Exception) e.getCause();
+      else throw (Error) e.getCause();
+    }
+  }
+
+  /** Prefetch the meta data categories that don't depend on each other. */
+  private final void prefetchIndependent() {
+    if (prefetchedIndependent || !prefetch()) return;
+    prefetchedIndependent = true;
+    // These are looked up by all meta data categories
+    getInputCatalogs();
+    getInputSchemata();
+    getCatalogs();
+    getSchemata();
+    Map<MetaData, Callable<?>> tasks = new EnumMap<>(MetaData.class);
+    if (getIncludeTables()) tasks.put(MetaData.TABLES, this::getTables0);
+    if (getIncludeSequences()) tasks.put(MetaData.SEQUENCES, this::getSequences0);
+    if (getIncludeRoutines()) tasks.put(MetaData.ROUTINES, this::getRoutines0);
+    if (getIncludePackages()) tasks.put(MetaData.PACKAGES, this::getPackages0);
+    if (getIncludeUDTs()) {
+      tasks.put(MetaData.UDTS, this::getUDTs0);
+      tasks.put(MetaData.ARRAYS, this::getArrays0);
+    }
+    if (getIncludeDomains()) tasks.put(MetaData.DOMAINS, this::getDomains0);
+    prefetch(tasks, null);
+  }
+
+  /**
+   * Prefetch the meta data categories that look up tables and their columns, once all tables and
+   * columns are available.
+   */
+  private final void prefetchDependent() {
+    if (prefetchedDependent || !prefetch()) return;
+    prefetchIndependent();
+    prefetchedDependent = true;
+    for (SchemaDefinition schema : getSchemata())
+      for (TableDefinition table : getTables(schema)) table.getColumns();
+    Map<MetaData, Callable<?>> tasks = new EnumMap<>(MetaData.class);
+    tasks.put(MetaData.ENUMS, this::getEnums0);
+    if (getIncludeIndexes()) tasks.put(MetaData.INDEXES, this::getIndexes0);
+    // Relations are loaded in several dependent steps, which run on a thread of their own
+    prefetch(tasks, relations == null ? this::getRelations : null);
+  }
+
+  private final void prefetch(Map<MetaData, Callable<?>> tasks, Runnable relationsTask) {
+    StopWatch watch = new StopWatch();
+    List<FutureTask<?>> futures = new ArrayList<>();
+    ExecutorService executor =
+        Executors.newFixedThreadPool(Math.min(parallelism, tasks.size() + 1));
+    prefetching = true;
+    try {
+      synchronized (prefetched) {
+        for (Map.Entry<MetaData, Callable<?>> task : tasks.entrySet()) {
+          FutureTask<?> future = new FutureTask<>(() -> withPrefetchConnection(task.getValue()));
+          prefetched.put(task.getKey(), future);
+          futures.add(future);
+        }
+      }
+      for (FutureTask<?> future : futures) executor.execute(future);
+      Future<?> relationsFuture =
+          relationsTask == null
+              ? null
+              : executor.submit(
+                  () ->
+                      withPrefetchConnection(
+                          () -> {
+                            relationsTask.run();
+                            return null;
+                          }));
+      // Other failures are reported when the prefetched meta data is requested
+      for (FutureTask<?> future : futures) {
+        try {
+          future.get();
+        } catch (ExecutionException ignore) {
+        }
+      }
+      if (relationsFuture != null) relationsFuture.get();
+      watch.splitInfo("Meta data prefetched");
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof RuntimeException) throw (RuntimeException) e.getCause();
+      else throw new RuntimeException(e.getCause());
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new RuntimeException("Interrupted while prefetching meta data", e);
+    } finally {
+      prefetching = false;
+      executor.shutdown();
+    }
+  }
+
+  private final <T> T withPrefetchConnection(Callable<T> task) throws Exception {
+    if (prefetchConnection.get() != null) return task.call();
+    Connection c = connectionProvider.acquire();
+    prefetchConnection.set(c);
+    try {
+      return task.call();
+    } finally {
+      prefetchConnection.remove();
+      connectionProvider.release(c);
+    }
+  }
+
   @FunctionalInterface
   private interface ExceptionRunnable {
 
@@ -42,6 +42,7 @@ import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
 import java.util.Properties;
+import org.jooq.ConnectionProvider;
 import org.jooq.DSLContext;
 import org.jooq.Name;
 import org.jooq.SQLDialect;
@@ -647,6 +648,18 @@ public interface Database extends AutoCloseable {
   /** Log slow results after this amount of seconds. */
   void setLogSlowResultsAfterSeconds(int logSlowResultsAfterSeconds);
 
+  /** The number of connections used to load meta data concurrently. */
+  int getParallelism();
+
+  /** The number of connections used to load meta data concurrently. */
+  void setParallelism(int parallelism);
+
+  /** The provider of the additional connections used to load meta data concurrently. */
+  ConnectionProvider getConnectionProvider();
+
+  /** The provider of the additional connections used to load meta data concurrently. */
+  void setConnectionProvider(ConnectionProvider connectionProvider);
+
   /** The database's schema version provider. */
   SchemaVersionProvider getSchemaVersionProvider();
 
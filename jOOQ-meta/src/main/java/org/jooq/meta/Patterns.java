@@ -59,7 +59,7 @@ public final class Patterns {
     patterns = new HashMap<>();
   }
 
-  public final Pattern pattern(String regex) {
+  public final synchronized Pattern pattern(String regex) {
     if (regex == null) return null;
     Pattern pattern = patterns.get(regex);
     if (pattern == null) {
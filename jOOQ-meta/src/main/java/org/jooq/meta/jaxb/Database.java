@@ -241,6 +241,9 @@ public class Database implements Serializable, XMLAppendable {
   @XmlElement(defaultValue = "5")
   protected Integer logSlowResultsAfterSeconds = 5;
 
+  @XmlElement(defaultValue = "1")
+  protected Integer parallelism = 1;
+
   @XmlElementWrapper(name = "properties")
   @XmlElement(name = "property")
   protected List<Property> properties;
@@ -1545,6 +1548,30 @@ public class Database implements Serializable, XMLAppendable {
     this.logSlowResultsAfterSeconds = value;
   }
 
+  /**
+   * The number of connections used to load meta data concurrently. If larger than 1, independent
+   * meta data categories (tables, sequences, routines, UDTs, keys, indexes, etc.) are fetched in
+   * parallel, each on its own connection, and dialects that support it load the columns of all
+   * tables in a single query. The additional connections are opened from the configured JDBC
+   * connection or DataSource, so meta data is loaded serially if a Connection is passed to the code
+   * generator directly.
+   */
+  public Integer getParallelism() {
+    return parallelism;
+  }
+
+  /**
+   * The number of connections used to load meta data concurrently. If larger than 1, independent
+   * meta data categories (tables, sequences, routines, UDTs, keys, indexes, etc.) are fetched in
+   * parallel, each on its own connection, and dialects that support it load the columns of all
+   * tables in a single query. The additional connections are opened from the configured JDBC
+   * connection or DataSource, so meta data is loaded serially if a Connection is passed to the code
+   * generator directly.
+   */
+  public void setParallelism(Integer value) {
+    this.parallelism = value;
+  }
+
   public List<Property> getProperties() {
     if (properties == null) {
       properties = new ArrayList<Property>();
@@ -2173,6 +2200,19 @@ public class Database implements Serializable, XMLAppendable {
     return this;
   }
 
+  /**
+   * The number of connections used to load meta data concurrently. If larger than 1, independent
+   * meta data categories (tables, sequences, routines, UDTs, keys, indexes, etc.) are fetched in
+   * parallel, each on its own connection, and dialects that support it load the columns of all
+   * tables in a single query. The additional connections are opened from the configured JDBC
+   * connection or DataSource, so meta data is loaded serially if a Connection is passed to the code
+   * generator directly.
+   */
+  public Database withParallelism(Integer value) {
+    setParallelism(value);
+    return this;
+  }
+
   public Database withProperties(Property... values) {
     if (values != null) {
       for (Property value : values) {
@@ -2399,6 +2439,7 @@ public class Database implements Serializable, XMLAppendable {
     builder.append("tableValuedFunctions", tableValuedFunctions);
     builder.append("logSlowQueriesAfterSeconds", logSlowQueriesAfterSeconds);
     builder.append("logSlowResultsAfterSeconds", logSlowResultsAfterSeconds);
+    builder.append("parallelism", parallelism);
     builder.append("properties", "property", properties);
     builder.append("comments", "comment", comments);
     builder.append("catalogs", "catalog", catalogs);
@@ -2933,6 +2974,15 @@ public class Database implements Serializable, XMLAppendable {
         return false;
       }
     }
+    if (parallelism == null) {
+      if (other.parallelism != null) {
+        return false;
+      }
+    } else {
+      if (!parallelism.equals(other.parallelism)) {
+        return false;
+      }
+    }
     if (properties == null) {
       if (other.properties != null) {
         return false;
@@ -3133,6 +3183,7 @@ public class Database implements Serializable, XMLAppendable {
     result =
         ((prime * result)
             + ((logSlowResultsAfterSeconds == null) ? 0 : logSlowResultsAfterSeconds.hashCode()));
+    result = ((prime * result) + ((parallelism == null) ? 0 : parallelism.hashCode()));
     result = ((prime * result) + ((properties == null) ? 0 : properties.hashCode()));
     result = ((prime * result) + ((comments == null) ? 0 : comments.hashCode()));
     result = ((prime * result) + ((catalogs == null) ? 0 : catalogs.hashCode()));
@@ -157,6 +157,9 @@ public class Generate implements Serializable, XMLAppendable {
   @XmlElement(defaultValue = "true")
   protected Boolean pojosToString = true;
 
+  @XmlElement(defaultValue = "false")
+  protected Boolean recordMappers = false;
+
   @XmlElement(defaultValue = "false")
   protected Boolean pojosAsJavaRecordClasses = false;
 
@@ -329,6 +332,12 @@ public class Generate implements Serializable, XMLAppendable {
   @XmlElement(defaultValue = "80")
   protected Integer printMarginForBlockComment = 80;
 
+  @XmlElement(defaultValue = "1")
+  protected Integer parallelism = 1;
+
+  @XmlElement(defaultValue = "false")
+  protected Boolean incremental = false;
+
   /**
    * Generate index information.
    *
@@ -904,6 +913,25 @@ public class Generate implements Serializable, XMLAppendable {
     this.pojosToString = value;
   }
 
+  /**
+   * Generate a RecordMapperProvider and RecordUnmapperProvider per schema, which maps between table
+   * records and POJOs without reflection.
+   *
+   * @return possible object is {@link Boolean }
+   */
+  public Boolean isRecordMappers() {
+    return recordMappers;
+  }
+
+  /**
+   * Sets the value of the recordMappers property.
+   *
+   * @param value allowed object is {@link Boolean }
+   */
+  public void setRecordMappers(Boolean value) {
+    this.recordMappers = value;
+  }
+
   /**
    * Generate POJOs as records, when using the JavaGenerator.
    *
@@ -1927,6 +1955,44 @@ public class Generate implements Serializable, XMLAppendable {
     this.printMarginForBlockComment = value;
   }
 
+  /**
+   * The number of threads used to generate per-table artifacts (tables, records, POJOs and DAOs)
+   * concurrently. Other artifacts are still generated serially, and the output is the same as with
+   * a serial run. The default of <code>1</code> generates everything serially.
+   */
+  public Integer getParallelism() {
+    return parallelism;
+  }
+
+  /**
+   * The number of threads used to generate per-table artifacts (tables, records, POJOs and DAOs)
+   * concurrently. Other artifacts are still generated serially, and the output is the same as with
+   * a serial run. The default of <code>1</code> generates everything serially.
+   */
+  public void setParallelism(Integer value) {
+    this.parallelism = value;
+  }
+
+  /**
+   * Whether per-table artifacts (tables, records, POJOs, DAOs, interfaces) should be skipped if
+   * neither their table definition nor the code generation configuration changed since the previous
+   * run. Fingerprints are stored in a .jooq-codegen-manifest file in the target directory.
+   *
+   * @return possible object is {@link Boolean }
+   */
+  public Boolean isIncremental() {
+    return incremental;
+  }
+
+  /**
+   * Sets the value of the incremental property.
+   *
+   * @param value allowed object is {@link Boolean }
+   */
+  public void setIncremental(Boolean value) {
+    this.incremental = value;
+  }
+
   public Generate withIndexes(Boolean value) {
     setIndexes(value);
     return this;
@@ -2100,6 +2166,11 @@ public class Generate implements Serializable, XMLAppendable {
     return this;
   }
 
+  public Generate withRecordMappers(Boolean value) {
+    setRecordMappers(value);
+    return this;
+  }
+
   public Generate withPojosAsJavaRecordClasses(Boolean value) {
     setPojosAsJavaRecordClasses(value);
     return this;
@@ -2408,6 +2479,21 @@ public class Generate implements Serializable, XMLAppendable {
     return this;
   }
 
+  /**
+   * The number of threads used to generate per-table artifacts (tables, records, POJOs and DAOs)
+   * concurrently. Other artifacts are still generated serially, and the output is the same as with
+   * a serial run. The default of <code>1</code> generates everything serially.
+   */
+  public Generate withParallelism(Integer value) {
+    setParallelism(value);
+    return this;
+  }
+
+  public Generate withIncremental(Boolean value) {
+    setIncremental(value);
+    return this;
+  }
+
   @Override
   public final void appendTo(XMLBuilder builder) {
     builder.append("indexes", indexes);
@@ -2444,6 +2530,7 @@ public class Generate implements Serializable, XMLAppendable {
     builder.append("pojos", pojos);
     builder.append("pojosEqualsAndHashCode", pojosEqualsAndHashCode);
     builder.append("pojosToString", pojosToString);
+    builder.append("recordMappers", recordMappers);
     builder.append("pojosAsJavaRecordClasses", pojosAsJavaRecordClasses);
     builder.append("pojosAsScalaCaseClasses", pojosAsScalaCaseClasses);
     builder.append("pojosAsKotlinDataClasses", pojosAsKotlinDataClasses);
@@ -2501,6 +2588,8 @@ public class Generate implements Serializable, XMLAppendable {
     builder.append("newline", newline);
     builder.append("indentation", indentation);
     builder.append("printMarginForBlockComment", printMarginForBlockComment);
+    builder.append("parallelism", parallelism);
+    builder.append("incremental", incremental);
   }
 
   @Override
@@ -2812,6 +2901,15 @@ public class Generate implements Serializable, XMLAppendable {
         return false;
       }
     }
+    if (recordMappers == null) {
+      if (other.recordMappers != null) {
+        return false;
+      }
+    } else {
+      if (!recordMappers.equals(other.recordMappers)) {
+        return false;
+      }
+    }
     if (pojosAsJavaRecordClasses == null) {
       if (other.pojosAsJavaRecordClasses != null) {
         return false;
@@ -3317,6 +3415,24 @@ public class Generate implements Serializable, XMLAppendable {
         return false;
       }
     }
+    if (parallelism == null) {
+      if (other.parallelism != null) {
+        return false;
+      }
+    } else {
+      if (!parallelism.equals(other.parallelism)) {
+        return false;
+      }
+    }
+    if (incremental == null) {
+      if (other.incremental != null) {
+        return false;
+      }
+    } else {
+      if (!incremental.equals(other.incremental)) {
+        return false;
+      }
+    }
     return true;
   }
 
@@ -3389,6 +3505,7 @@ public class Generate implements Serializable, XMLAppendable {
         ((prime * result)
             + ((pojosEqualsAndHashCode == null) ? 0 : pojosEqualsAndHashCode.hashCode()));
     result = ((prime * result) + ((pojosToString == null) ? 0 : pojosToString.hashCode()));
+    result = ((prime * result) + ((recordMappers == null) ? 0 : recordMappers.hashCode()));
     result =
         ((prime * result)
             + ((pojosAsJavaRecordClasses == null) ? 0 : pojosAsJavaRecordClasses.hashCode()));
@@ -3498,6 +3615,8 @@ public class Generate implements Serializable, XMLAppendable {
     result =
         ((prime * result)
             + ((printMarginForBlockComment == null) ? 0 : printMarginForBlockComment.hashCode()));
+    result = ((prime * result) + ((parallelism == null) ? 0 : parallelism.hashCode()));
+    result = ((prime * result) + ((incremental == null) ? 0 : incremental.hashCode()));
     return result;
   }
 }
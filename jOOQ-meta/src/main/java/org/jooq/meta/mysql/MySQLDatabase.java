@@ -65,11 +65,14 @@ import java.io.StringReader;
 import java.math.BigDecimal;
 import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import org.jooq.Condition;
 import org.jooq.DSLContext;
 import org.jooq.Field;
+import org.jooq.Name;
 import org.jooq.Record;
 import org.jooq.Record12;
 import org.jooq.Record6;
@@ -112,6 +115,8 @@ public class MySQLDatabase extends AbstractDatabase implements ResultQueryDataba
 
   private Boolean is8_0_16;
 
+  private Map<Name, List<Record>> columns;
+
   @Override
   protected List<IndexDefinition> getIndexes0() throws SQLException {
     List<IndexDefinition> result = new ArrayList<>();
@@ -658,6 +663,62 @@ public class MySQLDatabase extends AbstractDatabase implements ResultQueryDataba
     return result;
   }
 
+  /**
+   * The columns of a table. If meta data is loaded with {@link #getParallelism()}, the columns of
+   * all tables are loaded in one query, instead of one query per table.
+   */
+  final List<? extends Record> getColumns(SchemaDefinition schema, String table) {
+    if (getParallelism() > 1) {
+      synchronized (this) {
+        if (columns == null) {
+          columns = new HashMap<>();
+          for (Record record :
+              fetchColumns(COLUMNS.TABLE_SCHEMA.in(workaroundFor5213(getInputSchemata()))))
+            columns
+                .computeIfAbsent(
+                    DSL.name(record.get(COLUMNS.TABLE_SCHEMA), record.get(COLUMNS.TABLE_NAME)),
+                    k -> new ArrayList<>())
+                .add(record);
+        }
+      }
+      List<Record> result = columns.get(DSL.name(schema.getName(), table));
+      if (result != null) return result;
+    }
+    return fetchColumns(
+        // [#5213] Duplicate schema value to work around MySQL issue
+        // https://bugs.mysql.com/bug.php?id=86022
+        COLUMNS
+            .TABLE_SCHEMA
+            .in(schema.getName(), schema.getName())
+            .and(COLUMNS.TABLE_NAME.equal(table)));
+  }
+
+  private final Result<?> fetchColumns(Condition condition) {
+    return create()
+        .select(
+            COLUMNS.TABLE_SCHEMA,
+            COLUMNS.TABLE_NAME,
+            COLUMNS.ORDINAL_POSITION,
+            COLUMNS.COLUMN_NAME,
+            COLUMNS.COLUMN_COMMENT,
+            COLUMNS.COLUMN_TYPE,
+            COLUMNS.DATA_TYPE,
+            COLUMNS.IS_NULLABLE,
+            COLUMNS.COLUMN_DEFAULT,
+            COLUMNS.CHARACTER_MAXIMUM_LENGTH, // [#10856] Some older versions of MySQL 5.7 don't
+            // have the DATETIME_PRECISION column yet
+            exists(COLUMNS.DATETIME_PRECISION)
+                ? DSL.coalesce(COLUMNS.NUMERIC_PRECISION, COLUMNS.DATETIME_PRECISION)
+                    .as(COLUMNS.NUMERIC_PRECISION)
+                : COLUMNS.NUMERIC_PRECISION,
+            COLUMNS.NUMERIC_SCALE,
+            COLUMNS.EXTRA)
+        .from(COLUMNS)
+        .where(condition)
+        .orderBy(COLUMNS.TABLE_SCHEMA, COLUMNS.TABLE_NAME, COLUMNS.ORDINAL_POSITION)
+        .fetch();
+  }
+
   @Override
   protected DSLContext create0() {
     return DSL.using(getConnection(), SQLDialect.MYSQL);
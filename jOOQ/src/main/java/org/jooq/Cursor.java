@@ -393,6 +393,26 @@ public interface Cursor<R extends Record> extends Fields, Iterable<R>, Formattab
   @NotNull
   Stream<R> stream() throws DataAccessException;
 
+  /**
+   * Consume all remaining records, reusing a single record instance for every row.
+   *
+   * <p>This works like iterating over the <code>Cursor</code>, except that a single mutable record
+   * is filled in place with the values of each row, instead of creating a new record per row. This
+   * is useful for ETL-style loops, which process a row and then discard it. The record passed to
+   * the <code>action</code> must not be retained beyond the call, as its values are overwritten by
+   * the next row. Copy its values (e.g. using {@link Record#intoArray()}) to retain them.
+   *
+   * <p>{@link ExecuteListener#recordStart(ExecuteContext)}, {@link
+   * ExecuteListener#recordEnd(ExecuteContext)} and the {@link ResultQuery#intern(Field...)}
+   * settings apply as with any other fetch. Implementations that are not backed by a {@link
+   * ResultSet} may pass a new record to the <code>action</code> for every row.
+   *
+   * @param action The action consuming each record.
+   * @throws DataAccessException if something went wrong executing the query
+   * @see ResultQuery#fetchStreamReusing()
+   */
+  void forEachReused(Consumer<? super R> action) throws DataAccessException;
+
   /**
    * Reduce the execution results of this query using a {@link Collector}.
    *
@@ -322,4 +322,35 @@ public interface LoaderOptionsStep<R extends Record> extends LoaderSourceStep<R>
   @CheckReturnValue
   @Support
   LoaderOptionsStep<R> bulkAfter(int number);
+
+  // -------------------------------------------------------------------------
+  // Parallelism
+  // -------------------------------------------------------------------------
+  /**
+   * Load data through a given number of connections in parallel.
+   *
+   * <p>The source is still read by the calling thread, but the rows are handed over to <code>
+   * number</code> dedicated loader threads, each of which uses its own connection from the {@link
+   * Configuration#connectionProvider()} and applies the BULK, BATCH, and COMMIT OPTIONS
+   * independently. The calling thread blocks while the loader threads are behind, and until they
+   * have finished. In {@link #commitAll()} mode, all
+   * connections are rolled back at the end if there were any errors, or committed one after the
+   * other otherwise. The connections do not share a transaction, so this is not atomic: if one of
+   * the commits fails, the connections that are not yet committed are rolled back, but the ones
+   * that are already committed stay committed, and the failure is reported in {@link
+   * Loader#errors()}.
+   *
+   * <p>If the {@link ConnectionProvider} cannot provide distinct connections (e.g. when it wraps a
+   * single JDBC {@link Connection}), data is loaded serially. {@link LoaderRowListener}
+   * implementations must be thread safe when this option is used, and the order in which rows are
+   * stored is not defined.
+   *
+   * <p>If you don't specify a PARALLELISM OPTION, data is loaded serially.
+   *
+   * @param number The number of connections that are used to load data.
+   */
+  @NotNull
+  @CheckReturnValue
+  @Support
+  LoaderOptionsStep<R> parallelism(int number);
 }
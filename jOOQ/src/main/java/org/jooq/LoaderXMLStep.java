@@ -37,6 +37,11 @@
  */
 package org.jooq;
 
+import java.util.Collection;
+import org.jetbrains.annotations.*;
+import org.jooq.LoaderFieldMapper.LoaderFieldContext;
+import org.jooq.exception.LoaderConfigurationException;
+
 /**
  * The <code>Loader</code> API is used for configuring data loads.
  *
@@ -65,5 +70,51 @@ package org.jooq;
  * @author Lukas Eder
  */
 public interface LoaderXMLStep<R extends Record> {
-  // [...] This API is not yet defined
+
+  /**
+   * Specify the fields to be loaded into the table in the correct order.
+   *
+   * <p>The XML column at index <code>i</code> is inserted into the table field at index <code>i
+   * </code>. If <code>fields[i] == null</code> or <code>fields.length &lt;= i</code>, then the XML
+   * column is skipped.
+   */
+  @NotNull
+  @CheckReturnValue
+  @Support
+  LoaderListenerStep<R> fields(Field<?>... fields);
+
+  /**
+   * Specify the fields to be loaded into the table in the correct order.
+   *
+   * <p>The XML column at index <code>i</code> is inserted into the table field at index <code>i
+   * </code>. If <code>new ArrayList(fields).get(i) == null</code> or <code>
+   * new ArrayList(fields).size() &lt;= i</code>, then the XML column is skipped.
+   */
+  @NotNull
+  @CheckReturnValue
+  @Support
+  LoaderListenerStep<R> fields(Collection<? extends Field<?>> fields);
+
+  /**
+   * Specify a function to apply on each input field to receive the target table's field.
+   *
+   * <p>The input field obtained from {@link LoaderFieldContext#field()} wraps the XML column name
+   * if any, or an unspecified field enumeration is used. The {@link LoaderFieldContext#index()}
+   * property corresponds to the XML column index in document order.
+   */
+  @NotNull
+  @CheckReturnValue
+  @Support
+  LoaderListenerStep<R> fields(LoaderFieldMapper mapper);
+
+  /**
+   * Indicate that all input fields which have a corresponding field in the target table (with the
+   * same name) should be loaded.
+   *
+   * @throws LoaderConfigurationException When the source data does not expose field names.
+   */
+  @NotNull
+  @CheckReturnValue
+  @Support
+  LoaderListenerStep<R> fieldsCorresponding();
 }
@@ -37,6 +37,8 @@
  */
 package org.jooq;
 
+import java.io.Reader;
+import org.java.util.stream.Stream;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import org.jooq.impl.ParserException;
@@ -71,6 +73,27 @@ public interface Parser {
   @PlainSQL
   Queries parse(String sql, Object... bindings) throws ParserException;
 
+  /**
+   * Parse a SQL script from a {@link Reader} to a lazy stream of queries.
+   *
+   * <p>Unlike {@link #parse(String)}, this does not read the entire script into memory. The script
+   * is split into top level statements while it is being read, taking into account string literals,
+   * comments, <code>BEGIN .. END</code> blocks, <code>DELIMITER</code> directives and <code>GO
+   * </code> batch separators. Each statement is parsed only once the stream reaches it, so the first
+   * query is available before the whole script has been read, and a {@link ParserException} is
+   * thrown when the offending statement is reached. Its {@link ParserException#position()}, {@link
+   * ParserException#line()} and {@link ParserException#column()} refer to the whole script, while
+   * {@link ParserException#sql()} contains only the offending statement.
+   *
+   * <p>The reader is not closed by this method.
+   *
+   * @param reader The SQL script
+   */
+  @NotNull
+  @Support
+  @PlainSQL
+  Stream<Query> parseStream(Reader reader);
+
   /**
    * Parse a SQL string to a query.
    *
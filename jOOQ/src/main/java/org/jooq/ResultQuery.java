@@ -157,6 +157,30 @@ public interface ResultQuery<R extends Record> extends Fields, Query, Iterable<R
   @NotNull
   Result<R> fetch() throws DataAccessException;
 
+  /**
+   * Execute the query and return the generated result in a read-only, columnar storage.
+   *
+   * <p>This works like {@link #fetch()}, except that the resulting {@link Result} stores values per
+   * column rather than per record. <code>INTEGER</code>, <code>BIGINT</code>, <code>DOUBLE</code>,
+   * and <code>BOOLEAN</code> columns are stored in primitive arrays, avoiding boxing and the
+   * overhead of one {@link Record} per row, which greatly reduces heap usage for large results.
+   * {@link Record} instances are created only when accessed, as copies of the stored values.
+   *
+   * <p>The resulting {@link Result} is read-only. Modifications to its records are not written back
+   * to the result, and {@link Result#add(Object)}, {@link Result#remove(Object)}, etc. throw an
+   * {@link UnsupportedOperationException}. When serialized, the result is written as a regular,
+   * row-based {@link Result}.
+   *
+   * <p>Implementations that cannot produce a columnar storage may return the same result as {@link
+   * #fetch()}.
+   *
+   * @return The result. This will never be <code>null</code>.
+   * @throws DataAccessException if something went wrong executing the query
+   * @see Settings#isFetchColumnarResult()
+   */
+  @NotNull
+  Result<R> fetchColumnar() throws DataAccessException;
+
   /**
    * Execute the query and return the generated result as a JDBC {@link ResultSet}.
    *
@@ -225,6 +249,28 @@ public interface ResultQuery<R extends Record> extends Fields, Query, Iterable<R
   @NotNull
   Stream<R> fetchStream() throws DataAccessException;
 
+  /**
+   * Stream this query, reusing a single record instance for every row.
+   *
+   * <p>This works like {@link #fetchStream()}, except that a single mutable record is filled in
+   * place with the values of each row, instead of creating a new record per row. Stream elements
+   * must therefore not be retained beyond the processing of the current element, e.g. by collecting
+   * them into a {@link List}, as their values are overwritten by the next row. Stateless
+   * operations, like <code>map()</code> or <code>forEach()</code>, are safe.
+   *
+   * <p>Clients should ensure the {@link Stream} is properly closed, e.g. in a try-with-resources
+   * statement.
+   *
+   * <p>If {@link Settings#isFetchIntermediateResult()} applies, or if this query cannot be fetched
+   * lazily from a {@link ResultSet}, records are not reused.
+   *
+   * @return The result.
+   * @throws DataAccessException if something went wrong executing the query
+   * @see Cursor#forEachReused(Consumer)
+   */
+  @NotNull
+  Stream<R> fetchStreamReusing() throws DataAccessException;
+
   /**
    * Stream this query, mapping records into a custom type.
    *
@@ -172,6 +172,9 @@ public class Settings extends SettingsBase implements Serializable, Cloneable, X
   protected FetchIntermediateResult fetchIntermediateResult =
       FetchIntermediateResult.WHEN_RESULT_REQUESTED;
 
+  @XmlElement(defaultValue = "false")
+  protected Boolean fetchColumnarResult = false;
+
   @XmlElement(defaultValue = "false")
   protected Boolean transformAnsiJoinToTableLists = false;
 
@@ -258,6 +261,15 @@ public class Settings extends SettingsBase implements Serializable, Cloneable, X
   @XmlElement(defaultValue = "true")
   protected Boolean executeLogging = true;
 
+  @XmlElement(defaultValue = "false")
+  protected Boolean diagnosticsAsync = false;
+
+  @XmlElement(defaultValue = "1")
+  protected Integer diagnosticsAsyncSampleRate = 1;
+
+  @XmlElement(defaultValue = "4096")
+  protected Integer diagnosticsAsyncBufferSize = 4096;
+
   @XmlElement(defaultValue = "true")
   protected Boolean updateRecordVersion = true;
 
@@ -286,9 +298,15 @@ public class Settings extends SettingsBase implements Serializable, Cloneable, X
   @XmlElement(defaultValue = "true")
   protected Boolean reflectionCaching = true;
 
+  @XmlElement(defaultValue = "8192")
+  protected Integer reflectionCachingLRUCacheSize = 8192;
+
   @XmlElement(defaultValue = "true")
   protected Boolean cacheRecordMappers = true;
 
+  @XmlElement(defaultValue = "8192")
+  protected Integer cacheRecordMappersLRUCacheSize = 8192;
+
   @XmlElement(defaultValue = "true")
   protected Boolean cacheParsingConnection = true;
 
@@ -298,6 +316,12 @@ public class Settings extends SettingsBase implements Serializable, Cloneable, X
   @XmlElement(defaultValue = "true")
   protected Boolean cachePreparedStatementInLoader = true;
 
+  @XmlElement(defaultValue = "false")
+  protected Boolean cachePreparedStatements = false;
+
+  @XmlElement(defaultValue = "64")
+  protected Integer cachePreparedStatementsLRUCacheSize = 64;
+
   @XmlElement(defaultValue = "THROW_ALL")
   @XmlSchemaType(name = "string")
   protected ThrowExceptions throwExceptions = ThrowExceptions.THROW_ALL;
@@ -345,6 +369,12 @@ public class Settings extends SettingsBase implements Serializable, Cloneable, X
   @XmlElement(defaultValue = "0")
   protected Integer fetchSize = 0;
 
+  @XmlElement(defaultValue = "256")
+  protected Integer r2dbcPrefetch = 256;
+
+  @XmlElement(defaultValue = "64")
+  protected Integer r2dbcLowTide = 64;
+
   @XmlElement(defaultValue = "2147483647")
   protected Integer batchSize = 2147483647;
 
@@ -1174,6 +1204,26 @@ public class Settings extends SettingsBase implements Serializable, Cloneable, X
     this.fetchIntermediateResult = value;
   }
 
+  /**
+   * Whether ResultQuery.fetch() should produce read-only, columnar results, like
+   * ResultQuery.fetchColumnar(). Records of such results are created only on access, and
+   * modifications to them are not written back to the result.
+   *
+   * @return possible object is {@link Boolean }
+   */
+  public Boolean isFetchColumnarResult() {
+    return fetchColumnarResult;
+  }
+
+  /**
+   * Sets the value of the fetchColumnarResult property.
+   *
+   * @param value allowed object is {@link Boolean }
+   */
+  public void setFetchColumnarResult(Boolean value) {
+    this.fetchColumnarResult = value;
+  }
+
   /**
    * Transform ANSI join to table lists if possible.
    *
@@ -1594,6 +1644,59 @@ public class Settings extends SettingsBase implements Serializable, Cloneable, X
     this.executeLogging = value;
   }
 
+  /**
+   * Whether the diagnostics of a diagnostics connection (see DSLContext.diagnosticsConnection())
+   * should be analysed asynchronously. If enabled, executed SQL strings are only put into a bounded
+   * buffer, from which they are analysed by a background thread. SQL strings are dropped when the
+   * buffer is full.
+   *
+   * @return possible object is {@link Boolean }
+   */
+  public Boolean isDiagnosticsAsync() {
+    return diagnosticsAsync;
+  }
+
+  /**
+   * Sets the value of the diagnosticsAsync property.
+   *
+   * @param value allowed object is {@link Boolean }
+   */
+  public void setDiagnosticsAsync(Boolean value) {
+    this.diagnosticsAsync = value;
+  }
+
+  /**
+   * The average number of executed SQL strings per SQL string that is analysed, if diagnosticsAsync
+   * is enabled. The default is to analyse all SQL strings.
+   */
+  public Integer getDiagnosticsAsyncSampleRate() {
+    return diagnosticsAsyncSampleRate;
+  }
+
+  /**
+   * The average number of executed SQL strings per SQL string that is analysed, if diagnosticsAsync
+   * is enabled. The default is to analyse all SQL strings.
+   */
+  public void setDiagnosticsAsyncSampleRate(Integer value) {
+    this.diagnosticsAsyncSampleRate = value;
+  }
+
+  /**
+   * The number of executed SQL strings that can be buffered for analysis, if diagnosticsAsync is
+   * enabled.
+   */
+  public Integer getDiagnosticsAsyncBufferSize() {
+    return diagnosticsAsyncBufferSize;
+  }
+
+  /**
+   * The number of executed SQL strings that can be buffered for analysis, if diagnosticsAsync is
+   * enabled.
+   */
+  public void setDiagnosticsAsyncBufferSize(Integer value) {
+    this.diagnosticsAsyncBufferSize = value;
+  }
+
   /**
    * Whether store(), insert(), and update() methods should update the record version prior to the
    * operation, for use with {@link #executeWithOptimisticLocking}.
@@ -1766,6 +1869,16 @@ public class Settings extends SettingsBase implements Serializable, Cloneable, X
     this.reflectionCaching = value;
   }
 
+  /** The default implementation of the reflection caches' maximum size, per cache type. */
+  public Integer getReflectionCachingLRUCacheSize() {
+    return reflectionCachingLRUCacheSize;
+  }
+
+  /** The default implementation of the reflection caches' maximum size, per cache type. */
+  public void setReflectionCachingLRUCacheSize(Integer value) {
+    this.reflectionCachingLRUCacheSize = value;
+  }
+
   /**
    * Whether record mappers should be cached in the configuration.
    *
@@ -1784,6 +1897,16 @@ public class Settings extends SettingsBase implements Serializable, Cloneable, X
     this.cacheRecordMappers = value;
   }
 
+  /** The default implementation of the record mapper cache's maximum size. */
+  public Integer getCacheRecordMappersLRUCacheSize() {
+    return cacheRecordMappersLRUCacheSize;
+  }
+
+  /** The default implementation of the record mapper cache's maximum size. */
+  public void setCacheRecordMappersLRUCacheSize(Integer value) {
+    this.cacheRecordMappersLRUCacheSize = value;
+  }
+
   /**
    * Whether parsing connection translations should be cached in the configuration.
    *
@@ -1830,6 +1953,42 @@ public class Settings extends SettingsBase implements Serializable, Cloneable, X
     this.cachePreparedStatementInLoader = value;
   }
 
+  /**
+   * Whether JDBC PreparedStatements should be cached per JDBC Connection by jOOQ, and reused when
+   * the same SQL string is executed again on the same Connection. This is useful with JDBC drivers
+   * that ignore Statement.setPoolable() and do not cache statements themselves.
+   *
+   * @return possible object is {@link Boolean }
+   */
+  public Boolean isCachePreparedStatements() {
+    return cachePreparedStatements;
+  }
+
+  /**
+   * Sets the value of the cachePreparedStatements property.
+   *
+   * @param value allowed object is {@link Boolean }
+   */
+  public void setCachePreparedStatements(Boolean value) {
+    this.cachePreparedStatements = value;
+  }
+
+  /**
+   * The maximum number of idle PreparedStatements cached per JDBC Connection, if
+   * cachePreparedStatements is enabled.
+   */
+  public Integer getCachePreparedStatementsLRUCacheSize() {
+    return cachePreparedStatementsLRUCacheSize;
+  }
+
+  /**
+   * The maximum number of idle PreparedStatements cached per JDBC Connection, if
+   * cachePreparedStatements is enabled.
+   */
+  public void setCachePreparedStatementsLRUCacheSize(Integer value) {
+    this.cachePreparedStatementsLRUCacheSize = value;
+  }
+
   /** A strategy defining how exceptions from the database / JDBC driver should be propagated */
   public ThrowExceptions getThrowExceptions() {
     return throwExceptions;
@@ -2087,6 +2246,44 @@ public class Settings extends SettingsBase implements Serializable, Cloneable, X
     this.fetchSize = value;
   }
 
+  /**
+   * The maximum number of rows that are requested at once from an R2DBC result, when a reactive
+   * query is subscribed to. Rows are only requested when the downstream subscriber has requested
+   * them, so this also bounds the number of rows that the R2DBC driver is asked to produce ahead of
+   * consumption.
+   */
+  public Integer getR2dbcPrefetch() {
+    return r2dbcPrefetch;
+  }
+
+  /**
+   * The maximum number of rows that are requested at once from an R2DBC result, when a reactive
+   * query is subscribed to. Rows are only requested when the downstream subscriber has requested
+   * them, so this also bounds the number of rows that the R2DBC driver is asked to produce ahead of
+   * consumption.
+   */
+  public void setR2dbcPrefetch(Integer value) {
+    this.r2dbcPrefetch = value;
+  }
+
+  /**
+   * The number of requested, but not yet received R2DBC rows below which more rows are requested
+   * from the R2DBC result, up to r2dbcPrefetch. Setting this to 0 requests the next batch only once
+   * the previous one has been received entirely.
+   */
+  public Integer getR2dbcLowTide() {
+    return r2dbcLowTide;
+  }
+
+  /**
+   * The number of requested, but not yet received R2DBC rows below which more rows are requested
+   * from the R2DBC result, up to r2dbcPrefetch. Setting this to 0 requests the next batch only once
+   * the previous one has been received entirely.
+   */
+  public void setR2dbcLowTide(Integer value) {
+    this.r2dbcLowTide = value;
+  }
+
   /**
    * A property specifying a batch size that should be applied to all automatically created {@link
    * org.jooq.tools.jdbc.BatchedConnection} instances.
@@ -2991,6 +3188,11 @@ public class Settings extends SettingsBase implements Serializable, Cloneable, X
     return this;
   }
 
+  public Settings withFetchColumnarResult(Boolean value) {
+    setFetchColumnarResult(value);
+    return this;
+  }
+
   public Settings withTransformAnsiJoinToTableLists(Boolean value) {
     setTransformAnsiJoinToTableLists(value);
     return this;
@@ -3199,6 +3401,29 @@ public class Settings extends SettingsBase implements Serializable, Cloneable, X
     return this;
   }
 
+  public Settings withDiagnosticsAsync(Boolean value) {
+    setDiagnosticsAsync(value);
+    return this;
+  }
+
+  /**
+   * The average number of executed SQL strings per SQL string that is analysed, if diagnosticsAsync
+   * is enabled. The default is to analyse all SQL strings.
+   */
+  public Settings withDiagnosticsAsyncSampleRate(Integer value) {
+    setDiagnosticsAsyncSampleRate(value);
+    return this;
+  }
+
+  /**
+   * The number of executed SQL strings that can be buffered for analysis, if diagnosticsAsync is
+   * enabled.
+   */
+  public Settings withDiagnosticsAsyncBufferSize(Integer value) {
+    setDiagnosticsAsyncBufferSize(value);
+    return this;
+  }
+
   public Settings withUpdateRecordVersion(Boolean value) {
     setUpdateRecordVersion(value);
     return this;
@@ -3249,11 +3474,23 @@ public class Settings extends SettingsBase implements Serializable, Cloneable, X
     return this;
   }
 
+  /** The default implementation of the reflection caches' maximum size, per cache type. */
+  public Settings withReflectionCachingLRUCacheSize(Integer value) {
+    setReflectionCachingLRUCacheSize(value);
+    return this;
+  }
+
   public Settings withCacheRecordMappers(Boolean value) {
     setCacheRecordMappers(value);
     return this;
   }
 
+  /** The default implementation of the record mapper cache's maximum size. */
+  public Settings withCacheRecordMappersLRUCacheSize(Integer value) {
+    setCacheRecordMappersLRUCacheSize(value);
+    return this;
+  }
+
   public Settings withCacheParsingConnection(Boolean value) {
     setCacheParsingConnection(value);
     return this;
@@ -3270,6 +3507,20 @@ public class Settings extends SettingsBase implements Serializable, Cloneable, X
     return this;
   }
 
+  public Settings withCachePreparedStatements(Boolean value) {
+    setCachePreparedStatements(value);
+    return this;
+  }
+
+  /**
+   * The maximum number of idle PreparedStatements cached per JDBC Connection, if
+   * cachePreparedStatements is enabled.
+   */
+  public Settings withCachePreparedStatementsLRUCacheSize(Integer value) {
+    setCachePreparedStatementsLRUCacheSize(value);
+    return this;
+  }
+
   /** A strategy defining how exceptions from the database / JDBC driver should be propagated */
   public Settings withThrowExceptions(ThrowExceptions value) {
     setThrowExceptions(value);
@@ -3363,6 +3614,27 @@ public class Settings extends SettingsBase implements Serializable, Cloneable, X
     return this;
   }
 
+  /**
+   * The maximum number of rows that are requested at once from an R2DBC result, when a reactive
+   * query is subscribed to. Rows are only requested when the downstream subscriber has requested
+   * them, so this also bounds the number of rows that the R2DBC driver is asked to produce ahead of
+   * consumption.
+   */
+  public Settings withR2dbcPrefetch(Integer value) {
+    setR2dbcPrefetch(value);
+    return this;
+  }
+
+  /**
+   * The number of requested, but not yet received R2DBC rows below which more rows are requested
+   * from the R2DBC result, up to r2dbcPrefetch. Setting this to 0 requests the next batch only once
+   * the previous one has been received entirely.
+   */
+  public Settings withR2dbcLowTide(Integer value) {
+    setR2dbcLowTide(value);
+    return this;
+  }
+
   /**
    * A property specifying a batch size that should be applied to all automatically created {@link
    * org.jooq.tools.jdbc.BatchedConnection} instances.
@@ -3725,6 +3997,7 @@ public class Settings extends SettingsBase implements Serializable, Cloneable, X
     builder.append(
         "fetchTriggerValuesAfterSQLServerOutput", fetchTriggerValuesAfterSQLServerOutput);
     builder.append("fetchIntermediateResult", fetchIntermediateResult);
+    builder.append("fetchColumnarResult", fetchColumnarResult);
     builder.append("transformAnsiJoinToTableLists", transformAnsiJoinToTableLists);
     builder.append(
         "transformInConditionSubqueryWithLimitToDerivedTable",
@@ -3751,6 +4024,9 @@ public class Settings extends SettingsBase implements Serializable, Cloneable, X
     builder.append("executeListenerStartInvocationOrder", executeListenerStartInvocationOrder);
     builder.append("executeListenerEndInvocationOrder", executeListenerEndInvocationOrder);
     builder.append("executeLogging", executeLogging);
+    builder.append("diagnosticsAsync", diagnosticsAsync);
+    builder.append("diagnosticsAsyncSampleRate", diagnosticsAsyncSampleRate);
+    builder.append("diagnosticsAsyncBufferSize", diagnosticsAsyncBufferSize);
     builder.append("updateRecordVersion", updateRecordVersion);
     builder.append("updateRecordTimestamp", updateRecordTimestamp);
     builder.append("executeWithOptimisticLocking", executeWithOptimisticLocking);
@@ -3762,10 +4038,14 @@ public class Settings extends SettingsBase implements Serializable, Cloneable, X
     builder.append("updateUnchangedRecords", updateUnchangedRecords);
     builder.append("updatablePrimaryKeys", updatablePrimaryKeys);
     builder.append("reflectionCaching", reflectionCaching);
+    builder.append("reflectionCachingLRUCacheSize", reflectionCachingLRUCacheSize);
     builder.append("cacheRecordMappers", cacheRecordMappers);
+    builder.append("cacheRecordMappersLRUCacheSize", cacheRecordMappersLRUCacheSize);
     builder.append("cacheParsingConnection", cacheParsingConnection);
     builder.append("cacheParsingConnectionLRUCacheSize", cacheParsingConnectionLRUCacheSize);
     builder.append("cachePreparedStatementInLoader", cachePreparedStatementInLoader);
+    builder.append("cachePreparedStatements", cachePreparedStatements);
+    builder.append("cachePreparedStatementsLRUCacheSize", cachePreparedStatementsLRUCacheSize);
     builder.append("throwExceptions", throwExceptions);
     builder.append("fetchWarnings", fetchWarnings);
     builder.append("fetchServerOutputSize", fetchServerOutputSize);
@@ -3782,6 +4062,8 @@ public class Settings extends SettingsBase implements Serializable, Cloneable, X
     builder.append("queryTimeout", queryTimeout);
     builder.append("maxRows", maxRows);
     builder.append("fetchSize", fetchSize);
+    builder.append("r2dbcPrefetch", r2dbcPrefetch);
+    builder.append("r2dbcLowTide", r2dbcLowTide);
     builder.append("batchSize", batchSize);
     builder.append("debugInfoOnStackTrace", debugInfoOnStackTrace);
     builder.append("inListPadding", inListPadding);
@@ -4135,6 +4417,15 @@ public class Settings extends SettingsBase implements Serializable, Cloneable, X
         return false;
       }
     }
+    if (fetchColumnarResult == null) {
+      if (other.fetchColumnarResult != null) {
+        return false;
+      }
+    } else {
+      if (!fetchColumnarResult.equals(other.fetchColumnarResult)) {
+        return false;
+      }
+    }
     if (transformAnsiJoinToTableLists == null) {
       if (other.transformAnsiJoinToTableLists != null) {
         return false;
@@ -4338,6 +4629,33 @@ public class Settings extends SettingsBase implements Serializable, Cloneable, X
         return false;
       }
     }
+    if (diagnosticsAsync == null) {
+      if (other.diagnosticsAsync != null) {
+        return false;
+      }
+    } else {
+      if (!diagnosticsAsync.equals(other.diagnosticsAsync)) {
+        return false;
+      }
+    }
+    if (diagnosticsAsyncSampleRate == null) {
+      if (other.diagnosticsAsyncSampleRate != null) {
+        return false;
+      }
+    } else {
+      if (!diagnosticsAsyncSampleRate.equals(other.diagnosticsAsyncSampleRate)) {
+        return false;
+      }
+    }
+    if (diagnosticsAsyncBufferSize == null) {
+      if (other.diagnosticsAsyncBufferSize != null) {
+        return false;
+      }
+    } else {
+      if (!diagnosticsAsyncBufferSize.equals(other.diagnosticsAsyncBufferSize)) {
+        return false;
+      }
+    }
     if (updateRecordVersion == null) {
       if (other.updateRecordVersion != null) {
         return false;
@@ -4420,6 +4738,15 @@ public class Settings extends SettingsBase implements Serializable, Cloneable, X
         return false;
       }
     }
+    if (reflectionCachingLRUCacheSize == null) {
+      if (other.reflectionCachingLRUCacheSize != null) {
+        return false;
+      }
+    } else {
+      if (!reflectionCachingLRUCacheSize.equals(other.reflectionCachingLRUCacheSize)) {
+        return false;
+      }
+    }
     if (cacheRecordMappers == null) {
       if (other.cacheRecordMappers != null) {
         return false;
@@ -4429,6 +4756,15 @@ public class Settings extends SettingsBase implements Serializable, Cloneable, X
         return false;
       }
     }
+    if (cacheRecordMappersLRUCacheSize == null) {
+      if (other.cacheRecordMappersLRUCacheSize != null) {
+        return false;
+      }
+    } else {
+      if (!cacheRecordMappersLRUCacheSize.equals(other.cacheRecordMappersLRUCacheSize)) {
+        return false;
+      }
+    }
     if (cacheParsingConnection == null) {
       if (other.cacheParsingConnection != null) {
         return false;
@@ -4456,6 +4792,24 @@ public class Settings extends SettingsBase implements Serializable, Cloneable, X
         return false;
       }
     }
+    if (cachePreparedStatements == null) {
+      if (other.cachePreparedStatements != null) {
+        return false;
+      }
+    } else {
+      if (!cachePreparedStatements.equals(other.cachePreparedStatements)) {
+        return false;
+      }
+    }
+    if (cachePreparedStatementsLRUCacheSize == null) {
+      if (other.cachePreparedStatementsLRUCacheSize != null) {
+        return false;
+      }
+    } else {
+      if (!cachePreparedStatementsLRUCacheSize.equals(other.cachePreparedStatementsLRUCacheSize)) {
+        return false;
+      }
+    }
     if (throwExceptions == null) {
       if (other.throwExceptions != null) {
         return false;
@@ -4593,6 +4947,24 @@ public class Settings extends SettingsBase implements Serializable, Cloneable, X
         return false;
       }
     }
+    if (r2dbcPrefetch == null) {
+      if (other.r2dbcPrefetch != null) {
+        return false;
+      }
+    } else {
+      if (!r2dbcPrefetch.equals(other.r2dbcPrefetch)) {
+        return false;
+      }
+    }
+    if (r2dbcLowTide == null) {
+      if (other.r2dbcLowTide != null) {
+        return false;
+      }
+    } else {
+      if (!r2dbcLowTide.equals(other.r2dbcLowTide)) {
+        return false;
+      }
+    }
     if (batchSize == null) {
       if (other.batchSize != null) {
         return false;
@@ -5053,6 +5425,8 @@ public class Settings extends SettingsBase implements Serializable, Cloneable, X
     result =
         ((prime * result)
             + ((fetchIntermediateResult == null) ? 0 : fetchIntermediateResult.hashCode()));
+    result =
+        ((prime * result) + ((fetchColumnarResult == null) ? 0 : fetchColumnarResult.hashCode()));
     result =
         ((prime * result)
             + ((transformAnsiJoinToTableLists == null)
@@ -5131,6 +5505,13 @@ public class Settings extends SettingsBase implements Serializable, Cloneable, X
                 ? 0
                 : executeListenerEndInvocationOrder.hashCode()));
     result = ((prime * result) + ((executeLogging == null) ? 0 : executeLogging.hashCode()));
+    result = ((prime * result) + ((diagnosticsAsync == null) ? 0 : diagnosticsAsync.hashCode()));
+    result =
+        ((prime * result)
+            + ((diagnosticsAsyncSampleRate == null) ? 0 : diagnosticsAsyncSampleRate.hashCode()));
+    result =
+        ((prime * result)
+            + ((diagnosticsAsyncBufferSize == null) ? 0 : diagnosticsAsyncBufferSize.hashCode()));
     result =
         ((prime * result) + ((updateRecordVersion == null) ? 0 : updateRecordVersion.hashCode()));
     result =
@@ -5156,8 +5537,14 @@ public class Settings extends SettingsBase implements Serializable, Cloneable, X
     result =
         ((prime * result) + ((updatablePrimaryKeys == null) ? 0 : updatablePrimaryKeys.hashCode()));
     result = ((prime * result) + ((reflectionCaching == null) ? 0 : reflectionCaching.hashCode()));
+    result =
+        ((prime * result)
+            + ((reflectionCachingLRUCacheSize == null) ? 0 : reflectionCachingLRUCacheSize.hashCode()));
     result =
         ((prime * result) + ((cacheRecordMappers == null) ? 0 : cacheRecordMappers.hashCode()));
+    result =
+        ((prime * result)
+            + ((cacheRecordMappersLRUCacheSize == null) ? 0 : cacheRecordMappersLRUCacheSize.hashCode()));
     result =
         ((prime * result)
             + ((cacheParsingConnection == null) ? 0 : cacheParsingConnection.hashCode()));
@@ -5171,6 +5558,14 @@ public class Settings extends SettingsBase implements Serializable, Cloneable, X
             + ((cachePreparedStatementInLoader == null)
                 ? 0
                 : cachePreparedStatementInLoader.hashCode()));
+    result =
+        ((prime * result)
+            + ((cachePreparedStatements == null) ? 0 : cachePreparedStatements.hashCode()));
+    result =
+        ((prime * result)
+            + ((cachePreparedStatementsLRUCacheSize == null)
+                ? 0
+                : cachePreparedStatementsLRUCacheSize.hashCode()));
     result = ((prime * result) + ((throwExceptions == null) ? 0 : throwExceptions.hashCode()));
     result = ((prime * result) + ((fetchWarnings == null) ? 0 : fetchWarnings.hashCode()));
     result =
@@ -5211,6 +5606,8 @@ public class Settings extends SettingsBase implements Serializable, Cloneable, X
     result = ((prime * result) + ((queryTimeout == null) ? 0 : queryTimeout.hashCode()));
     result = ((prime * result) + ((maxRows == null) ? 0 : maxRows.hashCode()));
     result = ((prime * result) + ((fetchSize == null) ? 0 : fetchSize.hashCode()));
+    result = ((prime * result) + ((r2dbcPrefetch == null) ? 0 : r2dbcPrefetch.hashCode()));
+    result = ((prime * result) + ((r2dbcLowTide == null) ? 0 : r2dbcLowTide.hashCode()));
     result = ((prime * result) + ((batchSize == null) ? 0 : batchSize.hashCode()));
     result =
         ((prime * result)
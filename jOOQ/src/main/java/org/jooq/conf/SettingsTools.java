@@ -370,6 +370,20 @@ public final class SettingsTools {
         : settings.getFetchSize() != null ? settings.getFetchSize() : 0;
   }
 
+  /** Return the specified {@link Settings#getR2dbcPrefetch()}, which is at least <code>1</code>. */
+  public static final int getR2dbcPrefetch(Settings settings) {
+    return settings.getR2dbcPrefetch() != null ? Math.max(1, settings.getR2dbcPrefetch()) : 256;
+  }
+
+  /**
+   * Return the specified {@link Settings#getR2dbcLowTide()}, which is between <code>0</code> and
+   * {@link #getR2dbcPrefetch(Settings)} (exclusive).
+   */
+  public static final int getR2dbcLowTide(Settings settings) {
+    int lowTide = settings.getR2dbcLowTide() != null ? settings.getR2dbcLowTide() : 64;
+    return Math.max(0, Math.min(lowTide, getR2dbcPrefetch(settings) - 1));
+  }
+
   /** Return the specified {@link Settings#getBatchSize()}. */
   public static final int getBatchSize(Settings settings) {
     return settings.getBatchSize() != null ? settings.getBatchSize() : 0;
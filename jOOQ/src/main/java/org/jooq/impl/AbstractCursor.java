@@ -41,6 +41,7 @@ import java.util.List;
 import org.java.util.Optional;
 import org.java.util.Spliterator;
 import org.java.util.Spliterators;
+import org.java.util.function.Consumer;
 import org.java.util.stream.Collector;
 import org.java.util.stream.Stream;
 import org.java.util.stream.StreamSupport;
@@ -68,6 +69,11 @@ abstract class AbstractCursor<R extends Record> extends AbstractResult<R> implem
         .onClose(() -> close());
   }
 
+  @Override
+  public void forEachReused(Consumer<? super R> action) {
+    for (R record : this) action.accept(record);
+  }
+
   @Override
   public final <X, A> X collect(Collector<? super R, A, X> collector) {
     return stream().collect(collector);
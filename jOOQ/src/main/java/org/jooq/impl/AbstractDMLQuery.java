@@ -537,8 +537,7 @@ abstract class AbstractDMLQuery<R extends Record> extends AbstractRowCountQuery
                     Tools.newRecord(true, AbstractRecord.class, fields, originalConfiguration)
                         .operate(
                             record -> {
-                              record.values[0] = id;
-                              record.originals[0] = id;
+                              record.set0(0, id, id);
                               return record;
                             }));
           }
@@ -119,9 +119,16 @@ abstract class AbstractRecord extends AbstractStore implements Record {
 
   final Object[] values;
 
-  final Object[] originals;
+  /**
+   * The original values, or <code>null</code> if they are the same as {@link #values}.
+   *
+   * <p>Most fetched records are never modified, so the originals are allocated lazily, as a copy of
+   * the values, before the first modification of {@link #values}.
+   */
+  Object[] originals;
 
-  final BitSet changed;
+  /** The changed flags, or <code>null</code> if no flag has been set yet. */
+  BitSet changed;
 
   boolean fetched;
 
@@ -139,8 +146,44 @@ abstract class AbstractRecord extends AbstractStore implements Record {
     int size = fields.size();
     this.fields = (AbstractRow<? extends AbstractRecord>) fields;
     this.values = new Object[size];
-    this.originals = new Object[size];
-    this.changed = new BitSet(size);
+  }
+
+  // -------------------------------------------------------------------------
+  // XXX: Copy-on-write originals and lazy changed flags
+  // -------------------------------------------------------------------------
+
+  /** Allocate the originals array, if needed, prior to modifying {@link #values}. */
+  final Object[] copyOnWriteOriginals() {
+    if (originals == null) originals = values.clone();
+    return originals;
+  }
+
+  /** Get an original value without allocating the originals array. */
+  final Object original0(int index) {
+    return originals == null ? values[index] : originals[index];
+  }
+
+  /**
+   * Set a value and its original value, allocating the originals array only if they are not the
+   * same.
+   */
+  final void set0(int index, Object value, Object original) {
+    if (originals == null && value != original) copyOnWriteOriginals();
+    values[index] = value;
+    if (originals != null) originals[index] = original;
+  }
+
+  /** Get a changed flag without allocating the changed flags. */
+  final boolean changed0(int index) {
+    return changed != null && changed.get(index);
+  }
+
+  /** Set a changed flag, allocating the changed flags only if needed. */
+  final void changed0(int index, boolean c) {
+    if (c) {
+      if (changed == null) changed = new BitSet(values.length);
+      changed.set(index);
+    } else if (changed != null) changed.clear(index);
   }
 
   // ------------------------------------------------------------------------
@@ -410,26 +453,27 @@ abstract class AbstractRecord extends AbstractStore implements Record {
     UniqueKey<?> key = getPrimaryKey();
     // Normal fields' changed flag is always set to true
     if (key == null || !key.getFields().contains(field)) {
-      changed.set(index);
+      changed0(index, true);
     } else // The primary key's changed flag might've been set previously
-    if (changed.get(index)) {
-      changed.set(index);
+    if (changed0(index)) {
+      changed0(index, true);
     } else // [#2764] Users may override updatability of primary key values
     if (updatablePrimaryKeys(settings(this))) {
-      changed.set(index);
+      changed0(index, true);
     } else // [#2698] If the primary key has not yet been set
-    if (originals[index] == null) {
-      changed.set(index);
+    if (original0(index) == null) {
+      changed0(index, true);
     } else // [#979] If the primary key is being changed, all other fields' flags
     // need to be set to true for in case this record is stored again, an
     // INSERT statement will thus be issued
     {
       // [#945] Be sure that changed is never reset to false
-      changed.set(index, changed.get(index) || !StringUtils.equals(values[index], value));
-      if (changed.get(index)) {
+      changed0(index, changed0(index) || !StringUtils.equals(values[index], value));
+      if (changed0(index)) {
         changed(true);
       }
     }
+    copyOnWriteOriginals();
     values[index] = value;
   }
 
@@ -459,9 +503,8 @@ abstract class AbstractRecord extends AbstractStore implements Record {
     for (Field<?> field : fields) {
       int targetIndex = indexOrFail(this.fields, field);
       int sourceIndex = indexOrFail(record.fields, field);
-      values[targetIndex] = record.get(sourceIndex);
-      originals[targetIndex] = record.original(sourceIndex);
-      changed.set(targetIndex, record.changed(sourceIndex));
+      set0(targetIndex, record.get(sourceIndex), record.original(sourceIndex));
+      changed0(targetIndex, record.changed(sourceIndex));
     }
   }
 
@@ -469,7 +512,7 @@ abstract class AbstractRecord extends AbstractStore implements Record {
     safeIndex(fieldIndex);
     if (field(fieldIndex).getType() == String.class) {
       values[fieldIndex] = intern((String) values[fieldIndex]);
-      originals[fieldIndex] = intern((String) originals[fieldIndex]);
+      if (originals != null) originals[fieldIndex] = intern((String) originals[fieldIndex]);
     }
   }
 
@@ -495,8 +538,7 @@ abstract class AbstractRecord extends AbstractStore implements Record {
     return Tools.newRecord(fetched, (Class<AbstractRecord>) getClass(), fields, configuration())
         .operate(
             record -> {
-              for (int i = 0; i < originals.length; i++)
-                record.values[i] = record.originals[i] = originals[i];
+              for (int i = 0; i < values.length; i++) record.values[i] = original0(i);
               return record;
             });
   }
@@ -508,7 +550,7 @@ abstract class AbstractRecord extends AbstractStore implements Record {
 
   @Override
   public final Object original(int fieldIndex) {
-    return originals[safeIndex(fieldIndex)];
+    return original0(safeIndex(fieldIndex));
   }
 
   @Override
@@ -523,7 +565,7 @@ abstract class AbstractRecord extends AbstractStore implements Record {
 
   @Override
   public final boolean changed() {
-    return !changed.isEmpty();
+    return changed != null && !changed.isEmpty();
   }
 
   @Override
@@ -533,7 +575,7 @@ abstract class AbstractRecord extends AbstractStore implements Record {
 
   @Override
   public final boolean changed(int fieldIndex) {
-    return changed.get(safeIndex(fieldIndex));
+    return changed0(safeIndex(fieldIndex));
   }
 
   @Override
@@ -548,11 +590,15 @@ abstract class AbstractRecord extends AbstractStore implements Record {
 
   @Override
   public final void changed(boolean c) {
-    changed.set(0, values.length, c);
+    if (c) {
+      if (changed == null) changed = new BitSet(values.length);
+      changed.set(0, values.length);
+    }
     // [#1995] If a value is meant to be "unchanged", the "original" should
     // match the supposedly "unchanged" value.
-    if (!c) {
-      System.arraycopy(values, 0, originals, 0, values.length);
+    else {
+      changed = null;
+      originals = null;
     }
   }
 
@@ -564,10 +610,10 @@ abstract class AbstractRecord extends AbstractStore implements Record {
   @Override
   public final void changed(int fieldIndex, boolean c) {
     safeIndex(fieldIndex);
-    changed.set(fieldIndex, c);
+    changed0(fieldIndex, c);
     // [#1995] If a value is meant to be "unchanged", the "original" should
     // match the supposedly "unchanged" value.
-    if (!c) originals[fieldIndex] = values[fieldIndex];
+    if (!c && originals != null) originals[fieldIndex] = values[fieldIndex];
   }
 
   @Override
@@ -582,8 +628,11 @@ abstract class AbstractRecord extends AbstractStore implements Record {
 
   @Override
   public final void reset() {
-    changed.clear();
-    System.arraycopy(originals, 0, values, 0, originals.length);
+    changed = null;
+    if (originals != null) {
+      System.arraycopy(originals, 0, values, 0, originals.length);
+      originals = null;
+    }
   }
 
   @Override
@@ -594,8 +643,8 @@ abstract class AbstractRecord extends AbstractStore implements Record {
   @Override
   public final void reset(int fieldIndex) {
     safeIndex(fieldIndex);
-    changed.clear(fieldIndex);
-    values[fieldIndex] = originals[fieldIndex];
+    changed0(fieldIndex, false);
+    values[fieldIndex] = original0(fieldIndex);
   }
 
   @Override
@@ -1259,9 +1308,12 @@ abstract class AbstractRecord extends AbstractStore implements Record {
             int sourceIndex = fields.indexOf(targetField);
             if (sourceIndex >= 0) {
               DataType<?> targetType = targetField.getDataType();
-              t.values[targetIndex] = targetType.convert(values[sourceIndex]);
-              t.originals[targetIndex] = targetType.convert(originals[sourceIndex]);
-              t.changed.set(targetIndex, changed.get(sourceIndex));
+              Object value = targetType.convert(values[sourceIndex]);
+              t.set0(
+                  targetIndex,
+                  value,
+                  originals == null ? value : targetType.convert(originals[sourceIndex]));
+              t.changed0(targetIndex, changed0(sourceIndex));
             }
           }
         } else {
@@ -39,6 +39,7 @@ package org.jooq.impl;
 
 // ...
 // ...
+import static java.lang.Boolean.TRUE;
 import static org.jooq.SQLDialect.POSTGRES;
 import static org.jooq.impl.DSL.name;
 import static org.jooq.impl.Tools.consumeResultSets;
@@ -98,6 +99,8 @@ abstract class AbstractResultQuery<R extends Record> extends AbstractQuery<R>
 
   private transient boolean many;
 
+  private transient boolean columnar;
+
   private transient Cursor<R> cursor;
 
   private transient boolean autoclosing = true;
@@ -278,7 +281,10 @@ abstract class AbstractResultQuery<R extends Record> extends AbstractQuery<R>
               SettingsTools.getMaxRows(maxRows, ctx.settings()),
               autoclosing);
       if (!lazy) {
-        result = cursor.fetch();
+        result =
+            columnar || TRUE.equals(ctx.settings().isFetchColumnarResult())
+                ? ((CursorImpl<R>) cursor).fetchColumnar()
+                : cursor.fetch();
         cursor = null;
       }
     } else // Fetch several result sets
@@ -304,6 +310,18 @@ abstract class AbstractResultQuery<R extends Record> extends AbstractQuery<R>
     return result;
   }
 
+  @Override
+  public final Result<R> fetchColumnar() {
+    // [#3515] TODO: Avoid modifying a Query's per-execution state
+    columnar = true;
+    try {
+      execute();
+    } finally {
+      columnar = false;
+    }
+    return result;
+  }
+
   @Override
   public final Cursor<R> fetchLazy() {
     // [#3515] TODO: Avoid modifying a Query's per-execution state
@@ -37,17 +37,27 @@
  */
 package org.jooq.impl;
 
+import static java.lang.Boolean.TRUE;
 import static org.jooq.conf.SettingsTools.executeStaticStatements;
+import static org.jooq.conf.SettingsTools.updatablePrimaryKeys;
 import static org.jooq.impl.Tools.BooleanDataKey.DATA_OMIT_RETURNING_CLAUSE;
+import static org.jooq.impl.Tools.settings;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import org.jooq.BatchBindStep;
 import org.jooq.Configuration;
 import org.jooq.ExecuteContext;
+import org.jooq.Field;
 import org.jooq.Query;
+import org.jooq.Table;
+import org.jooq.TableField;
 import org.jooq.TableRecord;
 import org.jooq.UpdatableRecord;
 import org.jooq.exception.ControlFlowSignal;
@@ -83,7 +93,10 @@ final class BatchCRUD extends AbstractBatch {
   }
 
   private final int[] executePrepared() {
-    Map<String, List<Query>> queries = new LinkedHashMap<>();
+    Map<String, BatchGroup> queries = new LinkedHashMap<>();
+    // Records of the same shape produce the same SQL, which needs to be rendered
+    // only once. The value is null for shapes that must always be rendered.
+    Map<Shape, BatchGroup> shapes = new HashMap<>();
     QueryCollector collector = new QueryCollector();
     // Add the QueryCollector to intercept query execution after rendering
     Configuration local = configuration.deriveAppending(collector);
@@ -91,16 +104,37 @@ final class BatchCRUD extends AbstractBatch {
     local.data(DATA_OMIT_RETURNING_CLAUSE, true);
     // [#1529] Avoid DEBUG logging of single INSERT / UPDATE statements
     local.settings().setExecuteLogging(false);
+    boolean shapesAllowed = shapesAllowed(local);
     for (int i = 0; i < records.length; i++) {
       Configuration previous = records[i].configuration();
+      Shape shape = null;
+      Object[] bindValues = null;
       try {
         records[i].attach(local);
+        shape = shapesAllowed ? shape(records[i]) : null;
+        if (shape != null) bindValues = bindValues((TableRecordImpl<?>) records[i], shape);
+        if (bindValues == null) shape = null;
+        else {
+          BatchGroup group = shapes.get(shape);
+          if (group != null) {
+            group.bindValues.add(bindValues);
+            continue;
+          }
+        }
         executeAction(i);
       } catch (QueryCollectorSignal e) {
         Query query = e.getQuery();
         String sql = e.getSQL();
         // Aggregate executable queries by identical SQL
-        if (query.isExecutable()) queries.computeIfAbsent(sql, s -> new ArrayList<>()).add(query);
+        if (query.isExecutable()) {
+          BatchGroup group = queries.computeIfAbsent(sql, s -> new BatchGroup(query));
+          Object[] rendered = query.getBindValues().toArray();
+          group.bindValues.add(rendered);
+          // Bind subsequent records of this shape without rendering, if the
+          // directly read bind values are the rendered ones
+          if (shape != null && !shapes.containsKey(shape))
+            shapes.put(shape, Arrays.deepEquals(bindValues, rendered) ? group : null);
+        }
       } finally {
         records[i].attach(previous);
       }
@@ -114,7 +148,7 @@ final class BatchCRUD extends AbstractBatch {
               + " records using "
               + queries.size()
               + " distinct queries (lower is better) with an average number of bind variable sets of "
-              + queries.values().stream().mapToInt(List::size).average().orElse(0.0)
+              + queries.values().stream().mapToInt(g -> g.bindValues.size()).average().orElse(0.0)
               + " (higher is better)");
     // Execute one batch statement for each identical SQL statement. Every
     // SQL statement may have several queries with different bind values.
@@ -122,8 +156,8 @@ final class BatchCRUD extends AbstractBatch {
     List<Integer> result = new ArrayList<>();
     queries.forEach(
         (k, v) -> {
-          BatchBindStep batch = dsl.batch(v.get(0));
-          for (Query query : v) batch.bind(query.getBindValues().toArray());
+          BatchBindStep batch = dsl.batch(v.query);
+          for (Object[] bindValues : v.bindValues) batch.bind(bindValues);
           int[] array = batch.execute();
           for (int i : array) result.add(i);
         });
@@ -133,6 +167,80 @@ final class BatchCRUD extends AbstractBatch {
     return array;
   }
 
+  /**
+   * Whether records may be bound to previously rendered statements of the same shape. Record
+   * listeners expect a lifecycle per record, and optimistic locking requires per record queries.
+   */
+  private static final boolean shapesAllowed(Configuration local) {
+    return local.recordListenerProviders().length == 0
+        && !TRUE.equals(local.settings().isExecuteWithOptimisticLocking());
+  }
+
+  /**
+   * The shape of the statement produced by a record, or <code>null</code> if the statement must be
+   * rendered.
+   */
+  private final Shape shape(TableRecord<?> record) {
+    if (!(record instanceof TableRecordImpl)) return null;
+
+    TableRecordImpl<?> r = (TableRecordImpl<?>) record;
+    Table<?> table = r.getTable();
+
+    // [#1596] Version and timestamp values are generated per record
+    if (table.getRecordVersion() != null || table.getRecordTimestamp() != null) return null;
+
+    Action a = action;
+    if (a == Action.STORE)
+      a = storeWithUpdate((UpdatableRecordImpl<?>) r) ? Action.UPDATE : Action.INSERT;
+
+    switch (a) {
+      case INSERT:
+      case UPDATE:
+        // Queries without changed values are handled by the record
+        return r.changed == null || r.changed.isEmpty()
+            ? null
+            : new Shape(a, table, (BitSet) r.changed.clone());
+      case DELETE:
+        return new Shape(a, table, null);
+      default:
+        return null;
+    }
+  }
+
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  private static final boolean storeWithUpdate(UpdatableRecordImpl<?> record) {
+    return record.storeWithUpdate(
+        (TableField[]) record.getTable().getPrimaryKey().getFieldsArray());
+  }
+
+  /**
+   * The bind values of a record's statement, read directly from the record in the order in which
+   * {@link TableRecordImpl} adds them to its query, or <code>null</code> if the statement must be
+   * rendered.
+   */
+  private static final Object[] bindValues(TableRecordImpl<?> record, Shape shape) {
+    List<Object> result = new ArrayList<>();
+
+    if (shape.changed != null)
+      for (int i = shape.changed.nextSetBit(0); i >= 0; i = shape.changed.nextSetBit(i + 1))
+        result.add(record.values[i]);
+
+    if (shape.action != Action.INSERT) {
+      boolean original = updatablePrimaryKeys(settings(record));
+
+      for (Field<?> key : record.getTable().getPrimaryKey().getFields()) {
+        Object value = original ? record.original(key) : record.get(key);
+
+        // NULL keys produce IS NULL predicates, rather than bind values
+        if (value == null) return null;
+
+        result.add(value);
+      }
+    }
+
+    return result.toArray();
+  }
+
   private final int[] executeStatic() {
     List<Query> queries = new ArrayList<>();
     QueryCollector collector = new QueryCollector();
@@ -188,6 +296,48 @@ final class BatchCRUD extends AbstractBatch {
     }
   }
 
+  /** The statements of a batch that share the same SQL, and their bind values. */
+  private static final class BatchGroup {
+    final Query query;
+
+    final List<Object[]> bindValues = new ArrayList<>();
+
+    BatchGroup(Query query) {
+      this.query = query;
+    }
+  }
+
+  /** The properties of a record that determine the SQL produced for it. */
+  private static final class Shape {
+    final Action action;
+
+    final Table<?> table;
+
+    final BitSet changed;
+
+    Shape(Action action, Table<?> table, BitSet changed) {
+      this.action = action;
+      this.table = table;
+      this.changed = changed;
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(action, table, changed);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      if (this == obj) return true;
+      if (!(obj instanceof Shape)) return false;
+
+      Shape other = (Shape) obj;
+      return action == other.action
+          && table == other.table
+          && Objects.equals(changed, other.changed);
+    }
+  }
+
   /** The action to be performed by this operation. */
   enum Action {
 
@@ -42,6 +42,7 @@ import static org.jooq.tools.StringUtils.defaultIfNull;
 import java.io.Serializable;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import org.java.util.function.Supplier;
 import org.jooq.Configuration;
 
@@ -86,19 +87,40 @@ final class Cache {
     if (cacheOrNull == NULL) return operation.get();
     // The cache is guaranteed to be thread safe by the CacheProvider
     // contract. However since we cannot use ConcurrentHashMap.computeIfAbsent()
-    // recursively, we have to revert to double checked locking nonetheless.
+    // recursively, we compute values outside of any lock and publish them
+    // with putIfAbsent(). Concurrent misses may compute the same value
+    // more than once, but the first published value wins.
     Map<Object, Object> cache = (Map<Object, Object>) cacheOrNull;
     Object k = key.get();
     Object v = cache.get(k);
     if (v == null) {
-      synchronized (cache) {
-        v = cache.get(k);
-        if (v == null) cache.put(k, (v = operation.get()) == null ? NULL : v);
+      if (cache instanceof ConcurrentMap) {
+        if ((v = operation.get()) == null) v = NULL;
+        Object previous = ((ConcurrentMap<Object, Object>) cache).putIfAbsent(k, v);
+        if (previous != null) v = previous;
+      }
+      // User-provided caches, such as Collections.synchronizedMap(), may not
+      // offer an atomic putIfAbsent(), so we revert to double checked locking.
+      else {
+        synchronized (cache) {
+          v = cache.get(k);
+          if (v == null) cache.put(k, (v = operation.get()) == null ? NULL : v);
+        }
       }
     }
     return (V) (v == NULL ? null : v);
   }
 
+  /**
+   * Get the cache of a given {@link CacheType} from a {@link Configuration}, if it has already been
+   * initialised.
+   */
+  @SuppressWarnings("unchecked")
+  static final Map<Object, Object> cache(Configuration configuration, CacheType type) {
+    Object cacheOrNull = configuration.data(type);
+    return cacheOrNull instanceof Map ? (Map<Object, Object>) cacheOrNull : null;
+  }
+
   /** A <code>null</code> placeholder to be put in {@link ConcurrentHashMap}. */
   private static final Object NULL = new Object();
 
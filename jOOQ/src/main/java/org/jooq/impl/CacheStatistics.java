@@ -0,0 +1,147 @@
+/* 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.impl;
+
+import java.util.Map;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.jooq.CacheProvider;
+import org.jooq.Configuration;
+
+/**
+ * A snapshot of the usage statistics of a {@link CacheType} in a {@link Configuration}.
+ *
+ * <p>Statistics are available only for caches produced by the default {@link CacheProvider}. Custom
+ * {@link CacheProvider} implementations are expected to expose their own statistics.
+ *
+ * @author Lukas Eder
+ */
+public final class CacheStatistics {
+
+  private final CacheType type;
+  private final int size;
+  private final int maximumSize;
+  private final long hits;
+  private final long misses;
+  private final long evictions;
+
+  private CacheStatistics(
+      CacheType type, int size, int maximumSize, long hits, long misses, long evictions) {
+    this.type = type;
+    this.size = size;
+    this.maximumSize = maximumSize;
+    this.hits = hits;
+    this.misses = misses;
+    this.evictions = evictions;
+  }
+
+  /**
+   * Get a snapshot of the statistics of a {@link CacheType} in a {@link Configuration}.
+   *
+   * @return The statistics, or <code>null</code> if the cache has not been initialised yet, or if
+   *     it was not produced by the default {@link CacheProvider}.
+   */
+  @Nullable
+  public static CacheStatistics of(Configuration configuration, CacheType type) {
+    Map<Object, Object> cache = Cache.cache(configuration, type);
+
+    if (cache instanceof ClockCache) {
+      ClockCache<?, ?> c = (ClockCache<?, ?>) cache;
+      return new CacheStatistics(
+          type, c.size(), c.maximumSize(), c.hits(), c.misses(), c.evictions());
+    }
+
+    return null;
+  }
+
+  /** The {@link CacheType} of this statistics snapshot. */
+  @NotNull
+  public CacheType type() {
+    return type;
+  }
+
+  /** The number of entries in the cache. */
+  public int size() {
+    return size;
+  }
+
+  /** The maximum number of entries in the cache. */
+  public int maximumSize() {
+    return maximumSize;
+  }
+
+  /** The number of lookups that have found a cached value. */
+  public long hits() {
+    return hits;
+  }
+
+  /** The number of lookups that have not found a cached value. */
+  public long misses() {
+    return misses;
+  }
+
+  /** The number of entries that have been evicted from the cache. */
+  public long evictions() {
+    return evictions;
+  }
+
+  /**
+   * The ratio of lookups that have found a cached value, or <code>0.0</code> if there were none.
+   */
+  public double hitRatio() {
+    long total = hits + misses;
+    return total == 0L ? 0.0 : (double) hits / total;
+  }
+
+  @Override
+  public String toString() {
+    return "CacheStatistics [type="
+        + type
+        + ", size="
+        + size
+        + ", maximumSize="
+        + maximumSize
+        + ", hits="
+        + hits
+        + ", misses="
+        + misses
+        + ", evictions="
+        + evictions
+        + "]";
+  }
+}
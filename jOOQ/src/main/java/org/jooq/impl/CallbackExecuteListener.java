@@ -243,6 +243,31 @@ public final class CallbackExecuteListener implements ExecuteListener {
     if (onWarning != null) onWarning.fire(ctx);
   }
 
+  /** The callbacks that are implemented, in the order of {@link ExecuteListeners#EVENTS}. */
+  final int callbacks() {
+    return Callbacks.mask(
+        onStart,
+        onRenderStart,
+        onRenderEnd,
+        onPrepareStart,
+        onPrepareEnd,
+        onBindStart,
+        onBindEnd,
+        onExecuteStart,
+        onExecuteEnd,
+        onOutStart,
+        onOutEnd,
+        onFetchStart,
+        onResultStart,
+        onRecordStart,
+        onRecordEnd,
+        onResultEnd,
+        onFetchEnd,
+        onEnd,
+        onException,
+        onWarning);
+  }
+
   public final CallbackExecuteListener onStart(ExecuteEventHandler newOnStart) {
     return new CallbackExecuteListener(
         newOnStart,
@@ -196,6 +196,26 @@ public final class CallbackRecordListener implements RecordListener {
     if (onException != null) onException.accept(ctx);
   }
 
+  /** The callbacks that are implemented, in the order of {@link RecordDelegate#EVENTS}. */
+  final int callbacks() {
+    return Callbacks.mask(
+        onLoadStart,
+        onLoadEnd,
+        onRefreshStart,
+        onRefreshEnd,
+        onStoreStart,
+        onStoreEnd,
+        onInsertStart,
+        onInsertEnd,
+        onUpdateStart,
+        onUpdateEnd,
+        onMergeStart,
+        onMergeEnd,
+        onDeleteStart,
+        onDeleteEnd,
+        onException);
+  }
+
   public final CallbackRecordListener onStoreStart(
       Consumer<? super RecordContext> newOnStoreStart) {
     return new CallbackRecordListener(
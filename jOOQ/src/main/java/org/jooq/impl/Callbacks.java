@@ -0,0 +1,124 @@
+/* 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.impl;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import org.jooq.ExecuteContext;
+import org.jooq.ExecuteListener;
+import org.jooq.RecordContext;
+import org.jooq.RecordListener;
+
+/**
+ * The callbacks that listener implementations actually implement, such that events can be
+ * dispatched only to the listeners that are interested in them.
+ *
+ * <p>A callback is considered a no-op if it is inherited from an empty default implementation, such
+ * as {@link DefaultExecuteListener}. The result is cached per listener class. Callback listeners,
+ * such as {@link CallbackExecuteListener}, declare their callbacks themselves.
+ *
+ * @author Lukas Eder
+ */
+final class Callbacks {
+
+  private static final Callbacks EXECUTE =
+      new Callbacks(DefaultExecuteListener.class, ExecuteContext.class, ExecuteListeners.EVENTS);
+
+  private static final Callbacks RECORD =
+      new Callbacks(DefaultRecordListener.class, RecordContext.class, RecordDelegate.EVENTS);
+
+  private final Class<?> noop;
+
+  private final Class<?> contextType;
+
+  private final String[] callbacks;
+
+  private final ConcurrentMap<Class<?>, Integer> cache;
+
+  private Callbacks(Class<?> noop, Class<?> contextType, String[] callbacks) {
+    this.noop = noop;
+    this.contextType = contextType;
+    this.callbacks = callbacks;
+    this.cache = new ConcurrentHashMap<>();
+  }
+
+  /**
+   * A bit mask of the callbacks of an {@link ExecuteListener}, where bit <code>i</code> corresponds
+   * to {@link ExecuteListeners#EVENTS}<code>[i]</code>.
+   */
+  static final int callbacks(ExecuteListener listener) {
+    if (listener instanceof CallbackExecuteListener)
+      return ((CallbackExecuteListener) listener).callbacks();
+    else return EXECUTE.mask(listener);
+  }
+
+  /**
+   * A bit mask of the callbacks of a {@link RecordListener}, where bit <code>i</code> corresponds
+   * to {@link RecordDelegate#EVENTS}<code>[i]</code>.
+   */
+  static final int callbacks(RecordListener listener) {
+    if (listener instanceof CallbackRecordListener)
+      return ((CallbackRecordListener) listener).callbacks();
+    else return RECORD.mask(listener);
+  }
+
+  /** A bit mask of the non-null elements of an array of callbacks. */
+  static final int mask(Object... handlers) {
+    int result = 0;
+    for (int i = 0; i < handlers.length; i++) if (handlers[i] != null) result |= 1 << i;
+    return result;
+  }
+
+  private final int mask(Object listener) {
+    return cache.computeIfAbsent(listener.getClass(), this::mask0);
+  }
+
+  private final int mask0(Class<?> type) {
+    int result = 0;
+    for (int i = 0; i < callbacks.length; i++) {
+      try {
+        if (type.getMethod(callbacks[i], contextType).getDeclaringClass() != noop)
+          result |= 1 << i;
+      } // Dispatch all events if in doubt
+      catch (NoSuchMethodException | SecurityException e) {
+        result |= 1 << i;
+      }
+    }
+    return result;
+  }
+}
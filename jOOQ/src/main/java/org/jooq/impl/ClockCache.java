@@ -0,0 +1,365 @@
+/* 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.impl;
+
+import java.util.AbstractMap;
+import java.util.ArrayDeque;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A bounded, segmented, thread safe cache using the CLOCK (second chance) eviction policy.
+ *
+ * <p>Reads never acquire any locks. They only set a volatile "referenced" flag on the cached
+ * entry, and count hits and misses in counters that are striped by thread. Writes and evictions are serialised per segment only, so unrelated keys can be written
+ * concurrently, and a hit on a hot key never contends with a miss on a different key.
+ *
+ * <p>Unlike {@link LRUCache}, this cache doesn't have to be wrapped in {@link
+ * java.util.Collections#synchronizedMap(Map)}.
+ *
+ * @author Lukas Eder
+ */
+final class ClockCache<K, V> extends AbstractMap<K, V> implements ConcurrentMap<K, V> {
+
+  /** The maximum number of segments, which corresponds to the expected write concurrency. */
+  private static final int MAX_SEGMENTS = 16;
+
+  /** The minimum number of entries per segment before a cache is split into segments. */
+  private static final int MIN_SEGMENT_SIZE = 64;
+
+  private final int maximumSize;
+
+  private final Segment<K, V>[] segments;
+
+  private final StripedCounter hits;
+
+  private final StripedCounter misses;
+
+  @SuppressWarnings("unchecked")
+  ClockCache(int maximumSize) {
+    this.maximumSize = Math.max(1, maximumSize);
+
+    int s = 1;
+    while (s < MAX_SEGMENTS && s * 2 * MIN_SEGMENT_SIZE <= this.maximumSize) s *= 2;
+
+    this.hits = new StripedCounter();
+    this.misses = new StripedCounter();
+    this.segments = new Segment[s];
+    for (int i = 0; i < s; i++)
+      segments[i] = new Segment<>((this.maximumSize + s - 1) / s);
+  }
+
+  private final Segment<K, V> segment(Object key) {
+    int h = key.hashCode();
+    return segments[(h ^ (h >>> 16)) & (segments.length - 1)];
+  }
+
+  /** The maximum number of entries this cache holds. */
+  final int maximumSize() {
+    return maximumSize;
+  }
+
+  /** The number of lookups that have found a cached value. */
+  final long hits() {
+    return hits.sum();
+  }
+
+  /** The number of lookups that have not found any cached value. */
+  final long misses() {
+    return misses.sum();
+  }
+
+  /** The number of entries that have been evicted to respect the {@link #maximumSize()}. */
+  final long evictions() {
+    long result = 0L;
+
+    for (Segment<K, V> segment : segments) result += segment.evictions.get();
+
+    return result;
+  }
+
+  // -------------------------------------------------------------------------
+  // XXX: Map API
+  // -------------------------------------------------------------------------
+
+  @Override
+  public final V get(Object key) {
+    Node<K, V> node = segment(key).get(key);
+    if (node == null) {
+      misses.increment();
+      return null;
+    }
+    hits.increment();
+    return node.value;
+  }
+
+  @Override
+  public final boolean containsKey(Object key) {
+    return segment(key).map.containsKey(key);
+  }
+
+  @Override
+  public final V put(K key, V value) {
+    return segment(key).put(key, value, false);
+  }
+
+  @Override
+  public final V putIfAbsent(K key, V value) {
+    return segment(key).put(key, value, true);
+  }
+
+  @Override
+  public final V remove(Object key) {
+    return segment(key).remove(key, null);
+  }
+
+  @Override
+  public final boolean remove(Object key, Object value) {
+    return value != null && segment(key).remove(key, value) != null;
+  }
+
+  @Override
+  public final boolean replace(K key, V oldValue, V newValue) {
+    return segment(key).replace(key, oldValue, newValue) != null;
+  }
+
+  @Override
+  public final V replace(K key, V value) {
+    return segment(key).replace(key, null, value);
+  }
+
+  @Override
+  public final int size() {
+    int result = 0;
+
+    for (Segment<K, V> segment : segments) result += segment.map.size();
+
+    return result;
+  }
+
+  @Override
+  public final void clear() {
+    for (Segment<K, V> segment : segments) segment.clear();
+  }
+
+  @Override
+  public final Set<Entry<K, V>> entrySet() {
+    Set<Entry<K, V>> result = new LinkedHashSet<>();
+
+    for (Segment<K, V> segment : segments)
+      for (Node<K, V> node : segment.map.values())
+        result.add(new SimpleImmutableEntry<>(node.key, node.value));
+
+    return result;
+  }
+
+  @Override
+  public String toString() {
+    return "ClockCache [size="
+        + size()
+        + ", maximumSize="
+        + maximumSize
+        + ", hits="
+        + hits()
+        + ", misses="
+        + misses()
+        + ", evictions="
+        + evictions()
+        + "]";
+  }
+
+  // -------------------------------------------------------------------------
+  // XXX: Implementation
+  // -------------------------------------------------------------------------
+
+  private static final class Node<K, V> {
+    final K key;
+    volatile V value;
+    volatile boolean referenced;
+
+    Node(K key, V value) {
+      this.key = key;
+      this.value = value;
+    }
+  }
+
+  private static final class Segment<K, V> {
+    final int capacity;
+    final ConcurrentHashMap<K, Node<K, V>> map;
+    final ArrayDeque<Node<K, V>> clock;
+    final ReentrantLock lock;
+    final AtomicLong evictions;
+
+    Segment(int capacity) {
+      this.capacity = capacity;
+      this.map = new ConcurrentHashMap<>(Math.min(capacity, 1024));
+      this.clock = new ArrayDeque<>(Math.min(capacity, 1024));
+      this.lock = new ReentrantLock();
+      this.evictions = new AtomicLong();
+    }
+
+    /** Look up a node, marking it as referenced. */
+    final Node<K, V> get(Object key) {
+      Node<K, V> node = map.get(key);
+
+      // Avoid the volatile write if the flag is already set, to prevent
+      // cache line ping-pong between readers of hot entries
+      if (node != null && !node.referenced) node.referenced = true;
+
+      return node;
+    }
+
+    final V put(K key, V value, boolean onlyIfAbsent) {
+      lock.lock();
+
+      try {
+        Node<K, V> node = map.get(key);
+
+        if (node != null) {
+          V previous = node.value;
+
+          if (!onlyIfAbsent) {
+            node.value = value;
+            node.referenced = true;
+          }
+
+          return previous;
+        }
+
+        node = new Node<>(key, value);
+        map.put(key, node);
+        clock.addLast(node);
+        evict();
+        return null;
+      } finally {
+        lock.unlock();
+      }
+    }
+
+    final V replace(K key, V expected, V value) {
+      lock.lock();
+
+      try {
+        Node<K, V> node = map.get(key);
+
+        if (node == null || expected != null && !expected.equals(node.value)) return null;
+
+        V previous = node.value;
+        node.value = value;
+        return previous;
+      } finally {
+        lock.unlock();
+      }
+    }
+
+    final V remove(Object key, Object expected) {
+      lock.lock();
+
+      try {
+        Node<K, V> node = map.get(key);
+
+        if (node == null || expected != null && !expected.equals(node.value)) return null;
+
+        map.remove(key);
+        clock.remove(node);
+        return node.value;
+      } finally {
+        lock.unlock();
+      }
+    }
+
+    final void clear() {
+      lock.lock();
+
+      try {
+        map.clear();
+        clock.clear();
+      } finally {
+        lock.unlock();
+      }
+    }
+
+    /** Advance the clock hand, giving referenced entries a second chance. */
+    private final void evict() {
+      while (map.size() > capacity) {
+        Node<K, V> node = clock.pollFirst();
+
+        if (node.referenced) {
+          node.referenced = false;
+          clock.addLast(node);
+        } else {
+          map.remove(node.key);
+          evictions.incrementAndGet();
+        }
+      }
+    }
+  }
+
+  /**
+   * A counter whose increments are spread over several cache lines by thread, so that concurrent
+   * readers of the same cache don't contend on a single memory location.
+   */
+  private static final class StripedCounter {
+
+    private static final int STRIPES = 16;
+
+    // Each stripe occupies its own 64 byte cache line
+    private static final int PADDING = 8;
+
+    private final AtomicLongArray cells = new AtomicLongArray(STRIPES * PADDING);
+
+    final void increment() {
+      int h = (int) Thread.currentThread().getId() * 0x9E3779B9;
+      cells.getAndIncrement((h >>> 28) * PADDING);
+    }
+
+    final long sum() {
+      long result = 0L;
+
+      for (int i = 0; i < STRIPES; i++) result += cells.get(i * PADDING);
+
+      return result;
+    }
+  }
+}
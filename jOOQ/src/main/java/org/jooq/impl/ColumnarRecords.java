@@ -0,0 +1,304 @@
+/* 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.impl;
+
+import static org.jooq.impl.Tools.attachRecords;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.RandomAccess;
+import org.java.util.function.Supplier;
+import org.jooq.Configuration;
+import org.jooq.Field;
+import org.jooq.Record;
+import org.jooq.Result;
+import org.jooq.ResultQuery;
+
+/**
+ * A read-only, columnar storage for the records of a {@link Result}.
+ *
+ * <p>Rather than keeping a {@link Record} per row, this list stores values per column. Columns of
+ * type {@link Integer}, {@link Long}, {@link Double} and {@link Boolean} are stored in primitive
+ * arrays with a separate <code>null</code> bitmap, other columns are stored in an
+ * <code>Object[]</code>. {@link Record} instances are created only on access, as detached copies of
+ * the stored values. Modifications to such records are not written back to this storage.
+ *
+ * <p>The storage can only be appended to by jOOQ while fetching, using {@link #append(Record)}. All
+ * {@link java.util.List} modifications throw an {@link UnsupportedOperationException}.
+ *
+ * @author Lukas Eder
+ * @see ResultQuery#fetchColumnar()
+ */
+final class ColumnarRecords<R extends Record> extends AbstractList<R> implements RandomAccess {
+
+  private static final int INITIAL_CAPACITY = 16;
+
+  private final Supplier<? extends R> factory;
+  private final Column[] columns;
+  private Configuration configuration;
+  private int size;
+  private int capacity;
+
+  ColumnarRecords(
+      Configuration configuration, AbstractRow<?> fields, Supplier<? extends R> factory) {
+    this.configuration = configuration;
+    this.factory = factory;
+    this.columns = new Column[fields.size()];
+    this.capacity = INITIAL_CAPACITY;
+    for (int i = 0; i < columns.length; i++)
+      columns[i] = column(fields.field(i), capacity);
+  }
+
+  private static final Column column(Field<?> field, int capacity) {
+    Class<?> type = field.getType();
+    if (type == Integer.class) return new IntColumn(capacity);
+    else if (type == Long.class) return new LongColumn(capacity);
+    else if (type == Double.class) return new DoubleColumn(capacity);
+    else if (type == Boolean.class) return new BooleanColumn(capacity);
+    else return new ObjectColumn(capacity);
+  }
+
+  final void attach(Configuration c) {
+    this.configuration = c;
+  }
+
+  // -------------------------------------------------------------------------
+  // XXX: List API
+  // -------------------------------------------------------------------------
+
+  @Override
+  public final int size() {
+    return size;
+  }
+
+  @Override
+  public final R get(int index) {
+    if (index < 0 || index >= size)
+      throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+    R result = factory.get();
+    AbstractRecord record = (AbstractRecord) result;
+    record.fetched = true;
+    for (int i = 0; i < columns.length; i++) {
+      Object value = columns[i].get(index);
+      record.set0(i, value, value);
+    }
+    if (attachRecords(configuration)) record.attach(configuration);
+    return result;
+  }
+
+  /** Append a fetched record, copying its values. */
+  final void append(R element) {
+    if (size == capacity) {
+      capacity = capacity + (capacity >> 1);
+      for (int i = 0; i < columns.length; i++) columns[i].grow(capacity);
+    }
+    for (int i = 0; i < columns.length; i++) {
+      Object value = element.get(i);
+      // Values whose type doesn't match the declared field type (e.g. due
+      // to plain SQL or converters) require falling back to Object[] storage
+      if (!columns[i].set(size, value)) {
+        columns[i] = columns[i].toObjectColumn(size, capacity);
+        columns[i].set(size, value);
+      }
+    }
+    size++;
+    modCount++;
+  }
+
+  // -------------------------------------------------------------------------
+  // XXX: Column storage
+  // -------------------------------------------------------------------------
+
+  private abstract static class Column {
+
+    /** Set a value, returning <code>false</code> if the value's type isn't supported. */
+    abstract boolean set(int row, Object value);
+
+    abstract Object get(int row);
+
+    abstract void grow(int capacity);
+
+    final Column toObjectColumn(int rows, int capacity) {
+      ObjectColumn result = new ObjectColumn(capacity);
+      for (int i = 0; i < rows; i++) result.values[i] = get(i);
+      return result;
+    }
+  }
+
+  private abstract static class PrimitiveColumn extends Column {
+    final BitSet nulls = new BitSet();
+
+    @Override
+    final boolean set(int row, Object value) {
+      if (value == null) {
+        nulls.set(row);
+        return true;
+      } else return set0(row, value);
+    }
+
+    @Override
+    final Object get(int row) {
+      return nulls.get(row) ? null : get0(row);
+    }
+
+    abstract boolean set0(int row, Object value);
+
+    abstract Object get0(int row);
+  }
+
+  private static final class IntColumn extends PrimitiveColumn {
+    int[] values;
+
+    IntColumn(int capacity) {
+      values = new int[capacity];
+    }
+
+    @Override
+    final boolean set0(int row, Object value) {
+      if (!(value instanceof Integer)) return false;
+      values[row] = (Integer) value;
+      return true;
+    }
+
+    @Override
+    final Object get0(int row) {
+      return values[row];
+    }
+
+    @Override
+    final void grow(int capacity) {
+      values = Arrays.copyOf(values, capacity);
+    }
+  }
+
+  private static final class LongColumn extends PrimitiveColumn {
+    long[] values;
+
+    LongColumn(int capacity) {
+      values = new long[capacity];
+    }
+
+    @Override
+    final boolean set0(int row, Object value) {
+      if (!(value instanceof Long)) return false;
+      values[row] = (Long) value;
+      return true;
+    }
+
+    @Override
+    final Object get0(int row) {
+      return values[row];
+    }
+
+    @Override
+    final void grow(int capacity) {
+      values = Arrays.copyOf(values, capacity);
+    }
+  }
+
+  private static final class DoubleColumn extends PrimitiveColumn {
+    double[] values;
+
+    DoubleColumn(int capacity) {
+      values = new double[capacity];
+    }
+
+    @Override
+    final boolean set0(int row, Object value) {
+      if (!(value instanceof Double)) return false;
+      values[row] = (Double) value;
+      return true;
+    }
+
+    @Override
+    final Object get0(int row) {
+      return values[row];
+    }
+
+    @Override
+    final void grow(int capacity) {
+      values = Arrays.copyOf(values, capacity);
+    }
+  }
+
+  private static final class BooleanColumn extends PrimitiveColumn {
+    final BitSet values = new BitSet();
+
+    BooleanColumn(int capacity) {}
+
+    @Override
+    final boolean set0(int row, Object value) {
+      if (!(value instanceof Boolean)) return false;
+      values.set(row, (Boolean) value);
+      return true;
+    }
+
+    @Override
+    final Object get0(int row) {
+      return values.get(row);
+    }
+
+    @Override
+    final void grow(int capacity) {}
+  }
+
+  private static final class ObjectColumn extends Column {
+    Object[] values;
+
+    ObjectColumn(int capacity) {
+      values = new Object[capacity];
+    }
+
+    @Override
+    final boolean set(int row, Object value) {
+      values[row] = value;
+      return true;
+    }
+
+    @Override
+    final Object get(int row) {
+      return values[row];
+    }
+
+    @Override
+    final void grow(int capacity) {
+      values = Arrays.copyOf(values, capacity);
+    }
+  }
+}
@@ -68,8 +68,10 @@ import java.util.Calendar;
 import java.util.Iterator;
 import java.util.Map;
 import java.util.NoSuchElementException;
+import org.java.util.function.Consumer;
 import org.java.util.function.Supplier;
 import org.jooq.BindingGetResultSetContext;
+import org.jooq.Configuration;
 import org.jooq.Converter;
 import org.jooq.ExecuteContext;
 import org.jooq.ExecuteListener;
@@ -92,6 +94,12 @@ final class CursorImpl<R extends Record> extends AbstractCursor<R> {
 
   private final boolean[] intern;
 
+  /** Whether any listener is interested in the per-row recordStart() event. */
+  private final boolean recordStart;
+
+  /** Whether any listener is interested in the per-row recordEnd() event. */
+  private final boolean recordEnd;
+
   private final boolean keepResultSet;
 
   private final boolean keepStatement;
@@ -112,6 +120,12 @@ final class CursorImpl<R extends Record> extends AbstractCursor<R> {
 
   private transient int rows;
 
+  /** Whether the iterator fills a single record instance in place for every row. */
+  private transient boolean reuseRecord;
+
+  /** The record instance that is reused if {@link #reuseRecord} is set. */
+  private transient AbstractRecord reusedRecord;
+
   @SuppressWarnings("unchecked")
   CursorImpl(
       ExecuteContext ctx,
@@ -145,6 +159,8 @@ final class CursorImpl<R extends Record> extends AbstractCursor<R> {
     super(ctx.configuration(), (AbstractRow<R>) Tools.row0(fields));
     this.ctx = ctx;
     this.listener = (listener != null ? listener : ExecuteListeners.getAndStart(ctx));
+    this.recordStart = ExecuteListeners.listens(this.listener, ExecuteListeners.RECORD_START);
+    this.recordEnd = ExecuteListeners.listens(this.listener, ExecuteListeners.RECORD_END);
     this.factory = recordFactory(type, this.fields);
     this.keepStatement = keepStatement;
     this.keepResultSet = keepResultSet;
@@ -170,19 +186,59 @@ final class CursorImpl<R extends Record> extends AbstractCursor<R> {
 
   @Override
   public final Result<R> fetchNext(int number) {
+    return fetchNext0(number, false);
+  }
+
+  /** Fetch all remaining records into a read-only {@link Result} using {@link ColumnarRecords}. */
+  final Result<R> fetchColumnar() {
+    return fetchNext0(Integer.MAX_VALUE, true);
+  }
+
+  private final Result<R> fetchNext0(int number, boolean columnar) {
     // [#1157] This invokes listener.fetchStart(ctx), which has to be called
     // Before listener.resultStart(ctx)
     iterator();
+    Configuration c = ((DefaultExecuteContext) ctx).originalConfiguration();
+    ColumnarRecords<R> columns = columnar ? new ColumnarRecords<>(c, fields, factory) : null;
     ResultImpl<R> result =
-        new ResultImpl<>(((DefaultExecuteContext) ctx).originalConfiguration(), fields);
+        columns != null ? new ResultImpl<>(c, fields, columns) : new ResultImpl<>(c, fields);
     ctx.result(result);
     listener.resultStart(ctx);
-    for (int i = 0; i < number && iterator().hasNext(); i++) result.addRecord(iterator().next());
+
+    // Records that are collected in a Result must never be reused, but the columnar storage copies
+    // the values of each record right away
+    boolean reuse = reuseRecord;
+    reuseRecord = columns != null;
+    try {
+      for (int i = 0; i < number && iterator().hasNext(); i++)
+        if (columns != null) columns.append(iterator().next());
+        else result.addRecord(iterator().next());
+    } finally {
+      reuseRecord = reuse;
+      reusedRecord = null;
+    }
     ctx.result(result);
     listener.resultEnd(ctx);
     return result;
   }
 
+  @Override
+  public final void forEachReused(Consumer<? super R> action) {
+    boolean reuse = reuseRecord;
+    reuseRecord = true;
+    try {
+      for (R record : this) action.accept(record);
+    } finally {
+      reuseRecord = reuse;
+    }
+  }
+
+  /** Make {@link #iterator()} fill a single record instance in place for every row. */
+  final CursorImpl<R> reuseRecord() {
+    reuseRecord = true;
+    return this;
+  }
+
   @Override
   public final void close() {
     JDBCUtils.safeClose(rs);
@@ -1364,6 +1420,12 @@ final class CursorImpl<R extends Record> extends AbstractCursor<R> {
             (Supplier<AbstractRecord>) factory,
             ((DefaultExecuteContext) ctx).originalConfiguration());
 
+    private final RecordDelegate<AbstractRecord> reusedRecordDelegate =
+        Tools.newRecord(
+            true,
+            this::reusedRecord,
+            ((DefaultExecuteContext) ctx).originalConfiguration());
+
     @Override
     public final boolean hasNext() {
       if (hasNext == null) {
@@ -1390,7 +1452,8 @@ final class CursorImpl<R extends Record> extends AbstractCursor<R> {
       AbstractRecord record = null;
       try {
         if (!isClosed && rs.next()) {
-          record = recordDelegate.operate(initialiser.reset());
+          record =
+              (reuseRecord ? reusedRecordDelegate : recordDelegate).operate(initialiser.reset());
           rows++;
         }
       } // [#3427] ControlFlowSignals must not be passed on to ExecuteListners
@@ -1414,6 +1477,16 @@ final class CursorImpl<R extends Record> extends AbstractCursor<R> {
       return (R) record;
     }
 
+    /** Get the reused record, discarding any modifications made to it by client code. */
+    private final AbstractRecord reusedRecord() {
+      if (reusedRecord == null) reusedRecord = (AbstractRecord) factory.get();
+      else {
+        reusedRecord.originals = null;
+        reusedRecord.changed = null;
+      }
+      return reusedRecord;
+    }
+
     @Override
     public final void remove() {
       throw new UnsupportedOperationException();
@@ -1439,13 +1512,13 @@ final class CursorImpl<R extends Record> extends AbstractCursor<R> {
       @Override
       public AbstractRecord apply(AbstractRecord record) throws SQLException {
         ctx.record(record);
-        listener.recordStart(ctx);
+        if (recordStart) listener.recordStart(ctx);
         int size = initialiserFields.size();
         for (int i = 0; i < size; i++) setValue(record, initialiserFields.field(i), i);
         if (intern != null)
           for (int i = 0; i < intern.length; i++) if (intern[i]) record.intern0(i);
         ctx.record(record);
-        listener.recordEnd(ctx);
+        if (recordEnd) listener.recordEnd(ctx);
         return record;
       }
 
@@ -1487,8 +1560,7 @@ final class CursorImpl<R extends Record> extends AbstractCursor<R> {
             field.getBinding().get((BindingGetResultSetContext<T>) rsContext);
             value = (T) rsContext.value();
           }
-          record.values[index] = value;
-          record.originals[index] = value;
+          record.set0(index, value, value);
         } // [#5901] Improved error logging, mostly useful when there are some data type conversion
         // errors
         catch (Exception e) {
@@ -42,15 +42,23 @@ import static java.lang.Boolean.TRUE;
 import static java.util.Arrays.asList;
 import static java.util.Collections.singletonList;
 import static org.jooq.RecordListener.onStoreEnd;
+import static org.jooq.SQLDialect.H2;
+import static org.jooq.SQLDialect.HSQLDB;
+import static org.jooq.SQLDialect.MARIADB;
+import static org.jooq.SQLDialect.MYSQL;
+import static org.jooq.SQLDialect.POSTGRES;
 import static org.jooq.impl.DSL.noCondition;
 import static org.jooq.impl.DSL.row;
 import static org.jooq.impl.Tools.EMPTY_RECORD;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.BitSet;
 import java.util.Collection;
 import java.util.IdentityHashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Set;
 import org.java.util.Optional;
 import org.java.util.function.Consumer;
 import org.jooq.Condition;
@@ -58,16 +66,19 @@ import org.jooq.Configuration;
 import org.jooq.DAO;
 import org.jooq.DSLContext;
 import org.jooq.Field;
+import org.jooq.InsertQuery;
 import org.jooq.Record;
 import org.jooq.RecordContext;
 import org.jooq.RecordListenerProvider;
 import org.jooq.RecordMapper;
+import org.jooq.Result;
 import org.jooq.SQLDialect;
 import org.jooq.Table;
 import org.jooq.TableField;
 import org.jooq.UniqueKey;
 import org.jooq.UpdatableRecord;
 import org.jooq.conf.Settings;
+import org.jooq.exception.DataAccessException;
 
 /**
  * A common base implementation for generated {@link DAO}.
@@ -82,6 +93,17 @@ import org.jooq.conf.Settings;
  */
 public abstract class DAOImpl<R extends UpdatableRecord<R>, P, T> implements DAO<R, P, T> {
 
+  /** Dialects whose <code>INSERT .. RETURNING</code> returns rows in <code>VALUES</code> order. */
+  private static final Set<SQLDialect> SUPPORT_MULTI_ROW_INSERT_RETURNING =
+      SQLDialect.supportedBy(HSQLDB, MARIADB, POSTGRES);
+
+  /** Dialects that return all generated identities of a multi row <code>INSERT</code>. */
+  private static final Set<SQLDialect> SUPPORT_MULTI_ROW_INSERT_IDENTITY =
+      SQLDialect.supportedBy(H2, MYSQL);
+
+  /** The number of bind values up to which multi row inserts are chunked. */
+  private static final int MAX_BIND_VALUES = 32767;
+
   private final Table<R> table;
 
   private final Class<P> type;
@@ -167,10 +189,14 @@ public abstract class DAOImpl<R extends UpdatableRecord<R>, P, T> implements DAO
   public /* non-final */ void insert(Collection<P> objects) {
     // Execute a batch INSERT
     if (objects.size() > 1)
-      // [#2536] [#3327] We cannot batch INSERT RETURNING calls yet
-      if (!FALSE.equals(settings().isReturnRecordToPojo()))
-        for (R record : records(objects, false)) record.insert();
-      else ctx().batchInsert(records(objects, false)).execute();
+      // [#2536] [#3327] We cannot batch INSERT RETURNING calls, but where the
+      // dialect returns rows in VALUES order, multi row INSERT .. RETURNING
+      // statements can be used instead
+      if (!FALSE.equals(settings().isReturnRecordToPojo())) {
+        List<R> records = records(objects, false);
+        if (multiRowInsertReturning(records)) insertReturning(objects, records);
+        else for (R record : records) record.insert();
+      } else ctx().batchInsert(records(objects, false)).execute();
     else // Execute a regular INSERT
     if (objects.size() == 1) records(objects, false).get(0).insert();
   }
@@ -426,6 +452,111 @@ public abstract class DAOImpl<R extends UpdatableRecord<R>, P, T> implements DAO
     return result;
   }
 
+  /**
+   * Whether the records can be inserted with multi row <code>INSERT .. RETURNING</code> statements
+   * without changing the semantics of {@link UpdatableRecord#insert()}.
+   */
+  private boolean multiRowInsertReturning(List<R> records) {
+    // [#2536] RecordListeners expect individual events, and optimistic
+    // locking columns are set by the record itself
+    if (!(records.get(0) instanceof TableRecordImpl)
+        || configuration().recordListenerProviders().length > 0
+        || table.getRecordVersion() != null
+        || table.getRecordTimestamp() != null) return false;
+
+    SQLDialect family = family();
+    if (SUPPORT_MULTI_ROW_INSERT_RETURNING.contains(family)) return true;
+
+    // These dialects return only generated identities, from getGeneratedKeys()
+    Collection<Field<?>> key = ((TableRecordImpl<R>) records.get(0)).returningIfNeeded(true);
+    return SUPPORT_MULTI_ROW_INSERT_IDENTITY.contains(family)
+        && (key == null
+            || key.isEmpty()
+            || table.getIdentity() != null
+                && key.size() == 1
+                && key.contains(table.getIdentity().getField()));
+  }
+
+  /**
+   * Insert records with multi row <code>INSERT .. RETURNING</code> statements, copying returned
+   * values back into the records and the POJOs, like individual {@link UpdatableRecord#insert()}
+   * calls would.
+   *
+   * <p>Consecutive records that share the same set of changed fields are inserted in chunks,
+   * preserving the insertion order of all records.
+   *
+   * @throws DataAccessException if a chunk doesn't return exactly one row per record, in case of
+   *     which the returned values cannot be matched to the records of that chunk
+   */
+  private void insertReturning(Collection<P> objects, List<R> records) {
+    Iterator<P> it = objects.iterator();
+    Collection<Field<?>> key = ((TableRecordImpl<R>) records.get(0)).returningIfNeeded(true);
+    Integer threshold = settings().getInlineThreshold();
+    int chunk =
+        Math.max(
+            1,
+            (threshold != null && threshold > 0 ? threshold : MAX_BIND_VALUES)
+                / table.fieldsRow().size());
+
+    for (int from = 0, to; from < records.size(); from = to) {
+      TableRecordImpl<R> first = (TableRecordImpl<R>) records.get(from);
+
+      for (to = from + 1; to < records.size() && to - from < chunk; to++)
+        if (!sameChanged(first, (AbstractRecord) records.get(to))) break;
+
+      // Don't bundle records if no value was set by client code
+      if (first.changed == null || first.changed.isEmpty()) {
+        for (int i = from; i < to; i++) {
+          records.get(i).insert();
+          records.get(i).into(it.next());
+        }
+
+        continue;
+      }
+
+      InsertQuery<R> insert = ctx().insertQuery(table);
+      for (int i = from; i < to; i++) {
+        if (i > from) insert.newRecord();
+
+        ((TableRecordImpl<R>) records.get(i)).addChangedValues(table.fields(), insert, false);
+      }
+
+      if (key != null) insert.setReturning(key);
+
+      int result = insert.execute();
+      Result<R> returned =
+          key != null && !key.isEmpty() ? insert.getReturnedRecords() : null;
+
+      // [#1859] Unlike with individual inserts, missing rows cannot be attributed to their records
+      if (result > 0 && returned != null && returned.size() != to - from)
+        throw new DataAccessException(
+            "Multi row INSERT .. RETURNING statement returned "
+                + returned.size()
+                + " rows for "
+                + (to - from)
+                + " inserted records");
+
+      for (int i = from; i < to; i++) {
+        TableRecordImpl<R> record = (TableRecordImpl<R>) records.get(i);
+
+        if (result > 0) {
+          record.changed(false);
+          if (returned != null) record.setReturned(returned.get(i - from), key);
+          record.fetched = true;
+        }
+
+        record.into(it.next());
+      }
+    }
+  }
+
+  private static final boolean sameChanged(AbstractRecord r1, AbstractRecord r2) {
+    BitSet c1 = r1.changed;
+    BitSet c2 = r2.changed;
+
+    return c1 == null || c1.isEmpty() ? c2 == null || c2.isEmpty() : c1.equals(c2);
+  }
+
   private RecordListenerProvider[] providers(
       final RecordListenerProvider[] providers, final IdentityHashMap<R, Object> mapping) {
     RecordListenerProvider[] result = Arrays.copyOf(providers, providers.length + 1);
@@ -37,35 +37,46 @@
  */
 package org.jooq.impl;
 
-import static java.util.Collections.synchronizedMap;
 import static org.jooq.impl.Tools.settings;
 import static org.jooq.tools.StringUtils.defaultIfNull;
 
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
 import org.jooq.CacheContext;
 import org.jooq.CacheProvider;
+import org.jooq.conf.Settings;
 
 /**
- * A default implementation producing a {@link ConcurrentHashMap} in most cases, or a synchronized
- * LRU cache where appropriate.
+ * A default implementation producing a bounded, concurrent {@link ClockCache} for all {@link
+ * CacheType} values.
+ *
+ * <p>The cache sizes can be configured via {@link Settings#getReflectionCachingLRUCacheSize()},
+ * {@link Settings#getCacheRecordMappersLRUCacheSize()}, and {@link
+ * Settings#getCacheParsingConnectionLRUCacheSize()}. Hit, miss, and eviction counts are available
+ * from {@link CacheStatistics}.
  *
  * @author Lukas Eder
  */
 final class DefaultCacheProvider implements CacheProvider {
 
+  static final int DEFAULT_CACHE_SIZE = 8192;
+
   @Override
   public Map<Object, Object> provide(CacheContext ctx) {
-    switch (ctx.cacheType()) {
-        // TODO: Is there a better implementation than wrapping LinkedHashMap
-        // in synchronizedMap(), i.e. one that does not use a monitor?
-      case CACHE_PARSING_CONNECTION:
-        return synchronizedMap(
-            new LRUCache<>(
-                defaultIfNull(
-                    settings(ctx.configuration()).getCacheParsingConnectionLRUCacheSize(), 8912)));
+    Settings settings = settings(ctx.configuration());
+
+    switch (ctx.cacheType().category) {
+      case PARSING_CONNECTION:
+        return new ClockCache<>(
+            defaultIfNull(settings.getCacheParsingConnectionLRUCacheSize(), DEFAULT_CACHE_SIZE));
+
+      case RECORD_MAPPER:
+        return new ClockCache<>(
+            defaultIfNull(settings.getCacheRecordMappersLRUCacheSize(), DEFAULT_CACHE_SIZE));
+
+      case REFLECTION:
       default:
-        return new ConcurrentHashMap<>();
+        return new ClockCache<>(
+            defaultIfNull(settings.getReflectionCachingLRUCacheSize(), DEFAULT_CACHE_SIZE));
     }
   }
 }
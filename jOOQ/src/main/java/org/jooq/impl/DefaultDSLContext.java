@@ -1245,10 +1245,8 @@ public class DefaultDSLContext extends AbstractScope implements DSLContext, Seri
       if (strings.size() > firstRowIndex) {
         for (String[] values : strings.subList(firstRowIndex, strings.size())) {
           RecordImplN record = new RecordImplN(row);
-          for (int i = 0; i < Math.min(values.length, fields.length); i++) {
-            record.values[i] = values[i];
-            record.originals[i] = values[i];
-          }
+          for (int i = 0; i < Math.min(values.length, fields.length); i++)
+            record.set0(i, values[i], values[i]);
           result.add(record);
         }
       }
@@ -37,10 +37,13 @@
  */
 package org.jooq.impl;
 
+import static java.lang.Boolean.TRUE;
 import static org.jooq.conf.SettingsTools.renderLocale;
+import static org.jooq.impl.Tools.DataKey.DATA_STATEMENT_CACHES;
 import static org.jooq.impl.Tools.EMPTY_INT;
 import static org.jooq.impl.Tools.EMPTY_QUERY;
 import static org.jooq.impl.Tools.EMPTY_STRING;
+import static org.jooq.tools.StringUtils.defaultIfNull;
 
 import java.sql.Array;
 import java.sql.Blob;
@@ -54,6 +57,7 @@ import java.sql.SQLWarning;
 import java.sql.SQLXML;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import org.jetbrains.annotations.NotNull;
@@ -284,7 +288,7 @@ class DefaultExecuteContext implements ExecuteContext {
     // [#4277] The ExecuteContext's Configuration will always return the same Connection,
     // e.g. when running statements from sub-ExecuteContexts
     // [#7569] The original configuration is attached to Record and Result instances
-    this.connectionProvider = configuration.connectionProvider();
+    this.connectionProvider = cachePreparedStatements(configuration);
     this.originalConfiguration = configuration;
     this.derivedConfiguration = configuration.derive(new ExecuteContextConnectionProvider());
     this.data = new DataMap();
@@ -464,6 +468,35 @@ class DefaultExecuteContext implements ExecuteContext {
     return dialect().family();
   }
 
+  /**
+   * Wrap the {@link Configuration#connectionProvider()} in a {@link
+   * StatementCachingConnectionProvider}, if {@link Settings#isCachePreparedStatements()} is
+   * enabled.
+   */
+  @SuppressWarnings("unchecked")
+  private static final ConnectionProvider cachePreparedStatements(Configuration configuration) {
+    ConnectionProvider provider = configuration.connectionProvider();
+    Settings settings = configuration.settings();
+    // Nested executions reuse the (already wrapped) connection of their parent ExecuteContext
+    if (!TRUE.equals(settings.isCachePreparedStatements())
+        || provider instanceof ExecuteContextConnectionProvider
+        || provider instanceof StatementCachingConnectionProvider
+        || provider instanceof NoConnectionProvider) return provider;
+    // The caches are shared with the derived configuration of this ExecuteContext, and thus with
+    // nested executions, as they are created prior to deriving it
+    Map<Connection, StatementCache> caches =
+        (Map<Connection, StatementCache>)
+            configuration
+                .data()
+                .computeIfAbsent(DATA_STATEMENT_CACHES, k -> new IdentityHashMap<>());
+    return new StatementCachingConnectionProvider(
+        provider,
+        defaultIfNull(
+            settings.getCachePreparedStatementsLRUCacheSize(),
+            StatementCachingConnectionProvider.DEFAULT_MAXIMUM_SIZE),
+        caches);
+  }
+
   @Override
   public final void connectionProvider(ConnectionProvider provider) {
     this.connectionProvider = provider;
@@ -82,6 +82,7 @@ import java.util.Map.Entry;
 import java.util.concurrent.Callable;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
+import org.java.util.function.BiConsumer;
 import org.jooq.Attachable;
 import org.jooq.Configuration;
 import org.jooq.Field;
@@ -776,6 +777,9 @@ public class DefaultRecordMapper<R extends Record, E> implements RecordMapper<R,
 
     private final Map<String, NestedMappingInfo> nestedMappingInfos;
 
+    /** The top-level mappings of record fields to members and setters, in field order. */
+    private final PropertyMapping[] mappings;
+
     private final E instance;
 
     MutablePOJOMapper(Callable<E> constructor, E instance) {
@@ -816,6 +820,23 @@ public class DefaultRecordMapper<R extends Record, E> implements RecordMapper<R,
           }
         }
       }
+      List<PropertyMapping> m = new ArrayList<>();
+      for (int i = 0; i < fields.length; i++) {
+        for (java.lang.reflect.Field member : members[i])
+          // [#935] Avoid setting final fields
+          if ((member.getModifiers() & Modifier.FINAL) == 0)
+            m.add(
+                new PropertyMapping(
+                    i, member.getType(), member.getGenericType(), PropertyWriters.writer(member)));
+        for (java.lang.reflect.Method method : methods[i])
+          m.add(
+              new PropertyMapping(
+                  i,
+                  method.getParameterTypes()[0],
+                  method.getGenericParameterTypes()[0],
+                  PropertyWriters.writer(method)));
+      }
+      this.mappings = m.toArray(new PropertyMapping[0]);
       if (nestedMappedFields != null) {
         nestedMappedFields.forEach(
             (prefix, list) -> {
@@ -851,18 +872,7 @@ public class DefaultRecordMapper<R extends Record, E> implements RecordMapper<R,
     public final E map(R record) {
       try {
         final E result = instance != null ? instance : constructor.call();
-        for (int i = 0; i < fields.length; i++) {
-          for (java.lang.reflect.Field member : members[i]) // [#935] Avoid setting final fields
-          if ((member.getModifiers() & Modifier.FINAL) == 0) map(record, result, member, i);
-          for (java.lang.reflect.Method method : methods[i]) {
-            Class<?> mType = method.getParameterTypes()[0];
-            Object value = record.get(i, mType);
-            // [#3082] [#10910] Try mapping nested collection types
-            Object list = tryConvertToList(value, mType, method.getGenericParameterTypes()[0]);
-            if (list != null) method.invoke(result, list);
-            else method.invoke(result, record.get(i, mType));
-          }
-        }
+        for (PropertyMapping mapping : mappings) mapping.map(record, result);
         for (final Entry<String, NestedMappingInfo> entry : nestedMappingInfos.entrySet()) {
           final String prefix = entry.getKey();
           for (final RecordMapper<AbstractRecord, Object> mapper : entry.getValue().mappers) {
@@ -893,37 +903,6 @@ public class DefaultRecordMapper<R extends Record, E> implements RecordMapper<R,
       }
     }
 
-    private final void map(Record record, Object result, java.lang.reflect.Field member, int index)
-        throws IllegalAccessException {
-      Class<?> mType = member.getType();
-      if (mType.isPrimitive()) {
-        if (mType == byte.class) map(record.get(index, byte.class), result, member);
-        else if (mType == short.class) map(record.get(index, short.class), result, member);
-        else if (mType == int.class) map(record.get(index, int.class), result, member);
-        else if (mType == long.class) map(record.get(index, long.class), result, member);
-        else if (mType == float.class) map(record.get(index, float.class), result, member);
-        else if (mType == double.class) map(record.get(index, double.class), result, member);
-        else if (mType == boolean.class) map(record.get(index, boolean.class), result, member);
-        else if (mType == char.class) map(record.get(index, char.class), result, member);
-      } else {
-        Object value = record.get(index, mType);
-        // [#3082] [#10910] [#11213] Try mapping nested collection types
-        Object list = tryConvertToList(value, mType, member.getGenericType());
-        if (list != null) member.set(result, list);
-        else map(value, result, member);
-      }
-    }
-
-    private final List<?> tryConvertToList(Object value, Class<?> mType, Type genericType) {
-      if (value instanceof Collection
-          && (mType == List.class || mType == ArrayList.class)
-          && genericType instanceof ParameterizedType) {
-        Class<?> componentType =
-            (Class<?>) ((ParameterizedType) genericType).getActualTypeArguments()[0];
-        return Convert.convert((Collection<?>) value, componentType);
-      } else return null;
-    }
-
     private final void map(Object value, Object result, java.lang.reflect.Field member)
         throws IllegalAccessException {
       Class<?> mType = member.getType();
@@ -942,6 +921,43 @@ public class DefaultRecordMapper<R extends Record, E> implements RecordMapper<R,
     }
   }
 
+  /**
+   * A precomputed mapping of a record field to a POJO member or setter, whose write access is
+   * specialised by {@link PropertyWriters}.
+   */
+  private static final class PropertyMapping {
+
+    private final int index;
+
+    private final Class<?> type;
+
+    /** The generic type, if the member or setter accepts a nested collection. */
+    private final Type listType;
+
+    private final BiConsumer<Object, Object> writer;
+
+    PropertyMapping(int index, Class<?> type, Type genericType, BiConsumer<Object, Object> writer) {
+      this.index = index;
+      this.type = type;
+      this.listType =
+          (type == List.class || type == ArrayList.class) && genericType instanceof ParameterizedType
+              ? genericType
+              : null;
+      this.writer = writer;
+    }
+
+    final void map(Record record, Object result) {
+      Object value = record.get(index, type);
+      // [#3082] [#10910] [#11213] Try mapping nested collection types
+      if (listType != null && value instanceof Collection)
+        value =
+            Convert.convert(
+                (Collection<?>) value,
+                (Class<?>) ((ParameterizedType) listType).getActualTypeArguments()[0]);
+      writer.accept(result, value);
+    }
+  }
+
   /** Convert a record into an "immutable" POJO (final fields, "matching" constructor). */
   private class ImmutablePOJOMapper extends AbstractDelegateMapper<R, E> {
 
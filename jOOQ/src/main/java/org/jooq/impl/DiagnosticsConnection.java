@@ -80,6 +80,8 @@ final class DiagnosticsConnection extends DefaultConnection {
 
   final DiagnosticsListeners listeners;
 
+  final DiagnosticsWorker worker;
+
   DiagnosticsConnection(Configuration configuration) {
     super(configuration.connectionProvider().acquire());
     this.configuration = configuration;
@@ -98,6 +100,7 @@ final class DiagnosticsConnection extends DefaultConnection {
             .renderContext();
     this.parser = configuration.dsl().parser();
     this.listeners = DiagnosticsListeners.get(configuration);
+    this.worker = DiagnosticsWorker.get(configuration);
   }
 
   @Override
@@ -187,11 +190,22 @@ final class DiagnosticsConnection extends DefaultConnection {
 
   @Override
   public final void close() throws SQLException {
-    repeatedSQL.clear();
+    // The worker may still be analysing SQL strings of this connection
+    if (worker == null) repeatedSQL.clear();
     configuration.connectionProvider().release(getDelegate());
   }
 
   final String parse(String sql) {
+    if (worker != null) worker.offer(this, sql);
+    else analyse(sql);
+    return sql;
+  }
+
+  /**
+   * Analyse a SQL string, either on the executing thread, or on the {@link DiagnosticsWorker}
+   * thread, which is then the only thread accessing this connection's analysis state.
+   */
+  final void analyse(String sql) {
     Queries queries;
     String normalised;
     try {
@@ -211,7 +225,6 @@ final class DiagnosticsConnection extends DefaultConnection {
     if (repetitions != null)
       listeners.repeatedStatements(
           new DefaultDiagnosticsContext(sql, normalised, null, repetitions));
-    return sql;
   }
 
   private Set<String> duplicates(Map<String, Set<String>> map, String sql, String normalised) {
@@ -0,0 +1,203 @@
+/* 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.impl;
+
+import static org.jooq.impl.Tools.DataKey.DATA_DIAGNOSTICS_WORKER;
+import static org.jooq.tools.StringUtils.defaultIfNull;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.LockSupport;
+import org.jooq.Configuration;
+import org.jooq.conf.Settings;
+import org.jooq.tools.JooqLogger;
+
+/**
+ * A background worker analysing the SQL strings executed on {@link DiagnosticsConnection}
+ * instances, if {@link Settings#isDiagnosticsAsync()} is enabled.
+ *
+ * <p>Executing threads only sample SQL strings into a bounded, lock-free ring buffer. If the buffer
+ * is full, SQL strings are dropped, and the number of dropped SQL strings is logged by the worker.
+ * The worker thread is started on demand, and terminates after being idle for a while.
+ *
+ * @author Lukas Eder
+ */
+final class DiagnosticsWorker implements Runnable {
+
+  private static final JooqLogger log = JooqLogger.getLogger(DiagnosticsWorker.class);
+
+  private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+
+  private static final long IDLE_TIMEOUT_NANOS = TimeUnit.SECONDS.toNanos(10);
+
+  private final int sampleRate;
+
+  private final int mask;
+
+  private final AtomicReferenceArray<Event> slots;
+
+  /** The next slot to be claimed by a producer. */
+  private final AtomicLong tail;
+
+  /** The next slot to be consumed by the worker, written only by the worker thread. */
+  private volatile long head;
+
+  private final AtomicLong dropped;
+
+  private final AtomicBoolean running;
+
+  private volatile Thread thread;
+
+  private volatile boolean parked;
+
+  private long reportedDropped;
+
+  DiagnosticsWorker(int sampleRate, int bufferSize) {
+    int capacity = Integer.highestOneBit(Math.max(2, bufferSize) - 1) << 1;
+    this.sampleRate = Math.max(1, sampleRate);
+    this.mask = capacity - 1;
+    this.slots = new AtomicReferenceArray<>(capacity);
+    this.tail = new AtomicLong();
+    this.dropped = new AtomicLong();
+    this.running = new AtomicBoolean();
+  }
+
+  /** The shared worker of a configuration, or <code>null</code> if diagnostics are synchronous. */
+  static final DiagnosticsWorker get(Configuration configuration) {
+    Settings settings = configuration.settings();
+    if (!Boolean.TRUE.equals(settings.isDiagnosticsAsync())) return null;
+    return (DiagnosticsWorker)
+        configuration
+            .data()
+            .computeIfAbsent(
+                DATA_DIAGNOSTICS_WORKER,
+                k ->
+                    new DiagnosticsWorker(
+                        defaultIfNull(settings.getDiagnosticsAsyncSampleRate(), 1),
+                        defaultIfNull(settings.getDiagnosticsAsyncBufferSize(), 4096)));
+  }
+
+  /** Sample a SQL string for analysis, without blocking. */
+  final void offer(DiagnosticsConnection connection, String sql) {
+    if (sampleRate > 1 && ThreadLocalRandom.current().nextInt(sampleRate) != 0) return;
+    long t;
+    do {
+      t = tail.get();
+      if (t - head > mask) {
+        dropped.incrementAndGet();
+        return;
+      }
+    } while (!tail.compareAndSet(t, t + 1));
+    slots.lazySet((int) t & mask, new Event(connection, sql));
+    if (!running.get() && running.compareAndSet(false, true)) start();
+    else if (parked) LockSupport.unpark(thread);
+  }
+
+  /** The number of SQL strings that were dropped because the buffer was full. */
+  final long dropped() {
+    return dropped.get();
+  }
+
+  private final void start() {
+    Thread t = new Thread(this, "jooq-diagnostics");
+    t.setDaemon(true);
+    thread = t;
+    t.start();
+  }
+
+  private final Event poll() {
+    long h = head;
+    int i = (int) h & mask;
+    // A claimed slot may not yet be published by its producer
+    Event event = slots.get(i);
+    if (event != null) {
+      slots.lazySet(i, null);
+      head = h + 1;
+    }
+    return event;
+  }
+
+  @Override
+  public final void run() {
+    long idleSince = System.nanoTime();
+    for (;;) {
+      Event event = poll();
+      if (event != null) {
+        try {
+          event.connection.analyse(event.sql);
+        } catch (RuntimeException e) {
+          log.warn("Diagnostics", "Error while analysing SQL: " + event.sql, e);
+        }
+        idleSince = System.nanoTime();
+        continue;
+      }
+      long d = dropped.get();
+      if (d != reportedDropped) {
+        log.warn(
+            "Diagnostics",
+            (d - reportedDropped) + " SQL strings were dropped, as the buffer was full");
+        reportedDropped = d;
+      }
+      if (System.nanoTime() - idleSince > IDLE_TIMEOUT_NANOS) {
+        running.set(false);
+        // A producer may have missed the thread terminating
+        if (tail.get() == head || !running.compareAndSet(false, true)) return;
+        idleSince = System.nanoTime();
+        continue;
+      }
+      parked = true;
+      if (tail.get() == head) LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+      parked = false;
+    }
+  }
+
+  private static final class Event {
+
+    final DiagnosticsConnection connection;
+
+    final String sql;
+
+    Event(DiagnosticsConnection connection, String sql) {
+      this.connection = connection;
+      this.sql = sql;
+    }
+  }
+}
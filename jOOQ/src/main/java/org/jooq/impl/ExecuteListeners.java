@@ -64,6 +64,74 @@ final class ExecuteListeners implements ExecuteListener {
   private static final JooqLogger LOGGER_LISTENER_LOGGER =
       JooqLogger.getLogger(LoggerListener.class);
 
+  /** The events, in the order of the bits of {@link Callbacks#callbacks(ExecuteListener)}. */
+  static final String[] EVENTS = {
+    "start",
+    "renderStart",
+    "renderEnd",
+    "prepareStart",
+    "prepareEnd",
+    "bindStart",
+    "bindEnd",
+    "executeStart",
+    "executeEnd",
+    "outStart",
+    "outEnd",
+    "fetchStart",
+    "resultStart",
+    "recordStart",
+    "recordEnd",
+    "resultEnd",
+    "fetchEnd",
+    "end",
+    "exception",
+    "warning"
+  };
+
+  static final int START = 0;
+
+  static final int RENDER_START = 1;
+
+  static final int RENDER_END = 2;
+
+  static final int PREPARE_START = 3;
+
+  static final int PREPARE_END = 4;
+
+  static final int BIND_START = 5;
+
+  static final int BIND_END = 6;
+
+  static final int EXECUTE_START = 7;
+
+  static final int EXECUTE_END = 8;
+
+  static final int OUT_START = 9;
+
+  static final int OUT_END = 10;
+
+  static final int FETCH_START = 11;
+
+  static final int RESULT_START = 12;
+
+  static final int RECORD_START = 13;
+
+  static final int RECORD_END = 14;
+
+  static final int RESULT_END = 15;
+
+  static final int FETCH_END = 16;
+
+  static final int END = 17;
+
+  static final int EXCEPTION = 18;
+
+  static final int WARNING = 19;
+
+  /**
+   * The listeners per event, containing only the listeners that implement the event's callback,
+   * in the event's invocation order.
+   */
   private final ExecuteListener[][] listeners;
 
   // In some setups, these two events may get mixed up chronologically by the
@@ -114,14 +182,56 @@ final class ExecuteListeners implements ExecuteListener {
     if (list == null) return null;
     ExecuteListener[] def = list.toArray(EMPTY_EXECUTE_LISTENER);
     ExecuteListener[] rev = null;
-    return new ExecuteListener[][] {
-      ctx.settings().getExecuteListenerStartInvocationOrder() != REVERSE
-          ? def
-          : (rev = Tools.reverse(def.clone())),
-      ctx.settings().getExecuteListenerEndInvocationOrder() != REVERSE
-          ? def
-          : (rev != null ? rev : (rev = Tools.reverse(def.clone())))
-    };
+    ExecuteListener[] start =
+        ctx.settings().getExecuteListenerStartInvocationOrder() != REVERSE
+            ? def
+            : (rev = Tools.reverse(def.clone()));
+    ExecuteListener[] end =
+        ctx.settings().getExecuteListenerEndInvocationOrder() != REVERSE
+            ? def
+            : (rev != null ? rev : (rev = Tools.reverse(def.clone())));
+    // Dispatch events only to the listeners that implement them, such that frequent events like
+    // recordStart() and recordEnd() cost nothing if no listener is interested
+    int[] startCallbacks = callbacks(start);
+    int[] endCallbacks = end == start ? startCallbacks : callbacks(end);
+    ExecuteListener[][] result = new ExecuteListener[EVENTS.length][];
+    for (int e = 0; e < EVENTS.length; e++)
+      result[e] = isEnd(e) ? listeners(end, endCallbacks, e) : listeners(start, startCallbacks, e);
+    return result;
+  }
+
+  private static final boolean isEnd(int event) {
+    return event == END || EVENTS[event].endsWith("End");
+  }
+
+  private static final int[] callbacks(ExecuteListener[] listeners) {
+    int[] result = new int[listeners.length];
+    for (int i = 0; i < listeners.length; i++) result[i] = Callbacks.callbacks(listeners[i]);
+    return result;
+  }
+
+  private static final ExecuteListener[] listeners(
+      ExecuteListener[] listeners, int[] callbacks, int event) {
+    int bit = 1 << event;
+    int size = 0;
+    for (int c : callbacks) if ((c & bit) != 0) size++;
+    if (size == 0) return EMPTY_EXECUTE_LISTENER;
+    else if (size == listeners.length) return listeners;
+    ExecuteListener[] result = new ExecuteListener[size];
+    for (int i = 0, j = 0; i < listeners.length; i++)
+      if ((callbacks[i] & bit) != 0) result[j++] = listeners[i];
+    return result;
+  }
+
+  /**
+   * Whether an event needs to be dispatched to a listener, or whether it can be skipped, because no
+   * listener is interested in it.
+   */
+  static final boolean listens(ExecuteListener listener, int event) {
+    if (listener == EMPTY_LISTENER) return false;
+    else if (listener instanceof ExecuteListeners)
+      return ((ExecuteListeners) listener).listeners[event].length > 0;
+    else return true;
   }
 
   private static final List<ExecuteListener> init(List<ExecuteListener> result) {
@@ -134,107 +244,107 @@ final class ExecuteListeners implements ExecuteListener {
 
   @Override
   public final void start(ExecuteContext ctx) {
-    for (ExecuteListener listener : listeners[0]) listener.start(ctx);
+    for (ExecuteListener listener : listeners[START]) listener.start(ctx);
   }
 
   @Override
   public final void renderStart(ExecuteContext ctx) {
-    for (ExecuteListener listener : listeners[0]) listener.renderStart(ctx);
+    for (ExecuteListener listener : listeners[RENDER_START]) listener.renderStart(ctx);
   }
 
   @Override
   public final void renderEnd(ExecuteContext ctx) {
-    for (ExecuteListener listener : listeners[1]) listener.renderEnd(ctx);
+    for (ExecuteListener listener : listeners[RENDER_END]) listener.renderEnd(ctx);
   }
 
   @Override
   public final void prepareStart(ExecuteContext ctx) {
-    for (ExecuteListener listener : listeners[0]) listener.prepareStart(ctx);
+    for (ExecuteListener listener : listeners[PREPARE_START]) listener.prepareStart(ctx);
   }
 
   @Override
   public final void prepareEnd(ExecuteContext ctx) {
-    for (ExecuteListener listener : listeners[1]) listener.prepareEnd(ctx);
+    for (ExecuteListener listener : listeners[PREPARE_END]) listener.prepareEnd(ctx);
   }
 
   @Override
   public final void bindStart(ExecuteContext ctx) {
-    for (ExecuteListener listener : listeners[0]) listener.bindStart(ctx);
+    for (ExecuteListener listener : listeners[BIND_START]) listener.bindStart(ctx);
   }
 
   @Override
   public final void bindEnd(ExecuteContext ctx) {
-    for (ExecuteListener listener : listeners[1]) listener.bindEnd(ctx);
+    for (ExecuteListener listener : listeners[BIND_END]) listener.bindEnd(ctx);
   }
 
   @Override
   public final void executeStart(ExecuteContext ctx) {
     if (ctx instanceof DefaultExecuteContext)
       ((DefaultExecuteContext) ctx).incrementStatementExecutionCount();
-    for (ExecuteListener listener : listeners[0]) listener.executeStart(ctx);
+    for (ExecuteListener listener : listeners[EXECUTE_START]) listener.executeStart(ctx);
   }
 
   @Override
   public final void executeEnd(ExecuteContext ctx) {
-    for (ExecuteListener listener : listeners[1]) listener.executeEnd(ctx);
+    for (ExecuteListener listener : listeners[EXECUTE_END]) listener.executeEnd(ctx);
   }
 
   @Override
   public final void fetchStart(ExecuteContext ctx) {
-    for (ExecuteListener listener : listeners[0]) listener.fetchStart(ctx);
+    for (ExecuteListener listener : listeners[FETCH_START]) listener.fetchStart(ctx);
   }
 
   @Override
   public final void outStart(ExecuteContext ctx) {
-    for (ExecuteListener listener : listeners[0]) listener.outStart(ctx);
+    for (ExecuteListener listener : listeners[OUT_START]) listener.outStart(ctx);
   }
 
   @Override
   public final void outEnd(ExecuteContext ctx) {
-    for (ExecuteListener listener : listeners[1]) listener.outEnd(ctx);
+    for (ExecuteListener listener : listeners[OUT_END]) listener.outEnd(ctx);
   }
 
   @Override
   public final void resultStart(ExecuteContext ctx) {
     resultStart = true;
-    for (ExecuteListener listener : listeners[0]) listener.resultStart(ctx);
+    for (ExecuteListener listener : listeners[RESULT_START]) listener.resultStart(ctx);
   }
 
   @Override
   public final void recordStart(ExecuteContext ctx) {
-    for (ExecuteListener listener : listeners[0]) listener.recordStart(ctx);
+    for (ExecuteListener listener : listeners[RECORD_START]) listener.recordStart(ctx);
   }
 
   @Override
   public final void recordEnd(ExecuteContext ctx) {
-    for (ExecuteListener listener : listeners[1]) listener.recordEnd(ctx);
+    for (ExecuteListener listener : listeners[RECORD_END]) listener.recordEnd(ctx);
   }
 
   @Override
   public final void resultEnd(ExecuteContext ctx) {
     resultStart = false;
-    for (ExecuteListener listener : listeners[1]) listener.resultEnd(ctx);
+    for (ExecuteListener listener : listeners[RESULT_END]) listener.resultEnd(ctx);
     if (fetchEnd) fetchEnd(ctx);
   }
 
   @Override
   public final void fetchEnd(ExecuteContext ctx) {
     if (resultStart) fetchEnd = true;
-    else for (ExecuteListener listener : listeners[1]) listener.fetchEnd(ctx);
+    else for (ExecuteListener listener : listeners[FETCH_END]) listener.fetchEnd(ctx);
   }
 
   @Override
   public final void end(ExecuteContext ctx) {
-    for (ExecuteListener listener : listeners[1]) listener.end(ctx);
+    for (ExecuteListener listener : listeners[END]) listener.end(ctx);
   }
 
   @Override
   public final void exception(ExecuteContext ctx) {
-    for (ExecuteListener listener : listeners[0]) listener.exception(ctx);
+    for (ExecuteListener listener : listeners[EXCEPTION]) listener.exception(ctx);
   }
 
   @Override
   public final void warning(ExecuteContext ctx) {
-    for (ExecuteListener listener : listeners[0]) listener.warning(ctx);
+    for (ExecuteListener listener : listeners[WARNING]) listener.warning(ctx);
   }
 }
@@ -47,6 +47,9 @@ import static org.jooq.impl.Tools.newRecord;
 import java.sql.SQLWarning;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
 import org.java.util.stream.Stream;
 import org.jooq.Configuration;
 import org.jooq.Context;
@@ -73,8 +76,14 @@ final class FieldsImpl<R extends Record> extends AbstractQueryPart
 
   private static final JooqLogger log = JooqLogger.getLogger(FieldsImpl.class);
 
+  /** The number of fields from which on lookups use a hash index rather than linear scans. */
+  static final int INDEX_THRESHOLD = 8;
+
   Field<?>[] fields;
 
+  /** A lazily initialised hash index over {@link #fields}, if they are wide enough. */
+  private transient FieldsIndex index;
+
   FieldsImpl(SelectField<?>... fields) {
     this.fields = Tools.map(fields, toField(), Field<?>[]::new);
   }
@@ -219,6 +228,8 @@ final class FieldsImpl<R extends Record> extends AbstractQueryPart
 
   private final <U> U field0(Field<?> field, FieldOrIndex<U> result) {
     if (field == null) return result.resultNull();
+    FieldsIndex index = index();
+    if (index != null) return field0(index, field, result);
     // [#4540] Try finding a match by identity
     for (int i = 0; i < fields.length; i++) {
       Field<?> f = fields[i];
@@ -229,13 +240,48 @@ final class FieldsImpl<R extends Record> extends AbstractQueryPart
       Field<?> f = fields[i];
       if (f.equals(field)) return result.result(f, i);
     }
+    return field1(null, field, result);
+  }
+
+  private final <U> U field0(FieldsIndex index, Field<?> field, FieldOrIndex<U> result) {
+    // [#4540] Try finding a match by identity
+    Integer identity = index.identity.get(field);
+    if (identity != null) return result.result(fields[identity], identity);
+    int[] candidates = index.names.get(field.getName());
+    // [#1802] Try finding an exact match (e.g. exact matching qualified name)
+    // Equal fields usually have equal names, so check those first. But equals()
+    // may be overridden, so check the remaining fields as well, in the order of
+    // their declaration, to get the same results as without the index.
+    int[] checked = index.equalityCandidates(candidates);
+    for (int i : checked) {
+      Field<?> f = fields[i];
+      if (f.equals(field)) return result.result(f, i);
+    }
+    for (int i = 0, j = 0; i < fields.length; i++) {
+      if (j < checked.length && checked[j] == i) j++;
+      else if (fields[i].equals(field)) return result.result(fields[i], i);
+    }
+    // No field has a matching name
+    if (candidates == null) return result.result(null, -1);
+    return field1(candidates, field, result);
+  }
+
+  /**
+   * Find a match by table and column name, or by column name only.
+   *
+   * @param candidates The indexes of fields with matching names, or <code>null</code> if all fields
+   *     need to be scanned.
+   */
+  private final <U> U field1(int[] candidates, Field<?> field, FieldOrIndex<U> result) {
     // [#4283] table / column matches are better than only column matches
     Field<?> columnMatch = null;
     Field<?> columnMatch2 = null;
     int indexMatch = -1;
     String tableName = tableName(field);
     String fieldName = field.getName();
-    for (int i = 0; i < fields.length; i++) {
+    int length = candidates == null ? fields.length : candidates.length;
+    for (int j = 0; j < length; j++) {
+      int i = candidates == null ? j : candidates[j];
       Field<?> f = fields[i];
       String fName = f.getName();
       if (tableName != null) {
@@ -286,9 +332,14 @@ final class FieldsImpl<R extends Record> extends AbstractQueryPart
 
   private final <U> U field0(String fieldName, FieldOrIndex<U> result) {
     if (fieldName == null) return result.resultNull();
+    FieldsIndex index = index();
+    int[] candidates = index != null ? index.names.get(fieldName) : null;
+    if (index != null && candidates == null) return result.result(null, -1);
     Field<?> columnMatch = null;
     int indexMatch = -1;
-    for (int i = 0; i < fields.length; i++) {
+    int length = candidates == null ? fields.length : candidates.length;
+    for (int j = 0; j < length; j++) {
+      int i = candidates == null ? j : candidates[j];
       Field<?> f = fields[i];
       if (f.getName().equals(fieldName)) {
         if (columnMatch == null) {
@@ -494,6 +545,71 @@ final class FieldsImpl<R extends Record> extends AbstractQueryPart
     System.arraycopy(fields, 0, result, 0, fields.length);
     result[fields.length] = f;
     fields = result;
+    index = null;
+  }
+
+  // -------------------------------------------------------------------------
+  // XXX: Hash index for wide records
+  // -------------------------------------------------------------------------
+  private final FieldsIndex index() {
+    Field<?>[] f = fields;
+    if (f.length < INDEX_THRESHOLD) return null;
+    // The index is immutable and can be published racily. Concurrent
+    // initialisations produce equivalent indexes.
+    FieldsIndex i = index;
+    if (i == null || i.fields != f) index = i = new FieldsIndex(f);
+    return i;
+  }
+
+  /**
+   * An immutable index mapping field identities and names to their positions in a
+   * <code>Field[]</code>.
+   */
+  private static final class FieldsIndex {
+    private static final int[] NO_INDEXES = {};
+
+    final Field<?>[] fields;
+    final Map<Field<?>, Integer> identity;
+    final Map<String, int[]> names;
+    final int[] unnamed;
+
+    FieldsIndex(Field<?>[] fields) {
+      this.fields = fields;
+      this.identity = new IdentityHashMap<>(fields.length * 2);
+      this.names = new HashMap<>(fields.length * 2);
+      int[] u = new int[fields.length];
+      int unnamedCount = 0;
+      for (int i = 0; i < fields.length; i++) {
+        Field<?> f = fields[i];
+        // The first occurrence of a field wins, just like with linear scans
+        if (!identity.containsKey(f)) identity.put(f, i);
+        int[] n = names.get(f.getName());
+        if (n == null) n = new int[] {i};
+        else {
+          n = Arrays.copyOf(n, n.length + 1);
+          n[n.length - 1] = i;
+        }
+        names.put(f.getName(), n);
+        if (!(f instanceof AbstractNamed)) u[unnamedCount++] = i;
+      }
+      this.unnamed = unnamedCount == 0 ? NO_INDEXES : Arrays.copyOf(u, unnamedCount);
+    }
+
+    /**
+     * The indexes of fields that may be equal to a named field with the given name candidates, in
+     * declaration order.
+     */
+    final int[] equalityCandidates(int[] candidates) {
+      if (candidates == null) return unnamed;
+      else if (unnamed.length == 0) return candidates;
+      int[] result = new int[candidates.length + unnamed.length];
+      int i = 0, j = 0, k = 0;
+      while (i < candidates.length && j < unnamed.length)
+        result[k++] = candidates[i] < unnamed[j] ? candidates[i++] : unnamed[j++];
+      while (i < candidates.length) result[k++] = candidates[i++];
+      while (j < unnamed.length) result[k++] = unnamed[j++];
+      return result;
+    }
   }
 
   // -------------------------------------------------------------------------
@@ -61,6 +61,7 @@ import org.jooq.OrderField;
 import org.jooq.ParamMode;
 import org.jooq.Parameter;
 import org.jooq.Record;
+import org.jooq.RecordType;
 import org.jooq.Result;
 import org.jooq.Row;
 import org.jooq.Schema;
@@ -450,6 +451,31 @@ public final class Internal {
     return (Class<T[]>) Array.newInstance(type, 0).getClass();
   }
 
+  /**
+   * Look up the indexes of a table's fields in a {@link RecordType}, for use by generated {@link
+   * org.jooq.RecordMapper} implementations.
+   *
+   * @return The index of each field, or <code>-1</code> if the field is absent, or <code>null
+   *     </code> if none of the fields is present or if a present field is of a different type, in
+   *     case of which the generated code falls back to the reflective mapper.
+   */
+  public static final int[] fieldIndexes(RecordType<?> recordType, Field<?>[] fields) {
+    int[] result = new int[fields.length];
+    boolean found = false;
+
+    for (int i = 0; i < fields.length; i++) {
+      int index = result[i] = recordType.indexOf(fields[i]);
+
+      if (index >= 0) {
+        if (recordType.type(index) != fields[i].getType()) return null;
+
+        found = true;
+      }
+    }
+
+    return found ? result : null;
+  }
+
   /** Create an empty result from a {@link Record} using its row type. */
   public static final <R extends Record> Result<R> result(R record) {
     return new ResultImpl<>(Tools.configuration(record), ((AbstractRecord) record).fields);
@@ -1125,24 +1125,36 @@ final class Interpreter {
     return find(m, (UnqualifiedName) named.getUnqualifiedName());
   }
 
-  private static final <M extends MutableNamed> M find(List<? extends M> list, Named named) {
+  @SuppressWarnings("unchecked")
+  private final <M extends MutableNamed> M find(List<? extends M> list, Named named) {
     UnqualifiedName n = (UnqualifiedName) named.getUnqualifiedName();
-    // TODO Avoid O(N) lookups. Use Maps instead
+    if (list instanceof MutableNamedList) return ((MutableNamedList<M>) list).find(key(n));
     for (M m : list) if ((m = find(m, n)) != null) return m;
     return null;
   }
 
-  private static final int indexOrFail(List<? extends MutableNamed> list, Named named) {
-    int result = -1;
-    // TODO Avoid O(N) lookups. Use Maps instead
-    for (int i = 0; i < list.size(); i++) {
-      if (list.get(i).nameEquals((UnqualifiedName) named.getUnqualifiedName())) {
-        result = i;
-        break;
-      }
+  private final int indexOrFail(List<? extends MutableNamed> list, Named named) {
+    MutableNamed m = find(list, named);
+    if (m == null) throw notExists(named);
+    return list.indexOf(m);
+  }
+
+  /**
+   * The lookup key of a name, such that two names are equal according to the {@link
+   * InterpreterNameLookupCaseSensitivity} if and only if their keys are equal.
+   */
+  private final String key(UnqualifiedName name) {
+    switch (caseSensitivity) {
+      case ALWAYS:
+        return name.last();
+      case WHEN_QUOTED:
+        return normaliseNameCase(configuration, name.last(), name.quoted() == QUOTED, locale);
+      case NEVER:
+        return name.last().toUpperCase(locale);
+      case DEFAULT:
+      default:
+        throw new IllegalStateException();
     }
-    if (result == -1) throw notExists(named);
-    return result;
   }
 
   private static final InterpreterNameLookupCaseSensitivity caseSensitivity(
@@ -1174,10 +1186,13 @@ final class Interpreter {
 
     private UnqualifiedName name;
 
-    private String upper;
+    private String key;
 
     private Comment comment;
 
+    /** The {@link MutableNamedList} instances that contain this object, indexed by its key. */
+    List<MutableNamedList<?>> lists;
+
     MutableNamed(UnqualifiedName name) {
       this(name, null);
     }
@@ -1198,8 +1213,15 @@ final class Interpreter {
     }
 
     void name(UnqualifiedName n) {
+      String oldKey = key;
       this.name = n;
-      this.upper = name.last().toUpperCase(locale);
+      this.key = Interpreter.this.key(n);
+      if (lists != null && !key.equals(oldKey))
+        for (MutableNamedList<?> list : lists) list.rekey(this, oldKey);
+    }
+
+    String key() {
+      return key;
     }
 
     Comment comment() {
@@ -1211,19 +1233,7 @@ final class Interpreter {
     }
 
     boolean nameEquals(UnqualifiedName other) {
-      switch (caseSensitivity) {
-        case ALWAYS:
-          return name.last().equals(other.last());
-        case WHEN_QUOTED:
-          return normaliseNameCase(configuration, name.last(), name.quoted() == QUOTED, locale)
-              .equals(
-                  normaliseNameCase(configuration, other.last(), other.quoted() == QUOTED, locale));
-        case NEVER:
-          return upper.equalsIgnoreCase(other.last().toUpperCase(locale));
-        case DEFAULT:
-        default:
-          throw new IllegalStateException();
-      }
+      return key.equals(Interpreter.this.key(other));
     }
 
     abstract MutableNamed parent();
@@ -1868,10 +1878,18 @@ final class Interpreter {
     }
   }
 
+  /**
+   * A list of {@link MutableNamed} objects in declaration order, which are additionally indexed by
+   * their {@link MutableNamed#key()}, such that lookups by name don't have to scan the list.
+   */
   private final class MutableNamedList<N extends MutableNamed> extends AbstractList<N> {
 
     private final List<N> delegate = new ArrayList<>();
 
+    // Several objects may share a key, e.g. unnamed constraints. They're kept in list order, such
+    // that the first one is found, as with a scan.
+    private final Map<String, List<N>> index = new HashMap<>();
+
     @Override
     public N get(int index) {
       return delegate.get(index);
@@ -1884,20 +1902,71 @@ final class Interpreter {
 
     @Override
     public N set(int index, N element) {
-      return delegate.set(index, element);
+      N previous = delegate.set(index, element);
+      unindex(previous);
+      index(element, index);
+      return previous;
     }
 
     @Override
     public void add(int index, N element) {
       delegate.add(index, element);
+      index(element, index);
     }
 
     @Override
     public N remove(int index) {
       N removed = delegate.remove(index);
+      unindex(removed);
       removed.onDrop();
       return removed;
     }
+
+    /** The first object with a key, or <code>null</code> if there is no such object. */
+    final N find(String key) {
+      List<N> list = index.get(key);
+      return list == null ? null : list.get(0);
+    }
+
+    @SuppressWarnings("unchecked")
+    final void rekey(MutableNamed element, String oldKey) {
+      remove(index.get(oldKey), element, oldKey);
+      insert((N) element, delegate.indexOf(element));
+    }
+
+    private final void index(N element, int i) {
+      if (element.lists == null) element.lists = new ArrayList<>(2);
+      element.lists.add(this);
+      insert(element, i);
+    }
+
+    private final void insert(N element, int i) {
+      List<N> list = index.computeIfAbsent(element.key(), k -> new ArrayList<>(1));
+      // Appending to the end of the list is the common case
+      if (list.isEmpty() || i == delegate.size() - 1) list.add(element);
+      else {
+        int p = 0;
+        while (p < list.size() && delegate.indexOf(list.get(p)) < i) p++;
+        list.add(p, element);
+      }
+    }
+
+    private final void unindex(N element) {
+      remove(element.lists, this, null);
+      remove(index.get(element.key()), element, element.key());
+    }
+
+    private final void remove(List<?> list, Object element, String key) {
+      if (list != null) {
+        // Remove by identity, not by equality, as lists have a content based equals()
+        for (int i = 0; i < list.size(); i++)
+          if (list.get(i) == element) {
+            list.remove(i);
+            break;
+          }
+        if (key != null && list.isEmpty()) index.remove(key);
+      }
+    }
   }
 
   @Override
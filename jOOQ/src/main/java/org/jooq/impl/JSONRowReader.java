@@ -0,0 +1,316 @@
+/* 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.impl;
+
+import static org.jooq.impl.DSL.field;
+import static org.jooq.impl.DSL.name;
+import static org.jooq.impl.DefaultDataType.getDataType;
+import static org.jooq.impl.SQLDataType.VARCHAR;
+import static org.jooq.impl.Tools.EMPTY_FIELD;
+import static org.jooq.tools.StringUtils.defaultIfBlank;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.NoSuchElementException;
+import javax.xml.bind.DatatypeConverter;
+import org.jooq.DSLContext;
+import org.jooq.Field;
+import org.jooq.exception.DataAccessException;
+import org.jooq.tools.json.ContentHandler;
+import org.jooq.tools.json.JSONParser;
+import org.jooq.tools.json.JSONValue;
+import org.jooq.tools.json.ParseException;
+
+/**
+ * A pull based reader producing one row at a time from a JSON document in any of the layouts
+ * produced by {@link org.jooq.Formattable#formatJSON()}.
+ *
+ * <p>Unlike {@link JSONReader}, this reader doesn't materialise the document. The {@link
+ * JSONParser} is suspended after each record, so only the current record is kept in memory. Both
+ * the <code>{"fields": [...], "records": [...]}</code> and the plain <code>[...]</code> layouts
+ * are supported, with records encoded as arrays or as objects.
+ *
+ * @author Lukas Eder
+ */
+final class JSONRowReader implements Iterator<Object[]>, AutoCloseable {
+
+  private final DSLContext ctx;
+
+  private final Reader reader;
+
+  private final JSONParser parser;
+
+  private final Handler handler;
+
+  private Field<?>[] fields;
+
+  private Map<String, Integer> indexes;
+
+  private Object[] next;
+
+  private boolean started;
+
+  JSONRowReader(DSLContext ctx, Reader reader) {
+    this.ctx = ctx;
+    this.reader = reader;
+    this.parser = new JSONParser();
+    this.handler = new Handler();
+  }
+
+  /** The header of the document, available once the first row has been read. */
+  final Field<?>[] fields() {
+    return fields;
+  }
+
+  @Override
+  public final boolean hasNext() {
+    if (next == null && !handler.end) {
+      try {
+        parser.parse(reader, handler, started);
+        started = true;
+      } catch (IOException | ParseException e) {
+        throw new DataAccessException("Could not read the JSON input", e);
+      }
+      next = handler.row;
+      handler.row = null;
+    }
+    return next != null;
+  }
+
+  @Override
+  public final Object[] next() {
+    if (!hasNext()) throw new NoSuchElementException();
+    Object[] result = next;
+    next = null;
+    return result;
+  }
+
+  @Override
+  public final void close() throws IOException {
+    reader.close();
+  }
+
+  private final void header(List<?> list) {
+    List<Field<?>> header = new ArrayList<>(list.size());
+    for (Object o : list) {
+      Map<?, ?> field = (Map<?, ?>) o;
+      header.add(
+          field(
+              name(
+                  (String) field.get("catalog"),
+                  (String) field.get("schema"),
+                  (String) field.get("table"),
+                  (String) field.get("name")),
+              getDataType(ctx.dialect(), defaultIfBlank((String) field.get("type"), "VARCHAR"))));
+    }
+    if (!header.isEmpty()) fields = header.toArray(EMPTY_FIELD);
+  }
+
+  private final Object[] row(Object record) {
+    Object[] result;
+    if (record instanceof Map) {
+      Map<?, ?> map = (Map<?, ?>) record;
+      if (fields == null) {
+        List<Field<?>> header = new ArrayList<>(map.size());
+        for (Object key : map.keySet()) header.add(field(name((String) key), VARCHAR));
+        fields = header.toArray(EMPTY_FIELD);
+      }
+      if (indexes == null) {
+        indexes = new HashMap<>();
+        for (int i = 0; i < fields.length; i++) indexes.putIfAbsent(fields[i].getName(), i);
+      }
+      result = new Object[fields.length];
+      for (Entry<?, ?> e : map.entrySet()) {
+        Integer i = indexes.get(e.getKey());
+        if (i != null) result[i] = e.getValue();
+      }
+    } else {
+      List<?> list = (List<?>) record;
+      if (fields == null) fields = Tools.fields(list.size());
+      result = list.toArray();
+    }
+    for (int i = 0; i < result.length; i++)
+      if (result[i] instanceof Map || result[i] instanceof List)
+        result[i] = JSONValue.toJSONString(result[i]);
+    return convert(fields, result);
+  }
+
+  /** Convert a row of raw values read from a document to the document header's types. */
+  static final Object[] convert(Field<?>[] fields, Object[] row) {
+    for (int i = 0; i < row.length && i < fields.length; i++)
+      // [#8829] LoaderImpl expects binary data to be encoded in base64,
+      // not according to org.jooq.tools.Convert
+      if (fields[i].getType() == byte[].class && row[i] instanceof String)
+        row[i] = DatatypeConverter.parseBase64Binary((String) row[i]);
+      else row[i] = fields[i].getDataType().convert(row[i]);
+    return row;
+  }
+
+  /**
+   * A {@link ContentHandler} that builds the current record (or the header) and suspends the
+   * parser once it is complete.
+   */
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  private final class Handler implements ContentHandler {
+
+    /** The nesting depth of the current token. */
+    int depth;
+
+    /** The nesting depth of the records array, or <code>-1</code> if not yet known. */
+    int recordsDepth = -1;
+
+    /** The current key of the root object. */
+    String key;
+
+    /** Whether the container currently being built is the header. */
+    boolean inFields;
+
+    /** The containers being built. */
+    final Deque<Object> containers = new ArrayDeque<>();
+
+    /** The keys of the objects being built. */
+    final Deque<String> keys = new ArrayDeque<>();
+
+    /** The last completed row, if any. */
+    Object[] row;
+
+    boolean end;
+
+    @Override
+    public void startJSON() {}
+
+    @Override
+    public void endJSON() {
+      end = true;
+    }
+
+    @Override
+    public boolean startObject() {
+      return start(new LinkedHashMap<>());
+    }
+
+    @Override
+    public boolean endObject() {
+      return end();
+    }
+
+    @Override
+    public boolean startArray() {
+      // The records are either the root array, or the "records" array in the root object
+      if (containers.isEmpty())
+        if (depth == 0 || depth == 1 && "records".equals(key)) {
+          recordsDepth = ++depth;
+          return true;
+        } else if (depth == 1 && "fields".equals(key)) inFields = true;
+      return start(new ArrayList<>());
+    }
+
+    @Override
+    public boolean endArray() {
+      if (containers.isEmpty()) {
+        depth--;
+        return true;
+      }
+      return end();
+    }
+
+    @Override
+    public boolean startObjectEntry(String k) {
+      if (containers.isEmpty()) key = k;
+      else keys.push(k);
+      return true;
+    }
+
+    @Override
+    public boolean endObjectEntry() {
+      if (containers.isEmpty()) key = null;
+      else keys.pop();
+      return true;
+    }
+
+    @Override
+    public boolean primitive(Object value) {
+      if (!containers.isEmpty()) add(value);
+      return true;
+    }
+
+    private boolean start(Object container) {
+      // The root object only contains the header and the records
+      if (containers.isEmpty() && depth == 0) {
+        depth++;
+        return true;
+      }
+      containers.push(container);
+      depth++;
+      return true;
+    }
+
+    private boolean end() {
+      depth--;
+      if (containers.isEmpty()) return true;
+      Object container = containers.pop();
+      if (!containers.isEmpty()) {
+        add(container);
+        return true;
+      } else if (inFields) {
+        inFields = false;
+        header((List<?>) container);
+        return true;
+      } else if (depth == recordsDepth) {
+        row = row(container);
+        // Suspend the parser until the next row is requested
+        return false;
+      } else return true;
+    }
+
+    private void add(Object value) {
+      Object top = containers.peek();
+      if (top instanceof Map) ((Map) top).put(keys.peek(), value);
+      else ((List) top).add(value);
+    }
+  }
+}
@@ -41,6 +41,7 @@ import static java.lang.Boolean.FALSE;
 import static org.jooq.SQLDialect.MARIADB;
 import static org.jooq.SQLDialect.MYSQL;
 import static org.jooq.impl.Tools.EMPTY_FIELD;
+import static org.jooq.impl.Tools.anyMatch;
 import static org.jooq.impl.Tools.combine;
 import static org.jooq.tools.jdbc.JDBCUtils.safeClose;
 
@@ -62,10 +63,15 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Stream;
 import javax.xml.bind.DatatypeConverter;
 import org.jooq.BatchBindStep;
 import org.jooq.Configuration;
+import org.jooq.ConnectionProvider;
 import org.jooq.DSLContext;
 import org.jooq.ExecuteContext;
 import org.jooq.Field;
@@ -84,11 +90,11 @@ import org.jooq.LoaderRowListener;
 import org.jooq.LoaderRowsStep;
 import org.jooq.LoaderXMLStep;
 import org.jooq.Record;
-import org.jooq.Result;
 import org.jooq.SQLDialect;
 import org.jooq.Source;
 import org.jooq.Table;
 import org.jooq.exception.DataAccessException;
+import org.jooq.exception.DetachedException;
 import org.jooq.exception.LoaderConfigurationException;
 import org.jooq.tools.JooqLogger;
 import org.jooq.tools.StringUtils;
@@ -147,6 +153,8 @@ final class LoaderImpl<R extends Record>
 
   private static final int BULK_ALL = 2;
 
+  private static final int PARALLEL_BUFFER_PER_PIPELINE = 1024;
+
   private static final int CONTENT_CSV = 0;
 
   private static final int CONTENT_XML = 1;
@@ -179,8 +187,12 @@ final class LoaderImpl<R extends Record>
 
   private int content = CONTENT_CSV;
 
+  private int parallelism = 1;
+
   private Source input;
 
+  private InputSource inputSource;
+
   private Iterator<? extends Object[]> arrays;
 
   // CSV configuration data
@@ -219,10 +231,6 @@ final class LoaderImpl<R extends Record>
 
   private int executed;
 
-  private int unexecuted;
-
-  private int uncommitted;
-
   private final List<LoaderError> errors;
 
   LoaderImpl(Configuration configuration, Table<R> table) {
@@ -336,6 +344,12 @@ final class LoaderImpl<R extends Record>
     return this;
   }
 
+  @Override
+  public final LoaderImpl<R> parallelism(int number) {
+    parallelism = number;
+    return this;
+  }
+
   @Override
   public final LoaderRowsStep<R> loadArrays(Object[]... a) {
     return loadArrays(Arrays.asList(a));
@@ -495,14 +509,15 @@ final class LoaderImpl<R extends Record>
   @Override
   public final LoaderImpl<R> loadXML(InputSource s) {
     content = CONTENT_XML;
-    throw new UnsupportedOperationException("This is not yet implemented");
+    inputSource = s;
+    return this;
   }
 
   @Override
   public final LoaderImpl<R> loadXML(Source s) {
     content = CONTENT_XML;
     input = s;
-    throw new UnsupportedOperationException("This is not yet implemented");
+    return this;
   }
 
   @Override
@@ -658,10 +673,6 @@ final class LoaderImpl<R extends Record>
     return this;
   }
 
-  // -------------------------------------------------------------------------
-  // XML configuration
-  // -------------------------------------------------------------------------
-  // [...] to be specified
   // -------------------------------------------------------------------------
   // Listening
   // -------------------------------------------------------------------------
@@ -689,7 +700,7 @@ final class LoaderImpl<R extends Record>
   public final LoaderImpl<R> execute() throws IOException {
     checkFlags();
     if (content == CONTENT_CSV) executeCSV();
-    else if (content == CONTENT_XML) throw new UnsupportedOperationException();
+    else if (content == CONTENT_XML) executeXML();
     else if (content == CONTENT_JSON) executeJSON();
     else if (content == CONTENT_ARRAYS) executeRows();
     else throw new IllegalStateException();
@@ -703,16 +714,30 @@ final class LoaderImpl<R extends Record>
   }
 
   private final void executeJSON() {
+    JSONRowReader reader = null;
+    try {
+      // Rows are read one at a time, rather than loading the whole document
+      reader = new JSONRowReader(configuration.dsl(), input.reader());
+      // The header is known after reading ahead the first row
+      if (reader.hasNext()) source = reader.fields();
+      executeSQL(reader);
+    } finally {
+      safeClose(reader);
+    }
+  }
+
+  private final void executeXML() {
     Reader reader = null;
+    XMLRowReader rows = null;
     try {
-      reader = input.reader();
-      Result<Record> r = new JSONReader<>(configuration.dsl(), null, null).read(reader);
-      source = r.fields();
-      // The current json format is not designed for streaming. Thats why
-      // all records are loaded at once.
-      List<Object[]> allRecords = Arrays.asList(r.intoArrays());
-      executeSQL(allRecords.iterator());
+      InputSource s = inputSource;
+      if (s == null) s = new InputSource(reader = input.reader());
+      rows = new XMLRowReader(configuration.dsl(), s);
+      // The header is known after reading ahead the first row
+      if (rows.hasNext()) source = rows.fields();
+      executeSQL(rows);
     } finally {
+      safeClose(rows);
       safeClose(reader);
     }
   }
@@ -773,171 +798,387 @@ final class LoaderImpl<R extends Record>
   }
 
   private final void executeSQL(final Iterator<? extends Object[]> iterator) {
-    configuration
-        .dsl()
-        .connection(
-            connection -> {
-              Configuration c = configuration.derive(new DefaultConnectionProvider(connection));
-              if (FALSE.equals(c.settings().isCachePreparedStatementInLoader())) {
-                executeSQL(iterator, c.dsl());
-              } else {
-                try (CachedPSListener cache = new CachedPSListener()) {
-                  executeSQL(
-                      iterator,
-                      c.derive(
-                              combine(
-                                  new DefaultExecuteListenerProvider(cache),
-                                  c.executeListenerProviders()))
-                          .dsl());
+    if (parallelism > 1) executeSQLParallel(iterator);
+    else
+      configuration
+          .dsl()
+          .connection(
+              connection -> {
+                try (Pipeline pipeline = new Pipeline(connection, rowCtx)) {
+                  executeSQL(iterator, pipeline);
                 }
-              }
-            });
+              });
   }
 
-  private final void executeSQL(Iterator<? extends Object[]> iterator, DSLContext ctx) {
+  private final void executeSQL(Iterator<? extends Object[]> iterator, Pipeline pipeline) {
     Object[] row = null;
-    BatchBindStep bind = null;
-    InsertQuery<R> insert = null;
-    boolean newRecord = false;
-    execution:
-    {
-      rows:
-      while (iterator.hasNext() && ((row = iterator.next()) != null)) {
+    boolean aborted = false;
+    int index = 0;
+    while (iterator.hasNext() && ((row = iterator.next()) != null)) {
+      try {
+        row = prepare(row);
+        aborted = !pipeline.row(row, index++);
+      } finally {
+        if (onRowEnd != null) onRowEnd.row(rowCtx);
+      }
+      if (aborted) break;
+    }
+    if (!aborted) pipeline.finish();
+    commitAll(Arrays.asList(pipeline));
+  }
+
+  /**
+   * Read rows on the calling thread and load them through one {@link Pipeline} per connection, each
+   * on its own loader thread.
+   *
+   * <p>Dedicated threads are used rather than the {@link Configuration#executorProvider()}, as the
+   * pipelines block while waiting for rows. On a saturated or bounded executor, they might never
+   * start, and the calling thread would block forever once the row buffer is full.
+   */
+  private final void executeSQLParallel(Iterator<? extends Object[]> iterator) {
+    ConnectionProvider provider = configuration.connectionProvider();
+    List<Connection> connections = new ArrayList<>();
+    List<Pipeline> pipelines = new ArrayList<>();
+    try {
+      // A ConnectionProvider may not be able to provide more than one connection
+      while (connections.size() < parallelism) {
+        Connection connection = provider.acquire();
+        if (connection == null)
+          throw new DetachedException("No JDBC Connection provided by ConnectionProvider");
+        if (anyMatch(connections, c -> c == connection)) {
+          provider.release(connection);
+          break;
+        }
+        connections.add(connection);
+        pipelines.add(new Pipeline(connection, new DefaultLoaderContext()));
+      }
+      if (pipelines.size() == 1) {
+        log.info(
+            "Parallel loading",
+            "ConnectionProvider provides only one connection. Loading data serially.");
+        executeSQL(iterator, pipelines.get(0));
+      } else executeSQLParallel(iterator, pipelines);
+    } finally {
+      for (Pipeline pipeline : pipelines) safeClose(pipeline);
+      for (Connection connection : connections) provider.release(connection);
+    }
+  }
+
+  private final void executeSQLParallel(
+      Iterator<? extends Object[]> iterator, List<Pipeline> pipelines) {
+    BlockingQueue<ParallelRow> queue =
+        new ArrayBlockingQueue<>(pipelines.size() * PARALLEL_BUFFER_PER_PIPELINE);
+    AtomicBoolean aborted = new AtomicBoolean();
+    AtomicReference<Throwable> failure = new AtomicReference<>();
+    List<Thread> threads = new ArrayList<>();
+    try {
+      try {
+        for (Pipeline pipeline : pipelines) {
+          Thread thread =
+              new Thread(
+                  () -> load(queue, pipeline, aborted, failure), "jooq-loader-" + threads.size());
+          thread.setDaemon(true);
+          thread.start();
+          threads.add(thread);
+        }
+        Object[] row;
+        int index = 0;
+        // The reader blocks while the buffer is full, until the loader threads catch up
+        while (!aborted.get() && iterator.hasNext() && ((row = iterator.next()) != null))
+          queue.put(new ParallelRow(index++, prepare(row)));
+      } catch (Throwable t) {
+        failure.compareAndSet(null, t);
+        aborted.set(true);
+      } finally {
+        // Only threads that were started will consume an END marker
+        for (int i = 0; i < threads.size(); i++) queue.put(ParallelRow.END);
+        for (Thread thread : threads) thread.join();
+      }
+    } catch (InterruptedException e) {
+      // The connections are released after this method, so the loader threads must be done
+      for (Thread thread : threads) thread.interrupt();
+      joinUninterruptibly(threads);
+      Thread.currentThread().interrupt();
+      throw new DataAccessException("Interrupted while loading data", e);
+    }
+    Throwable t = failure.get();
+    if (t instanceof RuntimeException) throw (RuntimeException) t;
+    else if (t instanceof Error) throw (Error) t;
+    else if (t != null) throw new DataAccessException("Error while loading data", t);
+    commitAll(pipelines);
+  }
+
+  /** Load rows from the queue through a pipeline until the {@link ParallelRow#END} marker. */
+  private final void load(
+      BlockingQueue<ParallelRow> queue,
+      Pipeline pipeline,
+      AtomicBoolean aborted,
+      AtomicReference<Throwable> failure) {
+    try {
+      ParallelRow r;
+      // Keep consuming rows after an abort, to prevent blocking the reader
+      while ((r = queue.take()) != ParallelRow.END) {
+        if (aborted.get()) continue;
         try {
-          // [#5858] Work with non String[] types from here on (e.g. after CSV import)
-          if (row.getClass() != Object[].class)
-            row = Arrays.copyOf(row, row.length, Object[].class);
-          // [#5145][#8755] Lazy initialisation of fields from the first row
-          // in case fields(LoaderFieldMapper) or fieldsCorresponding() was used
-          if (fields == null) fields0(row);
-          // [#1627] [#5858] Handle NULL values and base64 encodings
-          // [#2741]         TODO: This logic will be externalised in new SPI
-          // [#8829]         JSON binary data has already been decoded at this point
-          for (int i = 0; i < row.length; i++)
-            if (StringUtils.equals(nullString, row[i])) row[i] = null;
-            else if (i < fields.length && fields[i] != null)
-              if (fields[i].getType() == byte[].class && row[i] instanceof String)
-                row[i] = DatatypeConverter.parseBase64Binary((String) row[i]);
-          // [#10583] Pad row to the fields length
-          if (row.length < fields.length) row = Arrays.copyOf(row, fields.length);
-          rowCtx.row(row);
-          if (onRowStart != null) {
-            onRowStart.row(rowCtx);
-            row = rowCtx.row();
-          }
-          // TODO: In batch mode, we can probably optimise this by not creating
-          // new statements every time, just to convert bind values to their
-          // appropriate target types. But beware of SQL dialects that tend to
-          // need very explicit casting of bind values (e.g. Firebird)
-          processed++;
-          unexecuted++;
-          uncommitted++;
-          if (insert == null) insert = ctx.insertQuery(table);
-          if (newRecord) {
-            newRecord = false;
-            insert.newRecord();
-          }
-          for (int i = 0; i < row.length; i++)
-            if (i < fields.length && fields[i] != null) addValue0(insert, fields[i], row[i]);
-          // TODO: This is only supported by some dialects. Let other
-          // dialects execute a SELECT and then either an INSERT or UPDATE
-          if (onDuplicate == ON_DUPLICATE_KEY_UPDATE) {
-            insert.onDuplicateKeyUpdate(true);
-            for (int i = 0; i < row.length; i++)
-              if (i < fields.length && fields[i] != null && !primaryKey.get(i))
-                addValueForUpdate0(insert, fields[i], row[i]);
-          } else // [#5200]  When the primary key is not supplied in the data,
-          // we'll assume it uses an identity, and there will never be duplicates
-          // [#10358] TODO: The above should be moved inside InsertQueryImpl
-          // [#7253]  Use native onDuplicateKeyIgnore() support
-          if (onDuplicate == ON_DUPLICATE_KEY_IGNORE && primaryKey.cardinality() > 0) {
-            insert.onDuplicateKeyIgnore(true);
-          } else // Don't do anything. Let the execution fail
-          if (onDuplicate == ON_DUPLICATE_KEY_ERROR) {
-          }
+          if (!pipeline.row(r.row, r.index)) aborted.set(true);
+          if (onRowEnd != null) onRowEnd.row(pipeline.rowCtx);
+        } catch (Throwable t) {
+          failure.compareAndSet(null, t);
+          aborted.set(true);
+        }
+      }
+      if (!aborted.get()) pipeline.finish();
+    } catch (Throwable t) {
+      failure.compareAndSet(null, t);
+      aborted.set(true);
+    }
+  }
+
+  private static final void joinUninterruptibly(List<Thread> threads) {
+    boolean interrupted = false;
+    for (Thread thread : threads)
+      while (thread.isAlive())
+        try {
+          thread.join();
+        } catch (InterruptedException e) {
+          interrupted = true;
+        }
+    if (interrupted) Thread.currentThread().interrupt();
+  }
+
+  /** Prepare a row read from the source before loading it. */
+  private final Object[] prepare(Object[] row) {
+    // [#5858] Work with non String[] types from here on (e.g. after CSV import)
+    if (row.getClass() != Object[].class) row = Arrays.copyOf(row, row.length, Object[].class);
+    // [#5145][#8755] Lazy initialisation of fields from the first row
+    // in case fields(LoaderFieldMapper) or fieldsCorresponding() was used
+    if (fields == null) fields0(row);
+    // [#1627] [#5858] Handle NULL values and base64 encodings
+    // [#2741]         TODO: This logic will be externalised in new SPI
+    // [#8829]         JSON binary data has already been decoded at this point
+    for (int i = 0; i < row.length; i++)
+      if (StringUtils.equals(nullString, row[i])) row[i] = null;
+      else if (i < fields.length && fields[i] != null)
+        if (fields[i].getType() == byte[].class && row[i] instanceof String)
+          row[i] = DatatypeConverter.parseBase64Binary((String) row[i]);
+    // [#10583] Pad row to the fields length
+    if (row.length < fields.length) row = Arrays.copyOf(row, fields.length);
+    rowCtx.row(row);
+    if (onRowStart != null) {
+      onRowStart.row(rowCtx);
+      row = rowCtx.row();
+    }
+    return row;
+  }
+
+  /**
+   * Commit or roll back all pipelines in COMMIT_ALL mode.
+   *
+   * <p>The pipelines are committed one after the other. If a commit fails, the pipelines that are
+   * not yet committed are rolled back, but the ones that are already committed stay committed.
+   */
+  private final void commitAll(List<Pipeline> pipelines) {
+    // Rollback on errors in COMMIT_ALL mode
+    try {
+      if (commit == COMMIT_ALL) {
+        if (!errors.isEmpty()) {
+          stored = 0;
+          for (Pipeline pipeline : pipelines) pipeline.rollback();
+        } else {
+          int committed = 0;
           try {
-            if (bulk != BULK_NONE) {
-              if (bulk == BULK_ALL || processed % bulkAfter != 0) {
-                newRecord = true;
-                continue rows;
-              }
-            }
-            if (batch != BATCH_NONE) {
-              if (bind == null) bind = ctx.batch(insert);
-              bind.bind(insert.getBindValues().toArray());
-              insert = null;
-              if (batch == BATCH_ALL || processed % (bulkAfter * batchAfter) != 0) continue rows;
+            for (Pipeline pipeline : pipelines) {
+              pipeline.commit();
+              committed++;
             }
-            int[] rowcounts = {0};
-            int totalRowCounts = 0;
-            if (bind != null) rowcounts = bind.execute();
-            else if (insert != null) rowcounts = new int[] {insert.execute()};
-            // [#10358] The MySQL dialect category doesn't return rowcounts
-            // in INSERT .. ON DUPLICATE KEY UPDATE statements, but
-            // 1 = INSERT, 2 = UPDATE, instead
-            if (onDuplicate == ON_DUPLICATE_KEY_UPDATE
-                && NO_SUPPORT_ROWCOUNT_ON_DUPLICATE.contains(ctx.dialect()))
-              totalRowCounts = unexecuted;
-            else for (int rowCount : rowcounts) totalRowCounts += rowCount;
-            stored += totalRowCounts;
-            ignored += unexecuted - totalRowCounts;
-            executed++;
-            unexecuted = 0;
-            bind = null;
-            insert = null;
-            if (commit == COMMIT_AFTER)
-              if ((processed % (bulkAfter * batchAfter) == 0)
-                  && ((processed / (bulkAfter * batchAfter)) % commitAfter == 0)) commit();
           } catch (DataAccessException e) {
-            errors.add(new LoaderErrorImpl(e, row, processed - 1, insert));
-            ignored += unexecuted;
-            unexecuted = 0;
-            if (onError == ON_ERROR_ABORT) break execution;
+            for (Pipeline pipeline : pipelines.subList(committed, pipelines.size()))
+              try {
+                pipeline.rollback();
+              } catch (DataAccessException ignore) {
+              }
+            throw e;
           }
-        } finally {
-          if (onRowEnd != null) onRowEnd.row(rowCtx);
         }
-        // rows:
       }
-      // Execute remaining batch
+    } catch (DataAccessException e) {
+      errors.add(new LoaderErrorImpl(e, null, processed - 1, null));
+    }
+  }
+
+  private final synchronized void count(int p, int s, int i, int e) {
+    processed += p;
+    stored += s;
+    ignored += i;
+    executed += e;
+  }
+
+  private final synchronized void error(LoaderError error) {
+    errors.add(error);
+  }
+
+  /** A row that is handed over from the reading thread to a {@link Pipeline}. */
+  private static final class ParallelRow {
+
+    static final ParallelRow END = new ParallelRow(-1, null);
+
+    final int index;
+
+    final Object[] row;
+
+    ParallelRow(int index, Object[] row) {
+      this.index = index;
+      this.row = row;
+    }
+  }
+
+  /** The insert, batch, bulk and commit state of the loading on a single connection. */
+  private final class Pipeline implements AutoCloseable {
+
+    final DSLContext ctx;
+
+    final LoaderContext rowCtx;
+
+    final CachedPSListener cache;
+
+    BatchBindStep bind;
+
+    InsertQuery<R> insert;
+
+    boolean newRecord;
+
+    Object[] row;
+
+    int index;
+
+    /** The number of rows processed by this pipeline. */
+    int processed;
+
+    int unexecuted;
+
+    int uncommitted;
+
+    Pipeline(Connection connection, LoaderContext rowCtx) {
+      Configuration c = configuration.derive(new DefaultConnectionProvider(connection));
+      this.rowCtx = rowCtx;
+      if (FALSE.equals(c.settings().isCachePreparedStatementInLoader())) {
+        this.cache = null;
+        this.ctx = c.dsl();
+      } else {
+        this.cache = new CachedPSListener();
+        this.ctx =
+            c.derive(combine(new DefaultExecuteListenerProvider(cache), c.executeListenerProviders()))
+                .dsl();
+      }
+    }
+
+    /** Load a prepared row, returning <code>false</code> if loading should be aborted. */
+    final boolean row(Object[] r, int i) {
+      row = r;
+      index = i;
+      rowCtx.row(row);
+      // TODO: In batch mode, we can probably optimise this by not creating
+      // new statements every time, just to convert bind values to their
+      // appropriate target types. But beware of SQL dialects that tend to
+      // need very explicit casting of bind values (e.g. Firebird)
+      processed++;
+      unexecuted++;
+      uncommitted++;
+      count(1, 0, 0, 0);
+      if (insert == null) insert = ctx.insertQuery(table);
+      if (newRecord) {
+        newRecord = false;
+        insert.newRecord();
+      }
+      for (int j = 0; j < row.length; j++)
+        if (j < fields.length && fields[j] != null) addValue0(insert, fields[j], row[j]);
+      // TODO: This is only supported by some dialects. Let other
+      // dialects execute a SELECT and then either an INSERT or UPDATE
+      if (onDuplicate == ON_DUPLICATE_KEY_UPDATE) {
+        insert.onDuplicateKeyUpdate(true);
+        for (int j = 0; j < row.length; j++)
+          if (j < fields.length && fields[j] != null && !primaryKey.get(j))
+            addValueForUpdate0(insert, fields[j], row[j]);
+      } else // [#5200]  When the primary key is not supplied in the data,
+      // we'll assume it uses an identity, and there will never be duplicates
+      // [#10358] TODO: The above should be moved inside InsertQueryImpl
+      // [#7253]  Use native onDuplicateKeyIgnore() support
+      if (onDuplicate == ON_DUPLICATE_KEY_IGNORE && primaryKey.cardinality() > 0) {
+        insert.onDuplicateKeyIgnore(true);
+      } else // Don't do anything. Let the execution fail
+      if (onDuplicate == ON_DUPLICATE_KEY_ERROR) {
+      }
+      try {
+        if (bulk != BULK_NONE) {
+          if (bulk == BULK_ALL || processed % bulkAfter != 0) {
+            newRecord = true;
+            return true;
+          }
+        }
+        if (batch != BATCH_NONE) {
+          if (bind == null) bind = ctx.batch(insert);
+          bind.bind(insert.getBindValues().toArray());
+          insert = null;
+          if (batch == BATCH_ALL || processed % (bulkAfter * batchAfter) != 0) return true;
+        }
+        int[] rowcounts = {0};
+        int totalRowCounts = 0;
+        if (bind != null) rowcounts = bind.execute();
+        else if (insert != null) rowcounts = new int[] {insert.execute()};
+        // [#10358] The MySQL dialect category doesn't return rowcounts
+        // in INSERT .. ON DUPLICATE KEY UPDATE statements, but
+        // 1 = INSERT, 2 = UPDATE, instead
+        if (onDuplicate == ON_DUPLICATE_KEY_UPDATE
+            && NO_SUPPORT_ROWCOUNT_ON_DUPLICATE.contains(ctx.dialect()))
+          totalRowCounts = unexecuted;
+        else for (int rowCount : rowcounts) totalRowCounts += rowCount;
+        count(0, totalRowCounts, unexecuted - totalRowCounts, 1);
+        unexecuted = 0;
+        bind = null;
+        insert = null;
+        if (commit == COMMIT_AFTER)
+          if ((processed % (bulkAfter * batchAfter) == 0)
+              && ((processed / (bulkAfter * batchAfter)) % commitAfter == 0)) commit();
+      } catch (DataAccessException e) {
+        error(new LoaderErrorImpl(e, row, index, insert));
+        count(0, 0, unexecuted, 0);
+        unexecuted = 0;
+        if (onError == ON_ERROR_ABORT) return false;
+      }
+      return true;
+    }
+
+    /** Execute the remaining batch and commit it in COMMIT_AFTER mode. */
+    final void finish() {
       if (unexecuted != 0) {
         try {
           if (bind != null) bind.execute();
           if (insert != null) insert.execute();
-          stored += unexecuted;
-          executed++;
+          count(0, unexecuted, 0, 1);
           unexecuted = 0;
         } catch (DataAccessException e) {
-          errors.add(new LoaderErrorImpl(e, row, processed - 1, insert));
-          ignored += unexecuted;
+          error(new LoaderErrorImpl(e, row, index, insert));
+          count(0, 0, unexecuted, 0);
           unexecuted = 0;
         }
       }
       // Commit remaining elements in COMMIT_AFTER mode
       if (commit == COMMIT_AFTER && uncommitted != 0) commit();
-      if (onError == ON_ERROR_ABORT) break execution;
-      // execution:
     }
-    // Rollback on errors in COMMIT_ALL mode
-    try {
-      if (commit == COMMIT_ALL) {
-        if (!errors.isEmpty()) {
-          stored = 0;
-          rollback();
-        } else commit();
-      }
-    } catch (DataAccessException e) {
-      errors.add(new LoaderErrorImpl(e, null, processed - 1, null));
+
+    final void commit() {
+      ctx.connection(Connection::commit);
+      uncommitted = 0;
     }
-  }
 
-  private final void commit() {
-    configuration.dsl().connection(Connection::commit);
-    uncommitted = 0;
-  }
+    final void rollback() {
+      ctx.connection(Connection::rollback);
+    }
 
-  private final void rollback() {
-    configuration.dsl().connection(Connection::rollback);
+    @Override
+    public final void close() throws SQLException {
+      if (cache != null) cache.close();
+    }
   }
 
   /** Type-safety... */
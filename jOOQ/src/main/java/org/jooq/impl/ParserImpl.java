@@ -84,6 +84,7 @@ import static org.jooq.impl.XMLPassingMechanism.BY_VALUE;
 import static org.jooq.tools.StringUtils.defaultIfNull;
 
 import java.io.ByteArrayOutputStream;
+import java.io.Reader;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.sql.Date;
@@ -103,11 +104,15 @@ import java.util.Set;
 import java.util.TreeSet;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
+import org.java.util.Spliterator;
+import org.java.util.Spliterators;
 import org.java.util.function.BiFunction;
 import org.java.util.function.BooleanSupplier;
 import org.java.util.function.Consumer;
 import org.java.util.function.Function;
 import org.java.util.function.Predicate;
+import org.java.util.stream.Stream;
+import org.java.util.stream.StreamSupport;
 import org.jooq.AggregateFilterStep;
 import org.jooq.AggregateFunction;
 import org.jooq.AlterDatabaseStep;
@@ -319,6 +324,15 @@ final class ParserImpl implements Parser {
     return ctx(sql, bindings).parse();
   }
 
+  @Override
+  public final Stream<Query> parseStream(Reader reader) {
+    return StreamSupport.stream(
+        Spliterators.spliteratorUnknownSize(
+            new ParserScriptReader(this, dsl.settings(), reader),
+            Spliterator.ORDERED | Spliterator.NONNULL),
+        false);
+  }
+
   @Override
   public final Query parseQuery(String sql) {
     return parseQuery(sql, EMPTY_OBJECT);
@@ -8496,7 +8510,27 @@ final class DefaultParseContext extends AbstractScope implements ParseContext {
     int length = keyword.length();
     int p = position();
     if (sql.length < p + length) return false;
-    int skip = afterWhitespace(p, peekIntoParens) - p;
+    int skip;
+    if (peekIntoParens) skip = afterWhitespace(p, true) - p;
+    else {
+      // The grammar probes many keywords at the same position. The whitespace and the word at that
+      // position are scanned only once, after which most probes are rejected by the word length.
+      probe(p);
+      skip = probeStart - p;
+      int simple = simpleKeywordLength(keyword);
+      if (simple == length) {
+        if (!probeWord(keyword, length) || character(probeEnd) == '.') return false;
+        if (requireFunction) if (character(afterWhitespace(probeEnd)) != '(') return false;
+        if (updatePosition) {
+          positionInc(length + skip);
+          parseWhitespaceIf();
+        }
+        return true;
+      }
+      // The first word of a multi word keyword must be the probed word
+      else if (simple > 0 && keyword.charAt(simple) == ' ' && !probeWord(keyword, simple))
+        return false;
+    }
     for (int i = 0; i < length; i++) {
       char c = keyword.charAt(i);
       int pos = p + i + skip;
@@ -8521,6 +8555,44 @@ final class DefaultParseContext extends AbstractScope implements ParseContext {
     return true;
   }
 
+  /**
+   * The length of the prefix of a keyword that consists of characters which can only be matched
+   * by an identifier part.
+   */
+  private static final int simpleKeywordLength(String keyword) {
+    int length = keyword.length();
+    for (int i = 0; i < length; i++) {
+      char c = keyword.charAt(i);
+      if (!(c >= 'A' && c <= 'Z' || c >= '0' && c <= '9' || c == '_' || c == '$')) return i;
+    }
+    return length;
+  }
+
+  /**
+   * Scan the whitespace and the word at a position, unless that position has already been probed
+   * with the same lexical settings.
+   */
+  private final void probe(int p) {
+    if (p == probePosition && ignoreHints == probeIgnoreHints && delimiter == probeDelimiter)
+      return;
+    int start = afterWhitespace(p);
+    int end = start;
+    while (end < sql.length && isIdentifierPart(sql[end])) end++;
+    probeStart = start;
+    probeEnd = end;
+    probeIgnoreHints = ignoreHints;
+    probeDelimiter = delimiter;
+    probePosition = p;
+  }
+
+  /** Whether the probed word is the prefix of a given length of an upper case keyword. */
+  private final boolean probeWord(String keyword, int length) {
+    if (probeEnd - probeStart != length) return false;
+    for (int i = 0; i < length; i++)
+      if (upper(sql[probeStart + i]) != keyword.charAt(i)) return false;
+    return true;
+  }
+
   private final boolean parseWhitespaceIf() {
     int p = position();
     position(afterWhitespace(p));
@@ -8871,6 +8943,19 @@ final class DefaultParseContext extends AbstractScope implements ParseContext {
 
   private String delimiter = ";";
 
+  /** The position of the last keyword probe, or <code>-1</code> if there was none. */
+  private int probePosition = -1;
+
+  private boolean probeIgnoreHints;
+
+  private String probeDelimiter;
+
+  /** The position after the whitespace at {@link #probePosition}. */
+  private int probeStart;
+
+  /** The position after the word at {@link #probeStart}. */
+  private int probeEnd;
+
   private final ScopeStack<Name, Table<?>> tableScope = new ScopeStack<>(null);
 
   private final ScopeStack<Name, Field<?>> fieldScope = new ScopeStack<>(null);
@@ -0,0 +1,531 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.impl;
+
+import static java.lang.Boolean.FALSE;
+
+import java.io.Reader;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import org.jooq.Parser;
+import org.jooq.Query;
+import org.jooq.SQLDialect;
+import org.jooq.conf.Settings;
+import org.jooq.exception.IOException;
+
+/**
+ * A lazy {@link Query} iterator over a SQL script read from a {@link Reader}.
+ *
+ * <p>The script is split into top level statements by a lexer that knows about string literals
+ * (including <code>E'..'</code> escapes and Oracle <code>q'[..]'</code> literals), quoted
+ * identifiers, dollar quoted strings, comments, <code>BEGIN .. END</code> and <code>
+ * CASE .. END</code> nesting, <code>DELIMITER</code> directives and <code>GO</code> batch
+ * separators. Only the statement that is currently being read is kept in memory. Each statement is
+ * then parsed with {@link Parser#parse(String)}, and its queries are returned before the rest of
+ * the script is read.
+ *
+ * @author Lukas Eder
+ */
+final class ParserScriptReader implements Iterator<Query> {
+
+  private static final int BUFFER_SIZE = 8192;
+
+  private final Parser parser;
+
+  private final Reader reader;
+
+  private final boolean hashComments;
+
+  private final boolean checkIgnoreComment;
+
+  private final String ignoreCommentStart;
+
+  private final String ignoreCommentStop;
+
+  private final Deque<Query> queries;
+
+  private final StringBuilder sql;
+
+  private char[] buffer;
+
+  private int bufferPosition;
+
+  private int bufferLimit;
+
+  private boolean eof;
+
+  private String delimiter;
+
+  // The location of the next character to be read
+  private int position;
+
+  private int line;
+
+  private int column;
+
+  private boolean cr;
+
+  // The location of the statement that is currently being read
+  private int statementPosition;
+
+  private int statementLine;
+
+  private int statementColumn;
+
+  private boolean empty;
+
+  private boolean lineEmpty;
+
+  private char lastToken;
+
+  private int depth;
+
+  private boolean pendingBegin;
+
+  private boolean pendingEnd;
+
+  ParserScriptReader(Parser parser, Settings settings, Reader reader) {
+    SQLDialect dialect = settings.getParseDialect();
+    this.parser = parser;
+    this.reader = reader;
+    this.hashComments =
+        DefaultParseContext.SUPPORTS_HASH_COMMENT_SYNTAX.contains(
+            dialect == null ? SQLDialect.DEFAULT : dialect);
+    this.checkIgnoreComment = !FALSE.equals(settings.isParseIgnoreComments());
+    this.ignoreCommentStart = settings.getParseIgnoreCommentStart();
+    this.ignoreCommentStop = settings.getParseIgnoreCommentStop();
+    this.queries = new ArrayDeque<>();
+    this.sql = new StringBuilder();
+    this.buffer = new char[BUFFER_SIZE];
+    this.delimiter = ";";
+    this.line = 1;
+    this.column = 1;
+    this.lineEmpty = true;
+  }
+
+  @Override
+  public final boolean hasNext() {
+    while (queries.isEmpty()) {
+      String statement = nextStatement();
+      if (statement == null) return false;
+      try {
+        for (Query query : parser.parse(statement)) queries.add(query);
+      } catch (ParserException e) {
+        // Report the location within the script, not within the statement
+        int c = e.line() <= 1 ? e.column() + statementColumn - 1 : e.column();
+        throw e.position(e.position() + statementPosition)
+            .line(e.line() + statementLine - 1)
+            .column(c);
+      }
+    }
+    return true;
+  }
+
+  @Override
+  public final Query next() {
+    if (!hasNext()) throw new NoSuchElementException();
+    return queries.poll();
+  }
+
+  // -------------------------------------------------------------------------
+  // XXX: Statement splitting
+  // -------------------------------------------------------------------------
+
+  /** Read the next top level statement, or <code>null</code> if the script is exhausted. */
+  private final String nextStatement() {
+    statementStart();
+    for (; ; ) {
+      int c = peek(0);
+      int tag;
+      if (c < 0) {
+        resolve();
+        return emit();
+      } else if (peek(delimiter)) {
+        resolve();
+        if (depth == 0) {
+          skip(delimiter.length());
+          String result = emit();
+          if (result != null) return result;
+          statementStart();
+        } else {
+          token(delimiter.charAt(0));
+          read(delimiter.length());
+        }
+      } else if (c == '-' && peek(1) == '-'
+          || c == '/' && peek(1) == '/'
+          || c == '#' && hashComments) {
+        lineComment();
+      } else if (c == '/' && peek(1) == '*') {
+        blockComment();
+      } else if ((c == 'e' || c == 'E' || c == 'n' || c == 'N') && peek(1) == '\'') {
+        token('\'');
+        read(1);
+        quoted('\'', true);
+      } else if ((c == 'q' || c == 'Q') && peek(1) == '\'' && oracleQuoteEnd(peek(2)) > 0) {
+        token('\'');
+        oracleQuoted();
+      } else if (c == '\'' || c == '"' || c == '`') {
+        token((char) c);
+        quoted((char) c, false);
+      } else if (c == '[') {
+        token((char) c);
+        quoted(']', false);
+      } else if (c == '$' && (tag = dollarTag()) > 0) {
+        token((char) c);
+        dollarQuoted(tag);
+      } else if (Character.isJavaIdentifierStart(c)) {
+        if (word()) {
+          String result = emit();
+          if (result != null) return result;
+          statementStart();
+        }
+      } else if (c == '\r' || c == '\n') {
+        read(1);
+        lineEmpty = true;
+      } else if (Character.isWhitespace(c)) {
+        read(1);
+      } else {
+        token((char) c);
+        read(1);
+      }
+    }
+  }
+
+  private final String emit() {
+    String result = empty ? null : sql.toString();
+    sql.setLength(0);
+    depth = 0;
+    pendingBegin = false;
+    pendingEnd = false;
+    return result;
+  }
+
+  private final void statementStart() {
+    statementPosition = position;
+    statementLine = line;
+    statementColumn = column;
+    empty = true;
+    lastToken = 0;
+  }
+
+  /** A significant token starts, resolving pending keywords. */
+  private final void token(char c) {
+    resolve();
+    empty = false;
+    lineEmpty = false;
+    lastToken = c;
+  }
+
+  private final void resolve() {
+    pendingBegin = false;
+    if (pendingEnd) {
+      pendingEnd = false;
+      if (depth > 0) depth--;
+    }
+  }
+
+  /** Read a word, returning whether it was a <code>GO</code> batch separator. */
+  private final boolean word() {
+    boolean firstOnLine = lineEmpty;
+    boolean statementStart = empty;
+    char before = lastToken;
+    int start = sql.length();
+    int c;
+    do read(1);
+    while ((c = peek(0)) >= 0 && Character.isJavaIdentifierPart(c));
+    empty = false;
+    lineEmpty = false;
+    lastToken = 'a';
+
+    // Qualified names like t.end are never keywords
+    if (before == '.') {
+      resolve();
+    } else if (pendingEnd) {
+      pendingEnd = false;
+      if (is(start, "IF") || is(start, "LOOP") || is(start, "WHILE") || is(start, "REPEAT"))
+        ;
+      else {
+        if (depth > 0) depth--;
+        if (!is(start, "CASE") && !is(start, "TRY") && !is(start, "CATCH")) keyword(start, before);
+      }
+    } else if (pendingBegin) {
+      pendingBegin = false;
+      if (!is(start, "TRANSACTION")
+          && !is(start, "TRAN")
+          && !is(start, "WORK")
+          && !is(start, "DISTRIBUTED")
+          && !is(start, "ISOLATION")) depth++;
+      keyword(start, before);
+    } else if (statementStart && is(start, "DELIMITER")) {
+      delimiterDirective();
+    } else if (firstOnLine && is(start, "GO") && restOfLineBlank()) {
+      sql.setLength(start);
+      empty = statementStart;
+      return true;
+    } else {
+      keyword(start, before);
+    }
+    return false;
+  }
+
+  private final void keyword(int start, char before) {
+    if (is(start, "BEGIN")) {
+      // Column names in a column list are not blocks
+      if (before != '(' && before != ',') pendingBegin = true;
+    } else if (is(start, "CASE")) depth++;
+    else if (is(start, "END")) pendingEnd = true;
+  }
+
+  /** Whether the word starting at <code>start</code> is the argument keyword. */
+  private final boolean is(int start, String keyword) {
+    if (sql.length() - start != keyword.length()) return false;
+    for (int i = 0; i < keyword.length(); i++)
+      if (Character.toUpperCase(sql.charAt(start + i)) != keyword.charAt(i)) return false;
+    return true;
+  }
+
+  /**
+   * A <code>GO</code> batch separator must be the only token on its line. It terminates the current
+   * statement just like a delimiter.
+   */
+  private final boolean restOfLineBlank() {
+    for (int i = 0; ; i++) {
+      int c = peek(i);
+      if (c < 0 || c == '\r' || c == '\n') return true;
+      else if (c != ' ' && c != '\t') return false;
+    }
+  }
+
+  private final void delimiterDirective() {
+    int start = sql.length();
+    int c;
+    while ((c = peek(0)) >= 0 && c != '\r' && c != '\n') read(1);
+    String d = sql.substring(start).trim();
+    if (!d.isEmpty()) delimiter = d;
+    sql.setLength(0);
+    statementStart();
+  }
+
+  private final void lineComment() {
+    int c;
+    while ((c = peek(0)) >= 0 && c != '\r' && c != '\n') {
+      if (ignoreComment()) continue;
+      read(1);
+    }
+  }
+
+  private final void blockComment() {
+    int nesting = 0;
+    int c;
+    read(2);
+    nesting++;
+    while ((c = peek(0)) >= 0) {
+      if (ignoreComment()) continue;
+      if (c == '/' && peek(1) == '*') {
+        read(2);
+        nesting++;
+      } else if (c == '*' && peek(1) == '/') {
+        read(2);
+        if (--nesting == 0) return;
+      } else read(1);
+    }
+  }
+
+  /**
+   * Skip the content between the ignore comment start and stop tokens, which may span several
+   * statements.
+   */
+  private final boolean ignoreComment() {
+    if (!checkIgnoreComment || !peek(ignoreCommentStart)) return false;
+    read(ignoreCommentStart.length());
+    while (peek(0) >= 0 && !peek(ignoreCommentStop)) read(1);
+    return true;
+  }
+
+  /**
+   * Read a quoted string or identifier. Doubled closing characters are part of the content, and
+   * <code>E'..'</code> or <code>N'..'</code> string literals also support backslash escapes, just
+   * like {@link ParserImpl#parseStringLiteralIf()}.
+   */
+  private final void quoted(char close, boolean escapes) {
+    int c;
+    read(1);
+    while ((c = peek(0)) >= 0) {
+      if (escapes && c == '\\' && peek(1) >= 0) read(2);
+      else if (c != close) read(1);
+      else if (peek(1) == close) read(2);
+      else {
+        read(1);
+        return;
+      }
+    }
+  }
+
+  /**
+   * The closing character of an Oracle quoted string literal like <code>q'[..]'</code> given its
+   * opening character, or <code>-1</code> if the opening character is illegal.
+   */
+  private static final int oracleQuoteEnd(int start) {
+    switch (start) {
+      case '[':
+        return ']';
+      case '{':
+        return '}';
+      case '(':
+        return ')';
+      case '<':
+        return '>';
+      case -1:
+      case ' ':
+      case '\t':
+      case '\r':
+      case '\n':
+        return -1;
+      default:
+        return start;
+    }
+  }
+
+  private final void oracleQuoted() {
+    int end = oracleQuoteEnd(peek(2));
+    int c;
+    read(3);
+    while ((c = peek(0)) >= 0)
+      if (c == end && peek(1) == '\'') {
+        read(2);
+        return;
+      } else read(1);
+  }
+
+  /** The length of a PostgreSQL dollar quote tag like <code>$tag$</code>, or <code>0</code>. */
+  private final int dollarTag() {
+    for (int i = 1; ; i++) {
+      int c = peek(i);
+      if (c == '$') return i + 1;
+      else if (c < 0
+          || !(i == 1 ? Character.isJavaIdentifierStart(c) : Character.isJavaIdentifierPart(c))
+          || c == '$') return 0;
+    }
+  }
+
+  private final void dollarQuoted(int length) {
+    int start = sql.length();
+    read(length);
+    String tag = sql.substring(start);
+    while (peek(0) >= 0)
+      if (peek(tag)) {
+        read(length);
+        return;
+      } else read(1);
+  }
+
+  // -------------------------------------------------------------------------
+  // XXX: Buffer management
+  // -------------------------------------------------------------------------
+
+  /** The character at offset <code>i</code> from the current position, or <code>-1</code>. */
+  private final int peek(int i) {
+    if (bufferPosition + i >= bufferLimit && !fill(i + 1)) return -1;
+    return buffer[bufferPosition + i];
+  }
+
+  private final boolean peek(String string) {
+    for (int i = 0; i < string.length(); i++) if (peek(i) != string.charAt(i)) return false;
+    return true;
+  }
+
+  /** Consume characters, appending them to the current statement. */
+  private final void read(int length) {
+    for (int i = 0; i < length; i++) {
+      char c = buffer[bufferPosition++];
+      sql.append(c);
+      advance(c);
+    }
+  }
+
+  /** Consume characters without appending them to the current statement. */
+  private final void skip(int length) {
+    for (int i = 0; i < length; i++) advance(buffer[bufferPosition++]);
+  }
+
+  private final void advance(char c) {
+    position++;
+    if (c == '\r') {
+      line++;
+      column = 1;
+      cr = true;
+    } else if (c == '\n') {
+      if (!cr) line++;
+      column = 1;
+      cr = false;
+    } else {
+      column++;
+      cr = false;
+    }
+  }
+
+  /** Make at least <code>length</code> characters available, if possible. */
+  private final boolean fill(int length) {
+    if (eof) return false;
+    if (bufferPosition > 0) {
+      System.arraycopy(buffer, bufferPosition, buffer, 0, bufferLimit - bufferPosition);
+      bufferLimit -= bufferPosition;
+      bufferPosition = 0;
+    }
+    if (length > buffer.length) {
+      char[] b = new char[Math.max(length, buffer.length * 2)];
+      System.arraycopy(buffer, 0, b, 0, bufferLimit);
+      buffer = b;
+    }
+    try {
+      while (bufferLimit < length) {
+        int read = reader.read(buffer, bufferLimit, buffer.length - bufferLimit);
+        if (read < 0) {
+          eof = true;
+          return false;
+        }
+        bufferLimit += read;
+      }
+      return true;
+    } catch (java.io.IOException e) {
+      throw new IOException("Could not read SQL script", e);
+    }
+  }
+}
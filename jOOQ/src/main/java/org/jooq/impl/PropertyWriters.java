@@ -0,0 +1,186 @@
+/* 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.impl;
+
+import static java.lang.invoke.MethodType.methodType;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodHandles.Lookup;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import org.java.util.function.BiConsumer;
+import org.jooq.exception.MappingException;
+import org.jooq.tools.reflect.Reflect;
+
+/**
+ * Specialised write accesses to POJO members and setters, used by the {@link DefaultRecordMapper}.
+ *
+ * <p>Writers are created once per mapper, which is cached in {@link
+ * CacheType#CACHE_RECORD_MAPPERS}, and applied to every mapped record. Depending on what the
+ * runtime supports, they are (in order of preference):
+ *
+ * <ul>
+ *   <li>Lambdas spun by the {@link LambdaMetafactory}, for public setters of public types. These can
+ *       be inlined by the JIT just like hand-written code.
+ *   <li>{@link MethodHandle}s, for other setters and for members.
+ *   <li>Plain reflection, e.g. on Android runtimes that lack <code>java.lang.invoke</code> support.
+ * </ul>
+ *
+ * @author Lukas Eder
+ */
+final class PropertyWriters {
+
+  private static final boolean LAMBDA_METAFACTORY = available("java.lang.invoke.LambdaMetafactory");
+
+  private static final boolean METHOD_HANDLES = available("java.lang.invoke.MethodHandles");
+
+  private static final boolean available(String className) {
+    try {
+      Class.forName(className);
+      return true;
+    } catch (Throwable e) {
+      return false;
+    }
+  }
+
+  /** Create a writer for an accessible, non-final member. */
+  static final BiConsumer<Object, Object> writer(Field member) {
+    if (METHOD_HANDLES) {
+      try {
+        return handleWriter(MethodHandles.lookup().unreflectSetter(member));
+      } catch (Throwable ignore) {
+      }
+    }
+    return reflectionWriter(member);
+  }
+
+  /** Create a writer for an accessible, single argument setter. */
+  static final BiConsumer<Object, Object> writer(Method setter) {
+    if (LAMBDA_METAFACTORY && isPublic(setter)) {
+      try {
+        return lambdaWriter(setter);
+      } catch (Throwable ignore) {
+      }
+    }
+    if (METHOD_HANDLES) {
+      try {
+        return handleWriter(MethodHandles.lookup().unreflect(setter));
+      } catch (Throwable ignore) {
+      }
+    }
+    return reflectionWriter(setter);
+  }
+
+  /**
+   * Whether a setter can be linked from a lambda spun in this class, i.e. whether it is public, and
+   * its types are public and visible from this class's {@link ClassLoader}.
+   */
+  private static final boolean isPublic(Method setter) {
+    return Modifier.isPublic(setter.getModifiers())
+        && isPublic(setter.getDeclaringClass())
+        && isPublic(setter.getParameterTypes()[0]);
+  }
+
+  private static final boolean isPublic(Class<?> type) {
+    while (type.isArray()) type = type.getComponentType();
+    if (type.isPrimitive()) return true;
+    for (Class<?> c = type; c != null; c = c.getEnclosingClass())
+      if (!Modifier.isPublic(c.getModifiers())) return false;
+    try {
+      return Class.forName(type.getName(), false, PropertyWriters.class.getClassLoader()) == type;
+    } catch (Throwable e) {
+      return false;
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private static final BiConsumer<Object, Object> lambdaWriter(Method setter) throws Throwable {
+    Lookup lookup = MethodHandles.lookup();
+    CallSite site =
+        LambdaMetafactory.metafactory(
+            lookup,
+            "accept",
+            methodType(BiConsumer.class),
+            methodType(void.class, Object.class, Object.class),
+            lookup.unreflect(setter),
+            methodType(
+                void.class,
+                setter.getDeclaringClass(),
+                Reflect.wrapper(setter.getParameterTypes()[0])));
+    return (BiConsumer<Object, Object>) site.getTarget().invoke();
+  }
+
+  private static final BiConsumer<Object, Object> handleWriter(MethodHandle handle) {
+    MethodHandle h = handle.asType(methodType(void.class, Object.class, Object.class));
+    return (target, value) -> {
+      try {
+        h.invokeExact(target, value);
+      } catch (RuntimeException | Error e) {
+        throw e;
+      } catch (Throwable e) {
+        throw new MappingException("An error ocurred when writing " + handle, e);
+      }
+    };
+  }
+
+  private static final BiConsumer<Object, Object> reflectionWriter(Field member) {
+    return (target, value) -> {
+      try {
+        member.set(target, value);
+      } catch (IllegalAccessException e) {
+        throw new MappingException("An error ocurred when writing " + member, e);
+      }
+    };
+  }
+
+  private static final BiConsumer<Object, Object> reflectionWriter(Method setter) {
+    return (target, value) -> {
+      try {
+        setter.invoke(target, value);
+      } catch (ReflectiveOperationException e) {
+        throw new MappingException("An error ocurred when invoking " + setter, e);
+      }
+    };
+  }
+
+  private PropertyWriters() {}
+}
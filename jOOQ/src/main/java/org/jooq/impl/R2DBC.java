@@ -187,6 +187,16 @@ final class R2DBC {
           && requested.getAndUpdate(l -> l == Long.MAX_VALUE ? l : Math.max(0, l - 1)) > 0;
     }
 
+    /**
+     * Take up to <code>max</code> elements from the outstanding demand, returning the number of
+     * elements that may be emitted.
+     */
+    final long moreRequested(long max) {
+      if (completed.get()) return 0;
+      long r = requested.getAndUpdate(l -> l == Long.MAX_VALUE ? l : l - Math.min(l, max));
+      return Math.min(r, max);
+    }
+
     final void complete(boolean cancelled) {
       // required_spec306_afterSubscriptionIsCancelledRequestMustBeNops
       // required_spec307_afterSubscriptionIsCancelledAdditionalCancelationsMustBeNops
@@ -209,6 +219,9 @@ final class R2DBC {
 
     final AtomicReference<Subscription> subscription;
 
+    /** The number of elements requested from upstream, which have not yet been received. */
+    long outstanding;
+
     Forwarding(int forwarderIndex, AbstractResultSubscriber<T> resultSubscriber) {
       this.forwarderIndex = forwarderIndex;
       this.resultSubscriber = resultSubscriber;
@@ -218,17 +231,41 @@ final class R2DBC {
     @Override
     public final void onSubscribe(Subscription s) {
       subscription.set(s);
-      resultSubscriber.downstream.request2(s);
+      request();
     }
 
     @Override
     public final void onNext(T value) {
+      synchronized (this) {
+        outstanding--;
+      }
       if (!resultSubscriber.downstream.completed.get()) {
         resultSubscriber.downstream.subscriber.onNext(value);
-        resultSubscriber.downstream.request2(subscription.get());
+        request();
       }
     }
 
+    /**
+     * Request a batch of up to {@link AbstractNonBlockingSubscription#prefetch} elements from
+     * upstream, once the outstanding elements have dropped to {@link
+     * AbstractNonBlockingSubscription#lowTide}.
+     *
+     * <p>Only elements that have been requested by downstream are requested from upstream, so the
+     * driver is never asked to produce elements that nobody consumes.
+     */
+    final void request() {
+      Subscription s = subscription.get();
+      if (s == null) return;
+      AbstractNonBlockingSubscription<? super T> d = resultSubscriber.downstream;
+      long n;
+      synchronized (this) {
+        if (outstanding > d.lowTide) return;
+        n = d.moreRequested(d.prefetch - outstanding);
+        outstanding += n;
+      }
+      if (n > 0) s.request(n);
+    }
+
     @Override
     public final void onError(Throwable t) {
       resultSubscriber.downstream.subscriber.onError(
@@ -237,7 +274,18 @@ final class R2DBC {
 
     @Override
     public final void onComplete() {
+      // Demand that was taken for this result, but not consumed, must remain available to the
+      // next result, e.g. when a batch produces a single update count per result
+      long unused;
+      synchronized (this) {
+        unused = outstanding;
+        outstanding = 0;
+      }
+      if (unused > 0)
+        resultSubscriber.downstream.requested.getAndUpdate(
+            l -> l == Long.MAX_VALUE ? l : addNoOverflow(l, unused));
       resultSubscriber.downstream.forwarders.remove(forwarderIndex);
+      resultSubscriber.next();
       resultSubscriber.complete();
     }
   }
@@ -248,14 +296,20 @@ final class R2DBC {
 
     final AtomicBoolean completed;
 
+    final AtomicReference<Subscription> subscription;
+
     AbstractResultSubscriber(AbstractNonBlockingSubscription<? super T> downstream) {
       this.downstream = downstream;
       this.completed = new AtomicBoolean();
+      this.subscription = new AtomicReference<>();
     }
 
     @Override
     public final void onSubscribe(Subscription s) {
-      s.request(Long.MAX_VALUE);
+      // Results are consumed one at a time, in order not to have the
+      // driver produce rows of several results ahead of consumption
+      subscription.set(s);
+      s.request(1);
     }
 
     @Override
@@ -269,6 +323,10 @@ final class R2DBC {
       complete();
     }
 
+    final void next() {
+      if (!completed.get() && !downstream.completed.get()) subscription.get().request(1);
+    }
+
     final void complete() {
       if (completed.get() && downstream.forwarders.isEmpty()) downstream.complete(false);
     }
@@ -300,51 +358,82 @@ final class R2DBC {
     @SuppressWarnings("unchecked")
     @Override
     public final void onNext(Result r) {
-      r.map(
-              (row, meta) -> {
-                try {
-                  // TODO: Cache this getFields() call
-                  Field<?>[] fields =
-                      query.getFields(new R2DBCResultSetMetaData(query.configuration(), meta));
-                  // TODO: This call is duplicated from CursorImpl and related classes.
-                  // Refactor this call to make sure code is re-used, especially when
-                  // ExecuteListener lifecycle management is implemented
-                  RecordDelegate<? extends AbstractRecord> delegate =
-                      Tools.newRecord(
-                          true,
-                          recordFactory(
-                              (Class<AbstractRecord>) query.getRecordType(),
-                              (AbstractRow<AbstractRecord>) Tools.row0(fields)),
-                          query.configuration());
-                  return (R)
-                      delegate.operate(
-                          record -> {
-                            // TODO: What data to pass here?
-                            DefaultBindingGetResultSetContext<?> ctx =
-                                new DefaultBindingGetResultSetContext<>(
-                                    query.configuration(),
-                                    query.configuration().data(),
-                                    new R2DBCResultSet(query.configuration(), row, meta),
-                                    0);
-                            // TODO: Make sure all the embeddable records, and other types of nested
-                            // records are supported
-                            for (int i = 0; i < fields.length; i++) {
-                              ctx.index(i + 1);
-                              ctx.field((Field) fields[i]);
-                              fields[i].getBinding().get((BindingGetResultSetContext) ctx);
-                              record.values[i] = ctx.value();
-                              record.originals[i] = ctx.value();
-                            }
-                            return record;
-                          });
-                } // TODO: More specific error handling
-                catch (Throwable t) {
-                  onError(t);
-                  return null;
-                }
-              })
+      r.map(new RowMapper())
           .subscribe(downstream.forwardingSubscriber((AbstractResultSubscriber) this));
     }
+
+    /**
+     * The mapping of the rows of a {@link Result} to records.
+     *
+     * <p>The fields, the record factory, and the {@link java.sql.ResultSet} and binding context
+     * adapters are computed once per {@link RowMetadata}, and then reused for all of its rows, like
+     * in {@link CursorImpl}. R2DBC maps the rows of a {@link Result} sequentially, so the shared
+     * state is never accessed concurrently.
+     */
+    final class RowMapper implements java.util.function.BiFunction<Row, RowMetadata, R> {
+
+      RowMetadata meta;
+
+      Field<?>[] fields;
+
+      RecordDelegate<AbstractRecord> delegate;
+
+      R2DBCResultSet resultSet;
+
+      DefaultBindingGetResultSetContext<?> ctx;
+
+      final ThrowingFunction<AbstractRecord, AbstractRecord, SQLException> initialiser =
+          this::initialise;
+
+      @SuppressWarnings("unchecked")
+      @Override
+      public final R apply(Row row, RowMetadata m) {
+        try {
+          // Drivers usually share the RowMetadata instance between all rows of a Result
+          if (meta != m) plan(m);
+          resultSet.row(row);
+          return (R) delegate.operate(initialiser);
+        } // TODO: More specific error handling
+        catch (Throwable t) {
+          onError(t);
+          return null;
+        }
+      }
+
+      @SuppressWarnings("unchecked")
+      private final void plan(RowMetadata m) throws SQLException {
+        meta = m;
+        fields = query.getFields(new R2DBCResultSetMetaData(query.configuration(), m));
+        // TODO: This call is duplicated from CursorImpl and related classes.
+        // Refactor this call to make sure code is re-used, especially when
+        // ExecuteListener lifecycle management is implemented
+        delegate =
+            Tools.newRecord(
+                true,
+                recordFactory(
+                    (Class<AbstractRecord>) query.getRecordType(),
+                    (AbstractRow<AbstractRecord>) Tools.row0(fields)),
+                query.configuration());
+        resultSet = new R2DBCResultSet(query.configuration(), null, m);
+        // TODO: What data to pass here?
+        ctx =
+            new DefaultBindingGetResultSetContext<>(
+                query.configuration(), query.configuration().data(), resultSet, 0);
+      }
+
+      @SuppressWarnings({"unchecked", "rawtypes"})
+      private final AbstractRecord initialise(AbstractRecord record) throws SQLException {
+        // TODO: Make sure all the embeddable records, and other types of nested
+        // records are supported
+        for (int i = 0; i < fields.length; i++) {
+          ctx.index(i + 1);
+          ctx.field((Field) fields[i]);
+          fields[i].getBinding().get((BindingGetResultSetContext) ctx);
+          record.set0(i, ctx.value(), ctx.value());
+        }
+        return record;
+      }
+    }
   }
 
   abstract static class ConnectionSubscriber<T> implements Subscriber<Connection> {
@@ -500,8 +589,14 @@ final class R2DBC {
 
     final ConcurrentMap<Integer, Forwarding<T>> forwarders;
 
+    final long prefetch;
+
+    final long lowTide;
+
     AbstractNonBlockingSubscription(Configuration configuration, Subscriber<? super T> subscriber) {
       super(subscriber);
+      this.prefetch = SettingsTools.getR2dbcPrefetch(configuration.settings());
+      this.lowTide = SettingsTools.getR2dbcLowTide(configuration.settings());
       this.subscribed = new AtomicBoolean();
       this.connection = configuration.connectionFactory().create();
       this.nextForwarderIndex = new AtomicInteger();
@@ -537,11 +632,7 @@ final class R2DBC {
     }
 
     private final void request1() {
-      forAllForwardingSubscriptions(this::request2);
-    }
-
-    final void request2(Subscription s) {
-      if (moreRequested()) s.request(1);
+      for (Forwarding<T> f : forwarders.values()) f.request();
     }
 
     @Override
@@ -895,7 +986,7 @@ final class R2DBC {
 
     final Configuration c;
 
-    final Row r;
+    Row r;
 
     final RowMetadata m;
 
@@ -913,6 +1004,12 @@ final class R2DBC {
       this.m = m;
     }
 
+    /** Move this result set to another row of the same {@link RowMetadata}. */
+    final void row(Row row) {
+      this.r = new DefaultRow(c, row);
+      this.wasNull = false;
+    }
+
     private final <T> T wasNull(T nullable) {
       wasNull = nullable == null;
       return nullable;
@@ -61,6 +61,31 @@ import org.jooq.exception.ControlFlowSignal;
  */
 final class RecordDelegate<R extends Record> {
 
+  /**
+   * The events, in the order of the bits of {@link Callbacks#callbacks(RecordListener)}, with the
+   * start and end events of each {@link RecordLifecycleType} at <code>2 * ordinal()</code> and
+   * <code>2 * ordinal() + 1</code>.
+   */
+  static final String[] EVENTS = {
+    "loadStart",
+    "loadEnd",
+    "refreshStart",
+    "refreshEnd",
+    "storeStart",
+    "storeEnd",
+    "insertStart",
+    "insertEnd",
+    "updateStart",
+    "updateEnd",
+    "mergeStart",
+    "mergeEnd",
+    "deleteStart",
+    "deleteEnd",
+    "exception"
+  };
+
+  private static final int EXCEPTION = 14;
+
   private final Configuration configuration;
 
   private final Supplier<R> recordSupplier;
@@ -102,8 +127,8 @@ final class RecordDelegate<R extends Record> {
     if (configuration != null) {
       providers = configuration.recordListenerProviders();
       if (providers != null && providers.length > 0) {
-        listeners = map(providers, p -> p.provide(), RecordListener[]::new);
-        ctx = new DefaultRecordContext(configuration, executeType(), record);
+        listeners = listeners(providers);
+        if (listeners != null) ctx = new DefaultRecordContext(configuration, executeType(), record);
       }
     }
     if (listeners != null) {
@@ -189,6 +214,19 @@ final class RecordDelegate<R extends Record> {
     return record;
   }
 
+  /**
+   * The listeners that implement this delegate's events, or <code>null</code> if there are none,
+   * such that no {@link DefaultRecordContext} needs to be created, e.g. for every fetched record.
+   */
+  private final RecordListener[] listeners(RecordListenerProvider[] providers) {
+    int events = (3 << (2 * type.ordinal())) | (1 << EXCEPTION);
+    RecordListener[] result = map(providers, p -> p.provide(), RecordListener[]::new);
+    int size = 0;
+    for (RecordListener listener : result)
+      if ((Callbacks.callbacks(listener) & events) != 0) result[size++] = listener;
+    return size == 0 ? null : size == result.length ? result : Arrays.copyOf(result, size);
+  }
+
   private final ExecuteType executeType() {
     return type == LOAD || type == REFRESH ? READ : WRITE;
   }
@@ -41,6 +41,7 @@ import static org.jooq.Records.intoList;
 import static org.jooq.Records.intoResultGroups;
 import static org.jooq.impl.Tools.indexOrFail;
 
+import java.io.ObjectStreamException;
 import java.sql.ResultSet;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -108,8 +109,13 @@ final class ResultImpl<R extends Record> extends AbstractResult<R> implements Re
   }
 
   ResultImpl(Configuration configuration, AbstractRow fields) {
+    this(configuration, fields, new ArrayList<>());
+  }
+
+  /** Create a result with a custom record storage, such as {@link ColumnarRecords}. */
+  ResultImpl(Configuration configuration, AbstractRow fields, List<R> records) {
     super(configuration, fields);
-    this.records = new ArrayList<>();
+    this.records = records;
   }
 
   // -------------------------------------------------------------------------
@@ -118,7 +124,8 @@ final class ResultImpl<R extends Record> extends AbstractResult<R> implements Re
   @Override
   public final void attach(Configuration c) {
     this.configuration = c;
-    for (R record : records) if (record != null) record.attach(c);
+    if (records instanceof ColumnarRecords) ((ColumnarRecords<R>) records).attach(c);
+    else for (R record : records) if (record != null) record.attach(c);
   }
 
   @Override
@@ -1715,6 +1722,16 @@ final class ResultImpl<R extends Record> extends AbstractResult<R> implements Re
     return false;
   }
 
+  // -------------------------------------------------------------------------
+  // XXX: Serializable API
+  // -------------------------------------------------------------------------
+  /** A columnar record storage is serialized as a row-based copy. */
+  private final Object writeReplace() throws ObjectStreamException {
+    if (records instanceof ColumnarRecords)
+      return new ResultImpl<>(configuration, fields, new ArrayList<>(records));
+    else return this;
+  }
+
   // -------------------------------------------------------------------------
   // XXX: List API
   // -------------------------------------------------------------------------
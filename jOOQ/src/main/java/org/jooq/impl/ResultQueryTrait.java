@@ -730,6 +730,11 @@ interface ResultQueryTrait<R extends Record>
             });
   }
 
+  @Override
+  default Result<R> fetchColumnar() throws DataAccessException {
+    return fetch();
+  }
+
   @Override
   default Cursor<R> fetchLazy() throws DataAccessException {
     return new ResultAsCursor<R>(fetch());
@@ -769,6 +774,15 @@ interface ResultQueryTrait<R extends Record>
 
   @Override
   default Stream<R> fetchStream() {
+    return fetchStream0(false);
+  }
+
+  @Override
+  default Stream<R> fetchStreamReusing() {
+    return fetchStream0(true);
+  }
+
+  default Stream<R> fetchStream0(boolean reuseRecord) {
     if (fetchIntermediateResult(Tools.configuration(this))) return Stream.stream(fetch());
     // [#11895] Don't use the Stream.of(1).flatMap(i -> fetchLazy().stream())
     // trick, because flatMap() will consume the entire result set
@@ -778,6 +792,7 @@ interface ResultQueryTrait<R extends Record>
     return StreamSupport.stream(
             () -> {
               Cursor<R> c = fetchLazy();
+              if (reuseRecord && c instanceof CursorImpl) ((CursorImpl<R>) c).reuseRecord();
               r.set(c);
               return SpliteratorUtils.org(c.spliterator());
             },
@@ -4116,6 +4116,11 @@ final class SelectImpl<
     return getDelegate().fetch();
   }
 
+  @Override
+  public final Result<R> fetchColumnar() {
+    return getDelegate().fetchColumnar();
+  }
+
   @Override
   public final void subscribe(Flow.Subscriber<? super R> subscriber) {
     getDelegate().subscribe(subscriber);
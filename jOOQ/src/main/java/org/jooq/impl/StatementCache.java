@@ -0,0 +1,147 @@
+/* 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.impl;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.jooq.tools.jdbc.JDBCUtils;
+
+/**
+ * An LRU cache of idle {@link PreparedStatement} objects of a single JDBC {@link Connection}.
+ *
+ * <p>Statements are removed from the cache while they are in use, and put back once they are
+ * closed by client code, such that a statement is never shared by concurrent executions. If the
+ * cache already contains an idle statement for the same key, or if it is full, the excess statement
+ * is closed.
+ *
+ * @author Lukas Eder
+ */
+final class StatementCache {
+
+  private final Map<Key, StatementCachingPreparedStatement> statements;
+
+  StatementCache(int maximumSize) {
+    this.statements =
+        new LinkedHashMap<Key, StatementCachingPreparedStatement>(16, 0.75f, true) {
+          @Override
+          protected boolean removeEldestEntry(
+              Map.Entry<Key, StatementCachingPreparedStatement> eldest) {
+            if (size() <= maximumSize) return false;
+            JDBCUtils.safeClose(eldest.getValue().statement);
+            return true;
+          }
+        };
+  }
+
+  /** Take an idle statement out of the cache, or return <code>null</code> on a cache miss. */
+  final synchronized StatementCachingPreparedStatement checkout(Key key) {
+    return statements.remove(key);
+  }
+
+  /** Put an idle statement back into the cache. */
+  final void checkin(StatementCachingPreparedStatement statement) {
+    StatementCachingPreparedStatement existing;
+    synchronized (this) {
+      existing = statements.putIfAbsent(statement.key, statement);
+    }
+    if (existing != null) JDBCUtils.safeClose(statement.statement);
+  }
+
+  /** Close all idle statements. */
+  final synchronized void close() {
+    Iterator<StatementCachingPreparedStatement> it = statements.values().iterator();
+    while (it.hasNext()) {
+      JDBCUtils.safeClose(it.next().statement);
+      it.remove();
+    }
+  }
+
+  /** Create a cache key for a statement. */
+  static final Key key(String sql, int resultSetType, int resultSetConcurrency, int holdability) {
+    return new Key(sql, resultSetType, resultSetConcurrency, holdability);
+  }
+
+  /**
+   * The cache key of a statement, with <code>0</code> for any unspecified result set type,
+   * concurrency, or holdability.
+   */
+  static final class Key {
+
+    private final String sql;
+
+    private final int resultSetType;
+
+    private final int resultSetConcurrency;
+
+    private final int resultSetHoldability;
+
+    Key(String sql, int resultSetType, int resultSetConcurrency, int resultSetHoldability) {
+      this.sql = sql;
+      this.resultSetType = resultSetType;
+      this.resultSetConcurrency = resultSetConcurrency;
+      this.resultSetHoldability = resultSetHoldability;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (!(o instanceof Key)) return false;
+      Key other = (Key) o;
+      return sql.equals(other.sql)
+          && resultSetType == other.resultSetType
+          && resultSetConcurrency == other.resultSetConcurrency
+          && resultSetHoldability == other.resultSetHoldability;
+    }
+
+    @Override
+    public int hashCode() {
+      int result = sql.hashCode();
+      result = 31 * result + resultSetType;
+      result = 31 * result + resultSetConcurrency;
+      result = 31 * result + resultSetHoldability;
+      return result;
+    }
+
+    @Override
+    public String toString() {
+      return sql;
+    }
+  }
+}
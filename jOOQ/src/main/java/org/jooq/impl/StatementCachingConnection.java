@@ -0,0 +1,97 @@
+/* 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.impl;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import org.jooq.tools.jdbc.DefaultConnection;
+
+/**
+ * A connection that takes {@link PreparedStatement} objects from a {@link StatementCache}, if
+ * possible, instead of preparing them again.
+ *
+ * <p>Only statements that are identified by their SQL string, result set type, concurrency, and
+ * holdability are cached. Statements that return generated keys are always prepared.
+ *
+ * @author Lukas Eder
+ */
+final class StatementCachingConnection extends DefaultConnection {
+
+  private final StatementCache cache;
+
+  StatementCachingConnection(Connection delegate, StatementCache cache) {
+    super(delegate);
+    this.cache = cache;
+  }
+
+  private final PreparedStatement prepare(
+      StatementCache.Key key, ThrowingSupplier<PreparedStatement, SQLException> prepare)
+      throws SQLException {
+    StatementCachingPreparedStatement result = cache.checkout(key);
+    if (result == null) result = new StatementCachingPreparedStatement(cache, key, prepare.get());
+    return result.open(this);
+  }
+
+  // ------------------------------------------------------------------------
+  // XXX Creation of PreparedStatements
+  // ------------------------------------------------------------------------
+  @Override
+  public final PreparedStatement prepareStatement(String sql) throws SQLException {
+    return prepare(StatementCache.key(sql, 0, 0, 0), () -> getDelegate().prepareStatement(sql));
+  }
+
+  @Override
+  public final PreparedStatement prepareStatement(
+      String sql, int resultSetType, int resultSetConcurrency) throws SQLException {
+    return prepare(
+        StatementCache.key(sql, resultSetType, resultSetConcurrency, 0),
+        () -> getDelegate().prepareStatement(sql, resultSetType, resultSetConcurrency));
+  }
+
+  @Override
+  public final PreparedStatement prepareStatement(
+      String sql, int resultSetType, int resultSetConcurrency, int resultSetHoldability)
+      throws SQLException {
+    return prepare(
+        StatementCache.key(sql, resultSetType, resultSetConcurrency, resultSetHoldability),
+        () ->
+            getDelegate()
+                .prepareStatement(sql, resultSetType, resultSetConcurrency, resultSetHoldability));
+  }
+}
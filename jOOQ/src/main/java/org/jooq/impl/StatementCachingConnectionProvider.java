@@ -0,0 +1,151 @@
+/* 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.impl;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.Map;
+import org.jetbrains.annotations.NotNull;
+import org.jooq.ConnectionProvider;
+import org.jooq.conf.Settings;
+
+/**
+ * A {@link ConnectionProvider} that caches {@link PreparedStatement} objects per JDBC {@link
+ * Connection}.
+ *
+ * <p>This implementation wraps another {@link ConnectionProvider}. Statements prepared on its
+ * connections are put in a per connection LRU cache when they are closed, and reused when the same
+ * SQL string is prepared again with the same result set type, concurrency, and holdability. Their
+ * parameters are cleared before they are put back in the cache. This is useful with JDBC drivers
+ * that ignore {@link java.sql.Statement#setPoolable(boolean)}, and that do not cache statements
+ * themselves.
+ *
+ * <p>A connection's cache is discarded when the connection is found to be closed after it has been
+ * released to the wrapped {@link ConnectionProvider}, e.g. when it is returned to a connection
+ * pool. This implementation is therefore most useful with a {@link DefaultConnectionProvider}, or
+ * with other providers that keep their connections open.
+ *
+ * <p>Statement caching can also be enabled through {@link Settings#isCachePreparedStatements()},
+ * in case of which the statement caches are kept per {@link org.jooq.Configuration}.
+ *
+ * @author Lukas Eder
+ */
+public class StatementCachingConnectionProvider implements ConnectionProvider {
+
+  /** The default value of {@link Settings#getCachePreparedStatementsLRUCacheSize()}. */
+  static final int DEFAULT_MAXIMUM_SIZE = 64;
+
+  private final ConnectionProvider delegate;
+
+  private final int maximumSize;
+
+  private final Map<Connection, StatementCache> caches;
+
+  public StatementCachingConnectionProvider(ConnectionProvider delegate) {
+    this(delegate, DEFAULT_MAXIMUM_SIZE);
+  }
+
+  public StatementCachingConnectionProvider(ConnectionProvider delegate, int maximumSize) {
+    this(delegate, maximumSize, new IdentityHashMap<>());
+  }
+
+  StatementCachingConnectionProvider(
+      ConnectionProvider delegate, int maximumSize, Map<Connection, StatementCache> caches) {
+    this.delegate = delegate;
+    this.maximumSize = maximumSize;
+    this.caches = caches;
+  }
+
+  @NotNull
+  public ConnectionProvider delegate() {
+    return delegate;
+  }
+
+  @Override
+  public Connection acquire() {
+    Connection connection = delegate.acquire();
+    if (connection == null) return null;
+    return new StatementCachingConnection(connection, cache(connection));
+  }
+
+  @Override
+  public void release(Connection connection) {
+    Connection c =
+        connection instanceof StatementCachingConnection
+            ? ((StatementCachingConnection) connection).getDelegate()
+            : connection;
+    delegate.release(c);
+    if (closed(c)) {
+      StatementCache cache;
+      synchronized (caches) {
+        cache = caches.remove(c);
+      }
+      if (cache != null) cache.close();
+    }
+  }
+
+  private final StatementCache cache(Connection connection) {
+    synchronized (caches) {
+      StatementCache cache = caches.get(connection);
+      if (cache == null) {
+        // Discard the caches of connections that have been closed by client code in the meantime
+        Iterator<Map.Entry<Connection, StatementCache>> it = caches.entrySet().iterator();
+        while (it.hasNext()) {
+          Map.Entry<Connection, StatementCache> entry = it.next();
+          if (closed(entry.getKey())) {
+            entry.getValue().close();
+            it.remove();
+          }
+        }
+        caches.put(connection, cache = new StatementCache(maximumSize));
+      }
+      return cache;
+    }
+  }
+
+  private static final boolean closed(Connection connection) {
+    try {
+      return connection.isClosed();
+    } catch (SQLException e) {
+      return true;
+    }
+  }
+}
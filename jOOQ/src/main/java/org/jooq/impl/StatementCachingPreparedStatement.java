@@ -0,0 +1,170 @@
+/* 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.impl;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import org.jooq.tools.jdbc.DefaultPreparedStatement;
+import org.jooq.tools.jdbc.JDBCUtils;
+
+/**
+ * A {@link PreparedStatement} that is returned to its {@link StatementCache} when it is closed.
+ *
+ * <p>Before a statement is returned to the cache, its parameters and batch are cleared, and any
+ * modified max rows, fetch size, and query timeout are reset to the driver's values.
+ *
+ * @author Lukas Eder
+ */
+final class StatementCachingPreparedStatement extends DefaultPreparedStatement {
+
+  final StatementCache cache;
+
+  final StatementCache.Key key;
+
+  final PreparedStatement statement;
+
+  private Connection connection;
+
+  private boolean closed;
+
+  private boolean batched;
+
+  // The driver's values, or -1 if they have not been modified
+  private int maxRows = -1;
+
+  private int fetchSize = -1;
+
+  private int queryTimeout = -1;
+
+  StatementCachingPreparedStatement(
+      StatementCache cache, StatementCache.Key key, PreparedStatement statement) {
+    super(statement);
+    this.cache = cache;
+    this.key = key;
+    this.statement = statement;
+  }
+
+  /** Hand out this statement to client code. */
+  final StatementCachingPreparedStatement open(Connection c) {
+    this.connection = c;
+    this.closed = false;
+    return this;
+  }
+
+  @Override
+  public final Connection getConnection() throws SQLException {
+    return connection;
+  }
+
+  // ------------------------------------------------------------------------
+  // XXX Tracking modifications
+  // ------------------------------------------------------------------------
+  @Override
+  public final void addBatch() throws SQLException {
+    batched = true;
+    super.addBatch();
+  }
+
+  @Override
+  public final void addBatch(String sql) throws SQLException {
+    batched = true;
+    super.addBatch(sql);
+  }
+
+  @Override
+  public final void setMaxRows(int max) throws SQLException {
+    if (maxRows == -1) maxRows = statement.getMaxRows();
+    super.setMaxRows(max);
+  }
+
+  @Override
+  public final void setFetchSize(int rows) throws SQLException {
+    if (fetchSize == -1) fetchSize = statement.getFetchSize();
+    super.setFetchSize(rows);
+  }
+
+  @Override
+  public final void setQueryTimeout(int seconds) throws SQLException {
+    if (queryTimeout == -1) queryTimeout = statement.getQueryTimeout();
+    super.setQueryTimeout(seconds);
+  }
+
+  // ------------------------------------------------------------------------
+  // XXX Closing the Statement
+  // ------------------------------------------------------------------------
+  @Override
+  public final void close() throws SQLException {
+    if (closed) return;
+    closed = true;
+    connection = null;
+    try {
+      if (statement.isClosed()) return;
+      reset();
+    } catch (SQLException e) {
+      JDBCUtils.safeClose(statement);
+      return;
+    }
+    cache.checkin(this);
+  }
+
+  @Override
+  public final boolean isClosed() throws SQLException {
+    return closed || statement.isClosed();
+  }
+
+  private final void reset() throws SQLException {
+    statement.clearParameters();
+    if (batched) {
+      statement.clearBatch();
+      batched = false;
+    }
+    if (maxRows != -1) {
+      statement.setMaxRows(maxRows);
+      maxRows = -1;
+    }
+    if (fetchSize != -1) {
+      statement.setFetchSize(fetchSize);
+      fetchSize = -1;
+    }
+    if (queryTimeout != -1) {
+      statement.setQueryTimeout(queryTimeout);
+      queryTimeout = -1;
+    }
+  }
+}
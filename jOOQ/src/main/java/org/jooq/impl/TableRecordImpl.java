@@ -175,15 +175,7 @@ public class TableRecordImpl<R extends TableRecord<R>> extends AbstractQualified
 
   final void getReturningIfNeeded(StoreQuery<R> query, Collection<Field<?>> key) {
     if (key != null && !key.isEmpty()) {
-      R record = query.getReturnedRecord();
-      if (record != null) {
-        for (Field<?> field : key) {
-          int index = indexOrFail(fieldsRow(), field);
-          Object value = record.get(field);
-          values[index] = value;
-          originals[index] = value;
-        }
-      }
+      setReturned(query.getReturnedRecord(), key);
       // [#1859] In some databases, not all fields can be fetched via getGeneratedKeys()
       if (TRUE.equals(configuration().settings().isReturnAllOnUpdatableRecord())
           && (REFRESH_GENERATED_KEYS.contains(configuration().dialect()))
@@ -192,7 +184,25 @@ public class TableRecordImpl<R extends TableRecord<R>> extends AbstractQualified
     }
   }
 
+  /** Copy the <code>key</code> values of a returned record into this record, if available. */
+  final void setReturned(R record, Collection<Field<?>> key) {
+    if (record != null) {
+      for (Field<?> field : key) {
+        int index = indexOrFail(fieldsRow(), field);
+        Object value = record.get(field);
+        set0(index, value, value);
+      }
+    }
+  }
+
   final Collection<Field<?>> setReturningIfNeeded(StoreQuery<R> query) {
+    Collection<Field<?>> key = returningIfNeeded(query instanceof InsertQuery);
+    if (key != null) query.setReturning(key);
+    return key;
+  }
+
+  /** The fields to return from a store query, or <code>null</code> if nothing is returned. */
+  final Collection<Field<?>> returningIfNeeded(boolean insert) {
     Collection<Field<?>> key = null;
     if (configuration() != null)
       // [#7966] Allow users to turning off the returning clause entirely
@@ -202,9 +212,7 @@ public class TableRecordImpl<R extends TableRecord<R>> extends AbstractQualified
         if (TRUE.equals(configuration().settings().isReturnAllOnUpdatableRecord()))
           key = Arrays.asList(fields());
         else // [#5940] Getting the primary key mostly doesn't make sense on UPDATE statements
-        if (query instanceof InsertQuery || updatablePrimaryKeys(settings(this)))
-          key = getReturning();
-    if (key != null) query.setReturning(key);
+        if (insert || updatablePrimaryKeys(settings(this))) key = getReturning();
     return key;
   }
 
@@ -217,17 +225,15 @@ public class TableRecordImpl<R extends TableRecord<R>> extends AbstractQualified
       TableField<R, ?> field = getTable().getRecordVersion();
       int fieldIndex = indexOrFail(fields, field);
       Object value = field.getDataType().convert(version);
-      values[fieldIndex] = value;
-      originals[fieldIndex] = value;
-      changed.clear(fieldIndex);
+      set0(fieldIndex, value, value);
+      changed0(fieldIndex, false);
     }
     if (timestamp != null) {
       TableField<R, ?> field = getTable().getRecordTimestamp();
       int fieldIndex = indexOrFail(fields, field);
       Object value = field.getDataType().convert(timestamp);
-      values[fieldIndex] = value;
-      originals[fieldIndex] = value;
-      changed.clear(fieldIndex);
+      set0(fieldIndex, value, value);
+      changed0(fieldIndex, false);
     }
   }
 
@@ -456,6 +456,18 @@ final class Tools {
     /** [#1629] The {@link DefaultConnectionProvider} instance to be used during the transaction. */
     DATA_DEFAULT_TRANSACTION_PROVIDER_CONNECTION,
 
+    /**
+     * The {@link StatementCache} instances per JDBC {@link Connection}, if {@link
+     * Settings#isCachePreparedStatements()} is enabled.
+     */
+    DATA_STATEMENT_CACHES,
+
+    /**
+     * The {@link DiagnosticsWorker} analysing diagnostics asynchronously, if {@link
+     * Settings#isDiagnosticsAsync()} is enabled.
+     */
+    DATA_DIAGNOSTICS_WORKER,
+
     /**
      * [#2080] When emulating OFFSET pagination in certain databases, synthetic aliases are
      * generated that must be referenced also in <code>ORDER BY</code> clauses, in lieu of their
@@ -2643,9 +2655,14 @@ final class Tools {
     int targetIndex = indexOrFail(target.fieldsRow(), targetField);
     int sourceIndex = indexOrFail(source.fieldsRow(), sourceField);
 
-    target.values[targetIndex] = targetType.convert(source.get(sourceIndex));
-    target.originals[targetIndex] = targetType.convert(source.original(sourceIndex));
-    target.changed.set(targetIndex, source.changed(sourceIndex));
+    Object value = source.get(sourceIndex);
+    Object original = source.original(sourceIndex);
+    T converted = targetType.convert(value);
+
+    // Avoid allocating the target's originals if the source value is unchanged
+    target.set0(
+        targetIndex, converted, original == value ? converted : targetType.convert(original));
+    target.changed0(targetIndex, source.changed(sourceIndex));
   }
 
   /** Map a {@link Catalog} according to the configured {@link org.jooq.SchemaMapping} */
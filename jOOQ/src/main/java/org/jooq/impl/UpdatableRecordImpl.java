@@ -183,6 +183,14 @@ public class UpdatableRecordImpl<R extends UpdatableRecord<R>> extends TableReco
 
   private final int store0(Field<?>[] storeFields) {
     TableField<R, ?>[] keys = getPrimaryKey().getFieldsArray();
+    int result = 0;
+    if (storeWithUpdate(keys)) result = storeUpdate(storeFields, keys);
+    else result = storeInsert(storeFields);
+    return result;
+  }
+
+  /** Whether {@link #store()} executes an <code>UPDATE</code>, rather than an <code>INSERT</code>. */
+  final boolean storeWithUpdate(TableField<R, ?>[] keys) {
     boolean executeUpdate = false;
     // [#2764] If primary key values are allowed to be changed,
     // inserting is only possible without prior loading of pk values
@@ -201,10 +209,7 @@ public class UpdatableRecordImpl<R extends UpdatableRecord<R>> extends TableReco
         executeUpdate = true;
       }
     }
-    int result = 0;
-    if (executeUpdate) result = storeUpdate(storeFields, keys);
-    else result = storeInsert(storeFields);
-    return result;
+    return executeUpdate;
   }
 
   private final int storeUpdate(final Field<?>[] storeFields, final TableField<R, ?>[] keys) {
@@ -120,29 +120,7 @@ final class XMLHandler<R extends Record> extends DefaultHandler {
 
   Result<R> read(String string) {
     try {
-      SAXParserFactory factory = SAXParserFactory.newInstance();
-      // -----------------------------------------------------------------
-      // [JOOX #136] FIX START: Prevent OWASP attack vectors
-      try {
-        factory.setFeature("http://apache.org/xml/features/disallow-doctype-decl", true);
-      } catch (ParserConfigurationException | SAXNotRecognizedException ignore) {
-      }
-      try {
-        factory.setFeature("http://xml.org/sax/features/external-general-entities", false);
-      } catch (ParserConfigurationException | SAXNotRecognizedException ignore) {
-      }
-      try {
-        factory.setFeature("http://xml.org/sax/features/external-parameter-entities", false);
-      } catch (ParserConfigurationException | SAXNotRecognizedException ignore) {
-      }
-      // [#149] Not implemented on Android
-      try {
-        factory.setXIncludeAware(false);
-      } catch (UnsupportedOperationException ignore) {
-      }
-      // [JOOX #136] FIX END
-      // -----------------------------------------------------------------
-      SAXParser saxParser = factory.newSAXParser();
+      SAXParser saxParser = saxParser();
       // TODO: Why does the SAXParser replace \r by \n?
       saxParser.parse(
           new ByteArrayInputStream(
@@ -154,6 +132,33 @@ final class XMLHandler<R extends Record> extends DefaultHandler {
     }
   }
 
+  /** Create a {@link SAXParser} that is safe to use on untrusted input. */
+  static SAXParser saxParser() throws ParserConfigurationException, SAXException {
+    SAXParserFactory factory = SAXParserFactory.newInstance();
+    // -----------------------------------------------------------------
+    // [JOOX #136] FIX START: Prevent OWASP attack vectors
+    try {
+      factory.setFeature("http://apache.org/xml/features/disallow-doctype-decl", true);
+    } catch (ParserConfigurationException | SAXNotRecognizedException ignore) {
+    }
+    try {
+      factory.setFeature("http://xml.org/sax/features/external-general-entities", false);
+    } catch (ParserConfigurationException | SAXNotRecognizedException ignore) {
+    }
+    try {
+      factory.setFeature("http://xml.org/sax/features/external-parameter-entities", false);
+    } catch (ParserConfigurationException | SAXNotRecognizedException ignore) {
+    }
+    // [#149] Not implemented on Android
+    try {
+      factory.setXIncludeAware(false);
+    } catch (UnsupportedOperationException ignore) {
+    }
+    // [JOOX #136] FIX END
+    // -----------------------------------------------------------------
+    return factory.newSAXParser();
+  }
+
   @SuppressWarnings({"unchecked"})
   @Override
   public final void startElement(String uri, String localName, String qName, Attributes attributes)
@@ -0,0 +1,256 @@
+/* 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.impl;
+
+import static org.jooq.impl.DSL.field;
+import static org.jooq.impl.DSL.name;
+import static org.jooq.impl.DefaultDataType.getDataType;
+import static org.jooq.impl.SQLDataType.VARCHAR;
+import static org.jooq.impl.Tools.EMPTY_FIELD;
+import static org.jooq.impl.Tools.anyMatch;
+import static org.jooq.tools.StringUtils.defaultIfBlank;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import org.jooq.DSLContext;
+import org.jooq.Field;
+import org.jooq.exception.DataAccessException;
+import org.xml.sax.Attributes;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+import org.xml.sax.helpers.DefaultHandler;
+
+/**
+ * A pull based reader producing one row at a time from an XML document in any of the layouts
+ * produced by {@link org.jooq.Formattable#formatXML()}.
+ *
+ * <p>Unlike {@link XMLHandler}, this reader doesn't materialise the document. As SAX is push
+ * based, and StAX is not available on all supported platforms, the document is parsed by a
+ * background thread that hands over rows through a small bounded queue. The parser is stopped when
+ * this reader is closed.
+ *
+ * @author Lukas Eder
+ */
+final class XMLRowReader implements Iterator<Object[]>, AutoCloseable {
+
+  /** The maximum number of rows that are read ahead. */
+  private static final int BUFFER = 256;
+
+  private static final Object[] END = {};
+
+  private final BlockingQueue<Object[]> queue;
+
+  private final Thread thread;
+
+  private volatile boolean closed;
+
+  private volatile Exception error;
+
+  private volatile Field<?>[] fields;
+
+  private Object[] next;
+
+  private boolean end;
+
+  XMLRowReader(DSLContext ctx, InputSource input) {
+    this.queue = new ArrayBlockingQueue<>(BUFFER);
+    this.thread =
+        new Thread(
+            () -> {
+              try {
+                XMLHandler.saxParser().parse(input, new Handler(ctx));
+              } catch (Exception e) {
+                if (!closed) error = e;
+              } finally {
+                put(END);
+              }
+            },
+            "jooq-loader-xml");
+    this.thread.setDaemon(true);
+    this.thread.start();
+  }
+
+  /** The header of the document, available once the first row has been read. */
+  final Field<?>[] fields() {
+    return fields;
+  }
+
+  @Override
+  public final boolean hasNext() {
+    if (next == null && !end) {
+      try {
+        next = queue.take();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new DataAccessException("Interrupted while reading the XML input", e);
+      }
+      if (next == END) {
+        next = null;
+        end = true;
+        if (error != null) throw new DataAccessException("Could not read the XML input", error);
+      }
+    }
+    return next != null;
+  }
+
+  @Override
+  public final Object[] next() {
+    if (!hasNext()) throw new NoSuchElementException();
+    Object[] result = next;
+    next = null;
+    return result;
+  }
+
+  @Override
+  public final void close() {
+    closed = true;
+    thread.interrupt();
+  }
+
+  private final boolean put(Object[] row) {
+    try {
+      if (!closed) queue.put(row);
+      return !closed;
+    } catch (InterruptedException e) {
+      return false;
+    }
+  }
+
+  /** A SAX handler that collects the current record and hands it over to the reader. */
+  private final class Handler extends DefaultHandler {
+
+    final DSLContext ctx;
+
+    final List<Field<?>> header;
+
+    final List<String> names;
+
+    final List<StringBuilder> values;
+
+    boolean inFields;
+
+    boolean inRecord;
+
+    boolean inColumn;
+
+    /** The nesting depth of elements within the current column. */
+    int columnDepth;
+
+    Handler(DSLContext ctx) {
+      this.ctx = ctx;
+      this.header = new ArrayList<>();
+      this.names = new ArrayList<>();
+      this.values = new ArrayList<>();
+    }
+
+    @Override
+    public final void startElement(
+        String uri, String localName, String qName, Attributes attributes) throws SAXException {
+      if (inColumn) {
+        columnDepth++;
+      } else if (inRecord) {
+        if (fields == null) {
+          String fieldName = attributes.getValue("field");
+          if (!"value".equalsIgnoreCase(qName) || fieldName == null) fieldName = qName;
+          names.add(fieldName);
+        }
+        inColumn = true;
+        values.add(null);
+      } else if ("fields".equalsIgnoreCase(qName)) {
+        inFields = true;
+      } else if (inFields && "field".equalsIgnoreCase(qName)) {
+        String catalog = attributes.getValue("catalog");
+        String schema = attributes.getValue("schema");
+        String table = attributes.getValue("table");
+        String name = attributes.getValue("name");
+        String type = attributes.getValue("type");
+        header.add(
+            field(
+                name(catalog, schema, table, name),
+                getDataType(ctx.dialect(), defaultIfBlank(type, "VARCHAR"))));
+      } else if ("record".equalsIgnoreCase(qName)) {
+        inRecord = true;
+      }
+    }
+
+    @Override
+    public final void endElement(String uri, String localName, String qName)
+        throws SAXException {
+      if (inColumn) {
+        if (columnDepth > 0) columnDepth--;
+        else inColumn = false;
+      } else if (inRecord && "record".equalsIgnoreCase(qName)) {
+        inRecord = false;
+        if (fields == null) fields = fieldsFromNames();
+        Object[] row = new Object[values.size()];
+        for (int i = 0; i < row.length; i++) {
+          StringBuilder value = values.get(i);
+          row[i] = value == null ? null : value.toString();
+        }
+        values.clear();
+        if (!put(JSONRowReader.convert(fields, row))) throw new SAXException("Reader was closed");
+      } else if (inFields && "fields".equalsIgnoreCase(qName)) {
+        inFields = false;
+        if (!header.isEmpty()) fields = header.toArray(EMPTY_FIELD);
+      }
+    }
+
+    @Override
+    public final void characters(char[] ch, int start, int length) throws SAXException {
+      if (inColumn) {
+        int i = values.size() - 1;
+        StringBuilder value = values.get(i);
+        if (value == null) values.set(i, value = new StringBuilder());
+        value.append(ch, start, length);
+      }
+    }
+
+    private final Field<?>[] fieldsFromNames() {
+      // Parsing RecordFormat.VALUE_ELEMENTS format
+      if (names.size() > 1 && !anyMatch(names, n -> !"value".equalsIgnoreCase(n)))
+        return Tools.fields(names.size());
+      Field<?>[] result = new Field[names.size()];
+      for (int i = 0; i < result.length; i++) result[i] = field(name(names.get(i)), VARCHAR);
+      return result;
+    }
+  }
+}
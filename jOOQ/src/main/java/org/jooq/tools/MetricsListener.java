@@ -0,0 +1,619 @@
+/* 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.tools;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import javax.management.ObjectName;
+import org.jooq.ExecuteContext;
+import org.jooq.ExecuteListener;
+import org.jooq.ExecuteListenerProvider;
+import org.jooq.exception.ConfigurationException;
+import org.jooq.impl.DefaultExecuteListener;
+
+/**
+ * An {@link ExecuteListener} that aggregates execution metrics per query shape.
+ *
+ * <p>A query shape is identified by its {@link #normalise(String) normalised} SQL string, in which
+ * inline literals are replaced by bind markers, and lists of bind markers are collapsed. For each
+ * shape, histograms of the render, prepare, bind, execute and fetch durations, of the entire
+ * execution, and of the number of rows fetched and affected are kept. Recording is lock-free.
+ * Shapes are looked up by the rendered SQL string first, so SQL strings that have been seen before
+ * are not normalised again, and recording their executions only allocates a small per-execution
+ * state (and the joined SQL string of a batch). SQL strings with inline literals usually differ
+ * between executions, and are normalised each time.
+ *
+ * <p>This is a stateful listener, which must be shared among all query executions whose metrics
+ * are to be aggregated, e.g.:
+ *
+ * <p>
+ *
+ * <pre>
+ * <code>
+ * MetricsListener metrics = new MetricsListener();
+ * configuration.set(new DefaultExecuteListenerProvider(metrics));
+ *
+ * // Later on:
+ * for (QueryMetrics m : metrics.slowest(10))
+ *     System.out.println(m);
+ * </code>
+ * </pre>
+ *
+ * <p>The metrics can also be published as a JMX MBean using {@link #registerMBean(String)}.
+ *
+ * @author Lukas Eder
+ * @see ExecuteListenerProvider
+ */
+public class MetricsListener extends DefaultExecuteListener implements MetricsListenerMBean {
+
+  /** The query shape that aggregates all executions beyond the maximum number of shapes. */
+  public static final String OTHER = "(other)";
+
+  // Values are counted in buckets with 8 sub-buckets per power of two, up to 2^45 - 1 (9.7 hours
+  // in nanoseconds). Larger values are counted in the last bucket.
+  private static final int SUB_BUCKET_BITS = 3;
+
+  private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+
+  private static final int MAX_EXPONENT = 44;
+
+  private static final long MAX_VALUE = (1L << (MAX_EXPONENT + 1)) - 1;
+
+  private static final int BUCKETS = (MAX_EXPONENT - SUB_BUCKET_BITS + 2) * SUB_BUCKETS;
+
+  private static final int TOTAL = 0;
+
+  private static final int RENDER = 1;
+
+  private static final int PREPARE = 2;
+
+  private static final int BIND = 3;
+
+  private static final int EXECUTE = 4;
+
+  private static final int FETCH = 5;
+
+  private static final int ROWS_FETCHED = 6;
+
+  private static final int ROWS_AFFECTED = 7;
+
+  // The number of distinct SQL strings per query shape whose shape lookup is cached
+  private static final int SQL_PER_SHAPE = 4;
+
+  private final int maxQueryShapes;
+
+  private final ConcurrentMap<String, Shape> shapes;
+
+  private final ConcurrentMap<String, Shape> shapesBySQL;
+
+  private volatile Shape other;
+
+  private Object mbean;
+
+  /** Create a listener that keeps metrics for up to 1000 query shapes. */
+  public MetricsListener() {
+    this(1000);
+  }
+
+  /**
+   * Create a listener that keeps metrics for up to <code>maxQueryShapes</code> query shapes.
+   *
+   * <p>Each query shape takes around 22kB of memory. Executions of further query shapes are
+   * aggregated in the {@link #OTHER} shape.
+   */
+  public MetricsListener(int maxQueryShapes) {
+    this.maxQueryShapes = maxQueryShapes;
+    this.shapes = new ConcurrentHashMap<>();
+    this.shapesBySQL = new ConcurrentHashMap<>();
+    this.other = new Shape(OTHER);
+  }
+
+  // -------------------------------------------------------------------------
+  // ExecuteListener API
+  // -------------------------------------------------------------------------
+  @Override
+  public void start(ExecuteContext ctx) {
+    ctx.data(this, new Execution());
+  }
+
+  @Override
+  public void renderStart(ExecuteContext ctx) {
+    phaseStart(ctx, RENDER);
+  }
+
+  @Override
+  public void renderEnd(ExecuteContext ctx) {
+    phaseEnd(ctx, RENDER);
+  }
+
+  @Override
+  public void prepareStart(ExecuteContext ctx) {
+    phaseStart(ctx, PREPARE);
+  }
+
+  @Override
+  public void prepareEnd(ExecuteContext ctx) {
+    phaseEnd(ctx, PREPARE);
+  }
+
+  @Override
+  public void bindStart(ExecuteContext ctx) {
+    phaseStart(ctx, BIND);
+  }
+
+  @Override
+  public void bindEnd(ExecuteContext ctx) {
+    phaseEnd(ctx, BIND);
+  }
+
+  @Override
+  public void executeStart(ExecuteContext ctx) {
+    phaseStart(ctx, EXECUTE);
+  }
+
+  @Override
+  public void executeEnd(ExecuteContext ctx) {
+    phaseEnd(ctx, EXECUTE);
+  }
+
+  @Override
+  public void fetchStart(ExecuteContext ctx) {
+    phaseStart(ctx, FETCH);
+  }
+
+  @Override
+  public void recordEnd(ExecuteContext ctx) {
+    Execution e = execution(ctx);
+    if (e != null) e.rowsFetched++;
+  }
+
+  @Override
+  public void fetchEnd(ExecuteContext ctx) {
+    phaseEnd(ctx, FETCH);
+  }
+
+  @Override
+  public void exception(ExecuteContext ctx) {
+    Execution e = execution(ctx);
+    if (e != null) e.failed = true;
+  }
+
+  @Override
+  public void end(ExecuteContext ctx) {
+    Execution e = (Execution) ctx.data().remove(this);
+    if (e != null) shapeBySQL(sql(ctx)).record(e, ctx.rows());
+  }
+
+  private final Execution execution(ExecuteContext ctx) {
+    return (Execution) ctx.data(this);
+  }
+
+  private final void phaseStart(ExecuteContext ctx, int phase) {
+    Execution e = execution(ctx);
+    if (e != null) e.started[phase] = System.nanoTime();
+  }
+
+  private final void phaseEnd(ExecuteContext ctx, int phase) {
+    Execution e = execution(ctx);
+    if (e != null) {
+      long elapsed = System.nanoTime() - e.started[phase];
+      e.elapsed[phase] = e.elapsed[phase] < 0 ? elapsed : e.elapsed[phase] + elapsed;
+    }
+  }
+
+  private static final String sql(ExecuteContext ctx) {
+    if (ctx.sql() != null) return ctx.sql();
+    String[] batchSQL = ctx.batchSQL();
+    if (batchSQL.length > 0 && batchSQL[0] != null) return String.join("; ", batchSQL);
+    if (ctx.query() != null) return ctx.query().toString();
+    return "";
+  }
+
+  private final Shape shapeBySQL(String sql) {
+    Shape result = shapesBySQL.get(sql);
+    if (result == null) {
+      result = shape(normalise(sql));
+      if (shapesBySQL.size() < (long) maxQueryShapes * SQL_PER_SHAPE) shapesBySQL.put(sql, result);
+    }
+    return result;
+  }
+
+  private final Shape shape(String sql) {
+    Shape result = shapes.get(sql);
+    if (result == null) {
+      if (shapes.size() >= maxQueryShapes) return other;
+      Shape s = new Shape(sql);
+      result = shapes.putIfAbsent(sql, s);
+      if (result == null) result = s;
+    }
+    return result;
+  }
+
+  // -------------------------------------------------------------------------
+  // Pull API
+  // -------------------------------------------------------------------------
+  /** A snapshot of the metrics of all query shapes. */
+  public final List<QueryMetrics> metrics() {
+    List<QueryMetrics> result = new ArrayList<>(shapes.size() + 1);
+    for (Shape s : shapes.values()) result.add(s.snapshot());
+    QueryMetrics o = other.snapshot();
+    if (o.executions() > 0) result.add(o);
+    return result;
+  }
+
+  /**
+   * A snapshot of the metrics of the query shape of a SQL string, or <code>null</code> if no such
+   * query has been executed.
+   */
+  public final QueryMetrics metrics(String sql) {
+    Shape s = shapes.get(normalise(sql));
+    return s == null ? null : s.snapshot();
+  }
+
+  /**
+   * A snapshot of the metrics of the query shapes with the highest 99th percentile {@link
+   * QueryMetrics#total() total} execution time, in descending order.
+   */
+  public final List<QueryMetrics> slowest(int limit) {
+    List<QueryMetrics> result = metrics();
+    Collections.sort(
+        result,
+        (m1, m2) -> Long.compare(m2.total().percentile(0.99), m1.total().percentile(0.99)));
+    return result.size() > limit ? new ArrayList<>(result.subList(0, limit)) : result;
+  }
+
+  @Override
+  public final void reset() {
+    shapesBySQL.clear();
+    shapes.clear();
+    other = new Shape(OTHER);
+  }
+
+  // -------------------------------------------------------------------------
+  // MBean API
+  // -------------------------------------------------------------------------
+  @Override
+  public final int getQueryShapes() {
+    return shapes.size();
+  }
+
+  @Override
+  public final long getExecutions() {
+    long result = other.count(TOTAL);
+    for (Shape s : shapes.values()) result += s.count(TOTAL);
+    return result;
+  }
+
+  @Override
+  public final long getErrors() {
+    long result = other.errors.get();
+    for (Shape s : shapes.values()) result += s.errors.get();
+    return result;
+  }
+
+  @Override
+  public final String[] getSlowestQueries() {
+    return slowestQueries(10);
+  }
+
+  @Override
+  public final String[] slowestQueries(int limit) {
+    List<QueryMetrics> slowest = slowest(limit);
+    String[] result = new String[slowest.size()];
+    for (int i = 0; i < result.length; i++) result[i] = slowest.get(i).toString();
+    return result;
+  }
+
+  /**
+   * Register this listener with the platform MBean server, e.g. using the name <code>
+   * "org.jooq:type=MetricsListener"</code>.
+   *
+   * <p>JMX is not available on all platforms, e.g. on Android, where this method throws a {@link
+   * ConfigurationException}.
+   */
+  public final synchronized void registerMBean(String objectName) {
+    if (mbean != null) throw new ConfigurationException("MBean already registered: " + mbean);
+    try {
+      mbean = JMX.register(this, objectName);
+    } catch (Exception | LinkageError e) {
+      throw new ConfigurationException("Cannot register MBean " + objectName, e);
+    }
+  }
+
+  /** Unregister this listener from the platform MBean server, if it was registered. */
+  public final synchronized void unregisterMBean() {
+    if (mbean != null) {
+      try {
+        JMX.unregister(mbean);
+      } catch (Exception e) {
+        throw new ConfigurationException("Cannot unregister MBean " + mbean, e);
+      } finally {
+        mbean = null;
+      }
+    }
+  }
+
+  /** The JMX API, which is only loaded when it is used. */
+  private static final class JMX {
+
+    static Object register(Object object, String name) throws Exception {
+      ObjectName result = new ObjectName(name);
+      ManagementFactory.getPlatformMBeanServer().registerMBean(object, result);
+      return result;
+    }
+
+    static void unregister(Object name) throws Exception {
+      ManagementFactory.getPlatformMBeanServer().unregisterMBean((ObjectName) name);
+    }
+  }
+
+  // -------------------------------------------------------------------------
+  // Normalisation
+  // -------------------------------------------------------------------------
+  /**
+   * Normalise a SQL string to its query shape.
+   *
+   * <p>Comments are removed, whitespace is collapsed, string and numeric literals are replaced by
+   * <code>?</code>, and parenthesised lists whose elements are all the same are collapsed to a
+   * single element, such that queries that only differ in their inline values or in the length of
+   * their <code>IN</code> lists share the same shape. Quoted identifiers are retained.
+   */
+  public static String normalise(String sql) {
+    StringBuilder sb = new StringBuilder(sql.length());
+    // The positions of the open parentheses and commas of each nesting level
+    List<List<Integer>> lists = new ArrayList<>();
+    int length = sql.length();
+    for (int i = 0; i < length; i++) {
+      char c = sql.charAt(i);
+      if (Character.isWhitespace(c)
+          || c == '-' && i + 1 < length && sql.charAt(i + 1) == '-'
+          || c == '/' && i + 1 < length && sql.charAt(i + 1) == '*') {
+        i = skipIgnored(sql, i) - 1;
+        if (sb.length() > 0 && sb.charAt(sb.length() - 1) != ' ') sb.append(' ');
+      } else if (c == '\'') {
+        i = skipQuoted(sql, i, '\'') - 1;
+        sb.append('?');
+      } else if (c == '"' || c == '`') {
+        int end = skipQuoted(sql, i, c);
+        sb.append(sql, i, end);
+        i = end - 1;
+      } else if (c == '[') {
+        int end = skipQuoted(sql, i, ']');
+        sb.append(sql, i, end);
+        i = end - 1;
+      } else if (Character.isDigit(c) && !isIdentifierPart(sb)) {
+        i = skipNumber(sql, i) - 1;
+        sb.append('?');
+      } else if (c == '(') {
+        List<Integer> list = new ArrayList<>();
+        list.add(sb.length());
+        lists.add(list);
+        sb.append(c);
+      } else if (c == ',' && !lists.isEmpty()) {
+        lists.get(lists.size() - 1).add(sb.length());
+        sb.append(c);
+      } else if (c == ')' && !lists.isEmpty()) {
+        collapse(sb, lists.remove(lists.size() - 1));
+        sb.append(c);
+      } else sb.append(c);
+    }
+    int end = sb.length();
+    while (end > 0 && sb.charAt(end - 1) == ' ') end--;
+    sb.setLength(end);
+    return sb.toString();
+  }
+
+  /** Collapse the elements of a list if they are all the same. */
+  private static void collapse(StringBuilder sb, List<Integer> list) {
+    if (list.size() < 2) return;
+    String first = sb.substring(list.get(0) + 1, list.get(1)).trim();
+    for (int i = 1; i < list.size(); i++) {
+      int end = i + 1 < list.size() ? list.get(i + 1) : sb.length();
+      if (!first.equals(sb.substring(list.get(i) + 1, end).trim())) return;
+    }
+    sb.setLength(list.get(0) + 1);
+    sb.append(first);
+  }
+
+  private static int skipIgnored(String sql, int i) {
+    int length = sql.length();
+    while (i < length) {
+      char c = sql.charAt(i);
+      if (Character.isWhitespace(c)) i++;
+      else if (c == '-' && i + 1 < length && sql.charAt(i + 1) == '-') {
+        while (i < length && sql.charAt(i) != '\n') i++;
+      } else if (c == '/' && i + 1 < length && sql.charAt(i + 1) == '*') {
+        int end = sql.indexOf("*/", i + 2);
+        i = end < 0 ? length : end + 2;
+      } else break;
+    }
+    return i;
+  }
+
+  private static int skipQuoted(String sql, int i, char close) {
+    int length = sql.length();
+    for (i++; i < length; i++) {
+      if (sql.charAt(i) == close) {
+        // Doubled quotes are escaped quotes
+        if (i + 1 < length && sql.charAt(i + 1) == close && close != ']') i++;
+        else return i + 1;
+      }
+    }
+    return length;
+  }
+
+  private static int skipNumber(String sql, int i) {
+    int length = sql.length();
+    for (; i < length; i++) {
+      char c = sql.charAt(i);
+      if (Character.isDigit(c) || c == '.') continue;
+      if ((c == 'e' || c == 'E')
+          && i + 1 < length
+          && (Character.isDigit(sql.charAt(i + 1))
+              || (sql.charAt(i + 1) == '+' || sql.charAt(i + 1) == '-')
+                  && i + 2 < length
+                  && Character.isDigit(sql.charAt(i + 2)))) {
+        i++;
+        continue;
+      }
+      break;
+    }
+    return i;
+  }
+
+  private static boolean isIdentifierPart(StringBuilder sb) {
+    if (sb.length() == 0) return false;
+    char c = sb.charAt(sb.length() - 1);
+    return Character.isLetterOrDigit(c) || c == '_' || c == '$' || c == '?' || c == ':';
+  }
+
+  // -------------------------------------------------------------------------
+  // Histograms
+  // -------------------------------------------------------------------------
+  /** The bucket of a non-negative value. */
+  static int bucket(long value) {
+    long v = Math.min(Math.max(0, value), MAX_VALUE);
+    if (v < SUB_BUCKETS) return (int) v;
+    int exponent = 63 - Long.numberOfLeadingZeros(v);
+    int shift = exponent - SUB_BUCKET_BITS;
+    return (shift + 1) * SUB_BUCKETS + (int) ((v >>> shift) & (SUB_BUCKETS - 1));
+  }
+
+  /** The highest value that is counted in a bucket. */
+  static long upperBound(int bucket) {
+    if (bucket < SUB_BUCKETS) return bucket;
+    int shift = bucket / SUB_BUCKETS - 1;
+    long lower = ((long) (SUB_BUCKETS + bucket % SUB_BUCKETS)) << shift;
+    return lower + (1L << shift) - 1;
+  }
+
+  /** The state of a single execution, which is only accessed by the executing thread. */
+  private static final class Execution {
+
+    final long start = System.nanoTime();
+
+    final long[] started = new long[FETCH + 1];
+
+    final long[] elapsed = {-1L, -1L, -1L, -1L, -1L, -1L};
+
+    long rowsFetched;
+
+    boolean failed;
+  }
+
+  /** The metrics of a single query shape. */
+  private static final class Shape {
+
+    final String sql;
+
+    final AtomicLong errors;
+
+    final AtomicLongArray[] buckets;
+
+    final AtomicLong[] sums;
+
+    final AtomicLong[] maxima;
+
+    Shape(String sql) {
+      this.sql = sql;
+      this.errors = new AtomicLong();
+      this.buckets = new AtomicLongArray[ROWS_AFFECTED + 1];
+      this.sums = new AtomicLong[ROWS_AFFECTED + 1];
+      this.maxima = new AtomicLong[ROWS_AFFECTED + 1];
+      for (int i = 0; i < buckets.length; i++) {
+        buckets[i] = new AtomicLongArray(BUCKETS);
+        sums[i] = new AtomicLong();
+        maxima[i] = new AtomicLong();
+      }
+    }
+
+    final void record(Execution e, int rowsAffected) {
+      record(TOTAL, System.nanoTime() - e.start);
+      for (int i = RENDER; i <= FETCH; i++) if (e.elapsed[i] >= 0) record(i, e.elapsed[i]);
+      if (e.elapsed[FETCH] >= 0) record(ROWS_FETCHED, e.rowsFetched);
+      if (rowsAffected >= 0) record(ROWS_AFFECTED, rowsAffected);
+      if (e.failed) errors.incrementAndGet();
+    }
+
+    final void record(int histogram, long value) {
+      buckets[histogram].incrementAndGet(bucket(value));
+      sums[histogram].addAndGet(value);
+      AtomicLong max = maxima[histogram];
+      for (long m = max.get(); value > m && !max.compareAndSet(m, value); m = max.get())
+        ;
+    }
+
+    final long count(int histogram) {
+      AtomicLongArray b = buckets[histogram];
+      long result = 0;
+      for (int i = 0; i < BUCKETS; i++) result += b.get(i);
+      return result;
+    }
+
+    final QueryMetrics.Distribution distribution(int histogram) {
+      AtomicLongArray b = buckets[histogram];
+      long[] copy = new long[BUCKETS];
+      long count = 0;
+      for (int i = 0; i < BUCKETS; i++) count += copy[i] = b.get(i);
+      return new QueryMetrics.Distribution(
+          count, sums[histogram].get(), maxima[histogram].get(), copy);
+    }
+
+    final QueryMetrics snapshot() {
+      QueryMetrics.Distribution total = distribution(TOTAL);
+      return new QueryMetrics(
+          sql,
+          total.count(),
+          errors.get(),
+          total,
+          distribution(RENDER),
+          distribution(PREPARE),
+          distribution(BIND),
+          distribution(EXECUTE),
+          distribution(FETCH),
+          distribution(ROWS_FETCHED),
+          distribution(ROWS_AFFECTED));
+    }
+  }
+}
@@ -0,0 +1,66 @@
+/* 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.tools;
+
+/**
+ * The JMX management interface of a {@link MetricsListener}.
+ *
+ * <p>This interface only uses types that generic JMX consoles can display.
+ *
+ * @author Lukas Eder
+ */
+public interface MetricsListenerMBean {
+
+  /** The number of distinct query shapes that have been recorded. */
+  int getQueryShapes();
+
+  /** The number of executions that have been recorded. */
+  long getExecutions();
+
+  /** The number of executions that ended with an exception. */
+  long getErrors();
+
+  /** A description of the 10 query shapes with the highest 99th percentile execution time. */
+  String[] getSlowestQueries();
+
+  /** A description of the query shapes with the highest 99th percentile execution time. */
+  String[] slowestQueries(int limit);
+
+  /** Discard all recorded metrics. */
+  void reset();
+}
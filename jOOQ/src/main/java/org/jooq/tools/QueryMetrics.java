@@ -0,0 +1,234 @@
+/* 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.tools;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A snapshot of the metrics of a single query shape, collected by a {@link MetricsListener}.
+ *
+ * <p>Durations are measured in nanoseconds. A snapshot is taken without blocking concurrent
+ * executions, so its figures may be slightly inconsistent with each other, e.g. a distribution may
+ * not yet contain an execution that is already included in {@link #executions()}.
+ *
+ * @author Lukas Eder
+ */
+public final class QueryMetrics {
+
+  private final String sql;
+
+  private final long executions;
+
+  private final long errors;
+
+  private final Distribution total;
+
+  private final Distribution render;
+
+  private final Distribution prepare;
+
+  private final Distribution bind;
+
+  private final Distribution execute;
+
+  private final Distribution fetch;
+
+  private final Distribution rowsFetched;
+
+  private final Distribution rowsAffected;
+
+  QueryMetrics(
+      String sql,
+      long executions,
+      long errors,
+      Distribution total,
+      Distribution render,
+      Distribution prepare,
+      Distribution bind,
+      Distribution execute,
+      Distribution fetch,
+      Distribution rowsFetched,
+      Distribution rowsAffected) {
+    this.sql = sql;
+    this.executions = executions;
+    this.errors = errors;
+    this.total = total;
+    this.render = render;
+    this.prepare = prepare;
+    this.bind = bind;
+    this.execute = execute;
+    this.fetch = fetch;
+    this.rowsFetched = rowsFetched;
+    this.rowsAffected = rowsAffected;
+  }
+
+  /** The normalised SQL string that identifies this query shape. */
+  public final String sql() {
+    return sql;
+  }
+
+  /** The number of executions of this query shape. */
+  public final long executions() {
+    return executions;
+  }
+
+  /** The number of executions of this query shape that ended with an exception. */
+  public final long errors() {
+    return errors;
+  }
+
+  /** The durations of entire executions, from {@link org.jooq.ExecuteListener#start} to end. */
+  public final Distribution total() {
+    return total;
+  }
+
+  /** The durations of rendering the SQL string. */
+  public final Distribution render() {
+    return render;
+  }
+
+  /** The durations of preparing the JDBC statement. */
+  public final Distribution prepare() {
+    return prepare;
+  }
+
+  /** The durations of binding the bind values. */
+  public final Distribution bind() {
+    return bind;
+  }
+
+  /** The durations of executing the JDBC statement. */
+  public final Distribution execute() {
+    return execute;
+  }
+
+  /** The durations of fetching results, including the time spent by lazy client code. */
+  public final Distribution fetch() {
+    return fetch;
+  }
+
+  /** The number of rows fetched per execution. */
+  public final Distribution rowsFetched() {
+    return rowsFetched;
+  }
+
+  /** The number of rows affected per execution, where reported by the JDBC driver. */
+  public final Distribution rowsAffected() {
+    return rowsAffected;
+  }
+
+  @Override
+  public String toString() {
+    return String.format(
+        "executions: %d, errors: %d, total p50/p99/max: %s/%s/%s ms, execute p99: %s ms, "
+            + "fetch p99: %s ms, rows fetched p99: %d - %s",
+        executions,
+        errors,
+        millis(total.percentile(0.5)),
+        millis(total.percentile(0.99)),
+        millis(total.max()),
+        millis(execute.percentile(0.99)),
+        millis(fetch.percentile(0.99)),
+        rowsFetched.percentile(0.99),
+        sql);
+  }
+
+  private static String millis(long nanos) {
+    return String.format("%.3f", nanos / (double) TimeUnit.MILLISECONDS.toNanos(1));
+  }
+
+  /**
+   * A snapshot of a histogram of values.
+   *
+   * <p>Values are counted in buckets with a relative precision of 1/8 (12.5%), such that {@link
+   * #percentile(double)} returns the upper bound of the bucket containing the percentile, but
+   * never more than {@link #max()}. {@link #count()}, {@link #sum()} and {@link #max()} are exact.
+   */
+  public static final class Distribution {
+
+    private final long count;
+
+    private final long sum;
+
+    private final long max;
+
+    private final long[] buckets;
+
+    Distribution(long count, long sum, long max, long[] buckets) {
+      this.count = count;
+      this.sum = sum;
+      this.max = max;
+      this.buckets = buckets;
+    }
+
+    /** The number of recorded values. */
+    public final long count() {
+      return count;
+    }
+
+    /** The sum of all recorded values. */
+    public final long sum() {
+      return sum;
+    }
+
+    /** The maximum recorded value, or <code>0</code> if no value has been recorded. */
+    public final long max() {
+      return max;
+    }
+
+    /** The mean of all recorded values, or <code>0</code> if no value has been recorded. */
+    public final double mean() {
+      return count == 0 ? 0.0 : sum / (double) count;
+    }
+
+    /**
+     * The approximate value below which the argument fraction of the recorded values fall, e.g.
+     * <code>percentile(0.99)</code> for the 99th percentile.
+     */
+    public final long percentile(double fraction) {
+      long total = 0;
+      for (long b : buckets) total += b;
+      if (total == 0) return 0;
+      long rank = Math.max(1, (long) Math.ceil(Math.min(1.0, Math.max(0.0, fraction)) * total));
+      long seen = 0;
+      for (int i = 0; i < buckets.length; i++)
+        if ((seen += buckets[i]) >= rank) return Math.min(max, MetricsListener.upperBound(i));
+      return max;
+    }
+  }
+}
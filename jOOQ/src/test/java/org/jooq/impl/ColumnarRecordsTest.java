@@ -0,0 +1,137 @@
+/* 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.impl;
+
+import static org.jooq.impl.DSL.field;
+import static org.jooq.impl.DSL.name;
+import static org.jooq.impl.DSL.table;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.Arrays;
+import org.jooq.DSLContext;
+import org.jooq.Field;
+import org.jooq.Record2;
+import org.jooq.Result;
+import org.jooq.SQLDialect;
+import org.jooq.tools.jdbc.MockConnection;
+import org.jooq.tools.jdbc.MockResult;
+import org.junit.Test;
+
+/**
+ * Tests for {@link org.jooq.ResultQuery#fetchColumnar()}.
+ *
+ * @author Lukas Eder
+ */
+public class ColumnarRecordsTest {
+
+  private static final Field<Integer> ID = field(name("ID"), Integer.class);
+
+  private static final Field<String> NAME = field(name("NAME"), String.class);
+
+  private static final DSLContext ctx =
+      DSL.using(
+          new MockConnection(
+              c -> {
+                DSLContext d = DSL.using(SQLDialect.H2);
+                Result<Record2<Integer, String>> result = d.newResult(ID, NAME);
+                for (int i = 0; i < 100; i++) {
+                  Record2<Integer, String> r = d.newRecord(ID, NAME);
+                  r.set(ID, i % 7 == 0 ? null : i);
+                  r.set(NAME, "n" + i);
+                  result.add(r);
+                }
+                return new MockResult[] {new MockResult(result.size(), result)};
+              }),
+          SQLDialect.H2);
+
+  @Test
+  public void testSameValuesAsFetch() {
+    Result<Record2<Integer, String>> expected = ctx.select(ID, NAME).from(table(name("T"))).fetch();
+    Result<Record2<Integer, String>> actual = ctx.select(ID, NAME).from(table(name("T"))).fetchColumnar();
+    assertEquals(100, actual.size());
+    assertArrayEquals(values(expected), values(actual));
+  }
+
+  @Test
+  public void testReadOnly() {
+    Result<Record2<Integer, String>> result = ctx.select(ID, NAME).from(table(name("T"))).fetchColumnar();
+    Record2<Integer, String> record = ctx.newRecord(ID, NAME).values(1000, "x");
+    try {
+      result.add(record);
+      fail();
+    } catch (UnsupportedOperationException expected) {
+    }
+    try {
+      result.addAll(Arrays.asList(record));
+      fail();
+    } catch (UnsupportedOperationException expected) {
+    }
+    try {
+      result.remove(0);
+      fail();
+    } catch (UnsupportedOperationException expected) {
+    }
+    assertEquals(100, result.size());
+  }
+
+  @Test
+  public void testSerializable() throws Exception {
+    Result<Record2<Integer, String>> result = ctx.select(ID, NAME).from(table(name("T"))).fetchColumnar();
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+      out.writeObject(result);
+    }
+    try (ObjectInputStream in =
+        new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+      Result<?> copy = (Result<?>) in.readObject();
+      assertArrayEquals(values(result), values(copy));
+    }
+  }
+
+  private static Object[][] values(Result<?> result) {
+    Object[][] values = new Object[result.size()][];
+    for (int i = 0; i < values.length; i++) values[i] = result.get(i).intoArray();
+    return values;
+  }
+}
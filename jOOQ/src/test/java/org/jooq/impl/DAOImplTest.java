@@ -0,0 +1,213 @@
+/* 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.impl;
+
+import static org.jooq.impl.DSL.name;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.jooq.Configuration;
+import org.jooq.DSLContext;
+import org.jooq.Identity;
+import org.jooq.SQLDialect;
+import org.jooq.TableField;
+import org.jooq.UniqueKey;
+import org.jooq.conf.Settings;
+import org.jooq.exception.DataAccessException;
+import org.jooq.tools.jdbc.MockConnection;
+import org.jooq.tools.jdbc.MockResult;
+import org.junit.Test;
+
+/**
+ * Tests for {@link DAOImpl#insert(java.util.Collection)} with multi row <code>INSERT .. RETURNING
+ * </code> statements.
+ *
+ * @author Lukas Eder
+ */
+public class DAOImplTest {
+
+  /** The SQL strings executed against the {@link MockConnection}. */
+  private final List<String> executed = new ArrayList<>();
+
+  /** The next generated identity value. */
+  private int identity = 1;
+
+  /** Whether the {@link MockConnection} should return one row less than inserted. */
+  private boolean missingRow;
+
+  @Test
+  public void testChunksBySetting() {
+    List<P> objects = Arrays.asList(new P(null, "a"), new P(null, "b"), new P(null, "c"));
+
+    // Two fields, and 4 bind values per statement
+    dao(new Settings().withInlineThreshold(4)).insert(objects);
+
+    assertEquals(2, executed.size());
+    assertEquals(1, (int) objects.get(0).id);
+    assertEquals(2, (int) objects.get(1).id);
+    assertEquals(3, (int) objects.get(2).id);
+  }
+
+  @Test
+  public void testChunksByChangedFields() {
+    List<P> objects =
+        Arrays.asList(
+            new P(null, "a"), new P(null, "b"), new P(100, "c"), new P(null, null), new P(null, "e"));
+
+    dao(new Settings()).insert(objects);
+
+    // [a, b], [c], [d, e], as null values are changed values of nullable fields
+    assertEquals(3, executed.size());
+    assertEquals(1, (int) objects.get(0).id);
+    assertEquals(2, (int) objects.get(1).id);
+    assertEquals(3, (int) objects.get(2).id);
+    assertEquals("c", objects.get(2).name);
+    assertEquals(4, (int) objects.get(3).id);
+    assertNull(objects.get(3).name);
+    assertEquals(5, (int) objects.get(4).id);
+    assertEquals("e", objects.get(4).name);
+  }
+
+  @Test
+  public void testMissingReturnedRow() {
+    List<P> objects = Arrays.asList(new P(null, "a"), new P(null, "b"));
+    missingRow = true;
+
+    try {
+      dao(new Settings()).insert(objects);
+      fail();
+    } catch (DataAccessException expected) {
+    }
+
+    assertNull(objects.get(0).id);
+    assertNull(objects.get(1).id);
+  }
+
+  private PDao dao(Settings settings) {
+    return new PDao(
+        DSL.using(
+                new MockConnection(
+                    c -> {
+                      executed.add(c.sql());
+
+                      // Multi row inserts render one parenthesised row per record
+                      int rows = c.sql().split("\\), \\(").length - (missingRow ? 1 : 0);
+                      DSLContext ctx = DSL.using(SQLDialect.POSTGRES);
+                      org.jooq.Result<TRecord> result = ctx.newResult(T.T);
+                      for (int i = 0; i < rows; i++)
+                        result.add(ctx.newRecord(T.T).values(identity++, null));
+
+                      return new MockResult[] {new MockResult(rows, result)};
+                    }),
+                SQLDialect.POSTGRES,
+                settings)
+            .configuration());
+  }
+
+  public static class T extends TableImpl<TRecord> {
+
+    public static final T T = new T();
+
+    public final TableField<TRecord, Integer> ID =
+        createField(name("ID"), SQLDataType.INTEGER.nullable(false).identity(true));
+
+    public final TableField<TRecord, String> NAME = createField(name("NAME"), SQLDataType.VARCHAR);
+
+    private T() {
+      super(name("T"));
+    }
+
+    @Override
+    public Class<TRecord> getRecordType() {
+      return TRecord.class;
+    }
+
+    @Override
+    public Identity<TRecord, Integer> getIdentity() {
+      return Internal.createIdentity(this, ID);
+    }
+
+    @Override
+    public UniqueKey<TRecord> getPrimaryKey() {
+      return Internal.createUniqueKey(this, ID);
+    }
+  }
+
+  public static class TRecord extends UpdatableRecordImpl<TRecord> {
+
+    public TRecord() {
+      super(T.T);
+    }
+
+    public TRecord values(Integer id, String name) {
+      set(T.T.ID, id);
+      set(T.T.NAME, name);
+      return this;
+    }
+  }
+
+  public static class P {
+
+    public Integer id;
+
+    public String name;
+
+    public P() {}
+
+    P(Integer id, String name) {
+      this.id = id;
+      this.name = name;
+    }
+  }
+
+  static class PDao extends DAOImpl<TRecord, P, Integer> {
+
+    PDao(Configuration configuration) {
+      super(T.T, P.class, configuration);
+    }
+
+    @Override
+    public Integer getId(P object) {
+      return object.id;
+    }
+  }
+}
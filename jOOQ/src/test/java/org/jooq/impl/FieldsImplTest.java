@@ -0,0 +1,86 @@
+/* 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.impl;
+
+import static org.jooq.impl.DSL.field;
+import static org.jooq.impl.DSL.name;
+import static org.jooq.impl.DSL.row;
+import static org.junit.Assert.assertEquals;
+
+import org.jooq.Context;
+import org.jooq.Field;
+import org.jooq.QueryPart;
+import org.junit.Test;
+
+/**
+ * Tests for field lookups in {@link FieldsImpl}, which are indexed for wide rows.
+ *
+ * @author Lukas Eder
+ */
+public class FieldsImplTest {
+
+  /** A field that is equal to any field rendering the same SQL, irrespective of its name. */
+  private static final Field<Integer> COUNT =
+      new CustomField<Integer>(name("C"), SQLDataType.INTEGER) {
+        @Override
+        public void accept(Context<?> ctx) {
+          ctx.sql("count(*)");
+        }
+
+        @Override
+        public boolean equals(Object that) {
+          return that instanceof QueryPart && toString().equals(that.toString());
+        }
+      };
+
+  @Test
+  public void testNarrowAndWideRows() {
+    for (int size : new int[] {2, 9}) {
+      Field<?>[] fields = new Field<?>[size];
+      for (int i = 0; i < size - 1; i++) fields[i] = field(name("F" + i));
+      fields[size - 1] = COUNT;
+      FieldsImpl<?> row = new FieldsImpl<>(fields);
+
+      assertEquals(size - 1, row.indexOf(COUNT));
+      assertEquals(size - 1, row.indexOf(field("count(*)")));
+      assertEquals(size - 1, row.indexOf(name("C")));
+      assertEquals(0, row.indexOf(field(name("F0"))));
+      assertEquals(-1, row.indexOf(field(name("X"))));
+    }
+  }
+}
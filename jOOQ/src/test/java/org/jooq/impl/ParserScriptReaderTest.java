@@ -0,0 +1,116 @@
+/* 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.impl;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+import org.jooq.Parser;
+import org.jooq.Query;
+import org.jooq.SQLDialect;
+import org.junit.Test;
+
+/**
+ * Tests for the statement splitting of {@link Parser#parseStream(java.io.Reader)}, which must
+ * produce the same queries as {@link Parser#parse(String)}.
+ *
+ * @author Lukas Eder
+ */
+public class ParserScriptReaderTest {
+
+  @Test
+  public void testPostgresEscapedStringLiteral() {
+    assertSameQueries(
+        "select E'it\\'s; x' from t; select e'a\\\\'; select N'b\\'; c' from u; select 1");
+  }
+
+  @Test
+  public void testDoubledQuotesInEscapedStringLiteral() {
+    assertSameQueries("select E'a''b\\'; c' from t; select 2");
+  }
+
+  @Test
+  public void testOracleQuotedStringLiteral() {
+    assertSameQueries(
+        "select q'[it's; ok]' from t; select Q'{a;'b}' from u; select q'(x)' from v; "
+            + "select q'<y;>' from w; select q'!it's; !' from x; select 1");
+  }
+
+  @Test
+  public void testIdentifiersStartingWithLiteralPrefixes() {
+    assertSameQueries("select e, n, q from t; select 'a;b' as q from u");
+  }
+
+  @Test
+  public void testDelimiter() {
+    assertSameQueries(
+        "create table t (a int);\n"
+            + "DELIMITER @@\n"
+            + "insert into t values (';')@@\n"
+            + "begin\n"
+            + "  insert into t values (1);\n"
+            + "  insert into t values (2);\n"
+            + "end@@\n"
+            + "DELIMITER ;\n"
+            + "select a from t;");
+  }
+
+  @Test
+  public void testBeginEnd() {
+    assertSameQueries(
+        "create table t (a int);\n"
+            + "begin\n"
+            + "  insert into t values (1);\n"
+            + "  begin\n"
+            + "    insert into t values (case when 1 = 1 then 2 end);\n"
+            + "  end;\n"
+            + "end;\n"
+            + "select a from t;");
+  }
+
+  private static void assertSameQueries(String sql) {
+    Parser parser = DSL.using(SQLDialect.DEFAULT).parser();
+    List<String> expected = new ArrayList<>();
+    for (Query query : parser.parse(sql)) expected.add(query.toString());
+    List<String> actual = new ArrayList<>();
+    parser.parseStream(new StringReader(sql)).forEach(query -> actual.add(query.toString()));
+    assertEquals(expected, actual);
+  }
+}
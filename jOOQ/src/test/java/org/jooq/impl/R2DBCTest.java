@@ -0,0 +1,316 @@
+/* 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.impl;
+
+import static org.jooq.impl.DSL.field;
+import static org.jooq.impl.DSL.table;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import io.r2dbc.spi.Batch;
+import io.r2dbc.spi.Connection;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.Result;
+import io.r2dbc.spi.Row;
+import io.r2dbc.spi.RowMetadata;
+import io.r2dbc.spi.Statement;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiFunction;
+import org.jooq.DSLContext;
+import org.jooq.Record1;
+import org.jooq.SQLDialect;
+import org.jooq.conf.Settings;
+import org.junit.Test;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+/**
+ * Tests for the propagation of downstream demand through the R2DBC publishers, using an in-memory
+ * R2DBC driver stub.
+ *
+ * @author Lukas Eder
+ */
+public class R2DBCTest {
+
+  @Test
+  public void testBatchMultipleWithBoundedDemand() {
+    DSLContext ctx = ctx(new Settings(), 0);
+    TestSubscriber<Integer> s = new TestSubscriber<>(1);
+    ctx.batch(
+            ctx.query("insert into t values (1)"),
+            ctx.query("insert into t values (2)"),
+            ctx.query("insert into t values (3)"))
+        .subscribe(s);
+    s.assertComplete(Arrays.asList(1, 1, 1));
+  }
+
+  @Test
+  public void testBatchSingleWithBoundedDemand() {
+    DSLContext ctx = ctx(new Settings(), 0);
+    TestSubscriber<Integer> s = new TestSubscriber<>(1);
+    ctx.batch(ctx.query("insert into t values (?)", (Object) null))
+        .bind(1)
+        .bind(2)
+        .bind(3)
+        .bind(4)
+        .subscribe(s);
+    s.assertComplete(Arrays.asList(1, 1, 1, 1));
+  }
+
+  @Test
+  public void testBatchMultipleWithPrefetchingDemand() {
+    // Similar to Reactor's concatMap() or limitRate(), which request several elements at once
+    DSLContext ctx = ctx(new Settings(), 0);
+    TestSubscriber<Integer> s = new TestSubscriber<>(2);
+    ctx.batch(
+            ctx.query("insert into t values (1)"),
+            ctx.query("insert into t values (2)"),
+            ctx.query("insert into t values (3)"),
+            ctx.query("insert into t values (4)"),
+            ctx.query("insert into t values (5)"))
+        .subscribe(s);
+    s.assertComplete(Arrays.asList(1, 1, 1, 1, 1));
+  }
+
+  @Test
+  public void testQueryDoesNotRequestRowsAheadOfDemand() {
+    DSLContext ctx = ctx(new Settings().withR2dbcPrefetch(16).withR2dbcLowTide(4), 100);
+    TestSubscriber<Record1<Integer>> s = new TestSubscriber<>(0);
+    ctx.select(field("x", Integer.class)).from(table("t")).subscribe(s);
+    for (int i = 0; i < 100 && !s.complete; i += 7) {
+      s.request(7);
+      assertTrue(
+          "Requested " + rowsRequested.get() + " rows for a demand of " + (i + 7),
+          rowsRequested.get() <= i + 7);
+    }
+    s.request(1);
+    assertEquals(100, s.values.size());
+    assertTrue(s.complete);
+    assertNull(s.error);
+  }
+
+  // -------------------------------------------------------------------------
+  // R2DBC driver stub
+  // -------------------------------------------------------------------------
+  private final AtomicLong rowsRequested = new AtomicLong();
+
+  private DSLContext ctx(Settings settings, int rows) {
+    RowMetadata meta =
+        proxy(
+            RowMetadata.class,
+            (p, m, a) ->
+                m.getName().equals("getColumnNames") ? Collections.singletonList("x") : null);
+    InvocationHandler result =
+        (p, m, a) -> {
+          if (m.getName().equals("getRowsUpdated")) return just(Collections.singletonList(1));
+          if (m.getName().equals("map")) {
+            @SuppressWarnings("unchecked")
+            BiFunction<Row, RowMetadata, Object> f = (BiFunction<Row, RowMetadata, Object>) a[0];
+            List<Object> list = new ArrayList<>();
+            for (int i = 0; i < rows; i++) {
+              int value = i;
+              list.add(f.apply(proxy(Row.class, (p2, m2, a2) -> value), meta));
+            }
+            return just(list, rowsRequested);
+          }
+          return null;
+        };
+    // Like in R2DBC drivers, every add() call terminates a bind set
+    AtomicInteger results = new AtomicInteger();
+    Statement[] statement = new Statement[1];
+    statement[0] =
+        proxy(
+            Statement.class,
+            (p, m, a) -> {
+              if (m.getName().equals("add")) results.incrementAndGet();
+              else if (m.getName().equals("execute"))
+                return results(result, Math.max(1, results.get()));
+              return statement[0];
+            });
+    AtomicInteger queries = new AtomicInteger();
+    Batch[] batch = new Batch[1];
+    batch[0] =
+        proxy(
+            Batch.class,
+            (p, m, a) -> {
+              if (m.getName().equals("add")) queries.incrementAndGet();
+              else if (m.getName().equals("execute")) return results(result, queries.get());
+              return batch[0];
+            });
+    Connection connection =
+        proxy(
+            Connection.class,
+            (p, m, a) -> {
+              switch (m.getName()) {
+                case "createStatement":
+                  return statement[0];
+                case "createBatch":
+                  return batch[0];
+                case "close":
+                  return just(Collections.emptyList());
+                default:
+                  return null;
+              }
+            });
+    ConnectionFactory cf =
+        proxy(
+            ConnectionFactory.class,
+            (p, m, a) ->
+                m.getName().equals("create")
+                    ? just(Collections.singletonList(connection))
+                    : null);
+    return DSL.using(cf, SQLDialect.POSTGRES, settings);
+  }
+
+  private static Publisher<Result> results(InvocationHandler result, int count) {
+    return just(Collections.nCopies(count, proxy(Result.class, result)));
+  }
+
+  private static <T> T proxy(Class<T> type, InvocationHandler handler) {
+    return type.cast(
+        Proxy.newProxyInstance(R2DBCTest.class.getClassLoader(), new Class[] {type}, handler));
+  }
+
+  private static <T> Publisher<T> just(List<? extends T> values) {
+    return just(values, new AtomicLong());
+  }
+
+  /** A publisher that emits its values according to demand, recording the requested demand. */
+  private static <T> Publisher<T> just(List<? extends T> values, AtomicLong requested) {
+    return s ->
+        s.onSubscribe(
+            new Subscription() {
+              long demand;
+
+              int next;
+
+              boolean emitting;
+
+              boolean done;
+
+              @Override
+              public void request(long n) {
+                requested.addAndGet(n);
+                demand += n;
+                if (emitting) return;
+                emitting = true;
+                while (demand > 0 && !done && next < values.size()) {
+                  demand--;
+                  s.onNext(values.get(next++));
+                }
+                emitting = false;
+                if (next == values.size() && !done) {
+                  done = true;
+                  s.onComplete();
+                }
+              }
+
+              @Override
+              public void cancel() {
+                done = true;
+              }
+            });
+  }
+
+  /** A subscriber that requests a fixed number of elements at a time. */
+  private static final class TestSubscriber<T> implements Subscriber<T> {
+
+    final int batch;
+
+    final List<T> values = new ArrayList<>();
+
+    Subscription subscription;
+
+    int pending;
+
+    boolean complete;
+
+    Throwable error;
+
+    TestSubscriber(int batch) {
+      this.batch = batch;
+    }
+
+    void request(long n) {
+      subscription.request(n);
+    }
+
+    @Override
+    public void onSubscribe(Subscription s) {
+      subscription = s;
+      if (batch > 0) {
+        pending = batch;
+        s.request(batch);
+      }
+    }
+
+    @Override
+    public void onNext(T t) {
+      values.add(t);
+      if (batch > 0 && --pending == 0) {
+        pending = batch;
+        subscription.request(batch);
+      }
+    }
+
+    @Override
+    public void onError(Throwable t) {
+      error = t;
+    }
+
+    @Override
+    public void onComplete() {
+      complete = true;
+    }
+
+    void assertComplete(List<T> expected) {
+      assertNull(error);
+      assertEquals(expected, values);
+      assertTrue("Publisher did not complete", complete);
+    }
+  }
+}